@@ -0,0 +1,129 @@
+package com.modive.rewardservice.controller;
+
+import com.modive.rewardservice.RewardServiceApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액/내역 조회 부하 비교: JPA(blocking) vs R2DBC(reactive)
+ * 같은 H2 DB를 JDBC와 R2DBC가 함께 바라보게 띄우고, Tomcat 스레드를 8개로 줄인 상태에서
+ * 64개 클라이언트 스레드(-t로 변경)가 폴링하듯 조회한다. blocking은 X-Blocking-Read 헤더로 기존 경로를 탄다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ReactiveReadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class ReactiveReadBenchmark {
+
+    private static final int USERS = 200;
+    private static final int REWARDS_PER_USER = 30;
+
+    @Param({"blocking", "reactive"})
+    public String read;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException, InterruptedException {
+        String database = "bench-read-" + read;
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("server.tomcat.threads.max", 8);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("reward.reactive-read.enabled", true);
+        properties.put("reward.reactive-read.url", "r2dbc:h2:mem:///" + database + "?options=DB_CLOSE_DELAY=-1");
+        properties.put("reward.reactive-read.username", "sa");
+        properties.put("service.user.url", "http://127.0.0.1:9");
+        properties.put("logging.level.root", "WARN");
+        properties.put("reward.bulkhead.user.statement-timeout", 60);
+
+        context = new SpringApplicationBuilder(RewardServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(properties)
+                .run();
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://127.0.0.1:" + port;
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int balance() throws IOException, InterruptedException {
+        return send(get("/reward/users/balance"));
+    }
+
+    @Benchmark
+    public int history() throws IOException, InterruptedException {
+        return send(get("/reward/users/history?page=0&size=10"));
+    }
+
+    private HttpRequest get(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-USER-ID", "user" + ThreadLocalRandom.current().nextInt(USERS))
+                .GET();
+        if ("blocking".equals(read)) {
+            builder.header(ReactiveRewardQueryController.BLOCKING_READ_HEADER, "true");
+        }
+        return builder.build();
+    }
+
+    /**
+     * 적립 API로 사용자별 잔액과 내역을 채운다.
+     */
+    private void seed() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int user = 0; user < USERS; user++) {
+            for (int i = 0; i < REWARDS_PER_USER; i++) {
+                String body = """
+                        {"driveId":"drive-%d-%d","score":%d,"주행 시간":%d,
+                         "lastScore":{"carbon":40,"safety":60,"accident":70,"focus":30},
+                         "currentScore":{"carbon":%d,"safety":60,"accident":70,"focus":55}}
+                        """.formatted(user, i, random.nextInt(40, 101), random.nextInt(5, 120), random.nextInt(30, 90));
+                send(HttpRequest.newBuilder(URI.create(baseUrl + "/reward/earn"))
+                        .header("X-USER-ID", "user" + user)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build());
+            }
+        }
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status >= 400) {
+            throw new IllegalStateException(request.uri() + " returned " + status);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,134 @@
+package com.modive.rewardservice.controller;
+
+import com.modive.rewardservice.RewardServiceApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 처리량 벤치마크: 플랫폼 스레드 vs 가상 스레드 (spring.threads.virtual.enabled)
+ * H2 위에 애플리케이션을 띄우고 32개 클라이언트 스레드(-t로 변경)로 /reward/earn, /reward/users/balance를 호출한다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RequestThroughputBenchmark
+ * 고정(pinning) 진단: 포크마다 JFR 기록(build/results/jmh/request-throughput-<pid>.jfr)을 남기고,
+ * 가상 스레드가 캐리어에 고정된 채 블로킹하면 jdk.tracePinnedThreads 스택이 출력된다.
+ *   jfr print --events jdk.VirtualThreadPinned build/results/jmh/request-throughput-<pid>.jfr
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+@Fork(value = 1, jvmArgsAppend = {
+        "-Djdk.tracePinnedThreads=short",
+        "-XX:StartFlightRecording=filename=build/results/jmh/request-throughput-%p.jfr,settings=profile"})
+public class RequestThroughputBenchmark {
+
+    private static final int USERS_PER_CLIENT = 16;
+    private static final AtomicInteger CLIENTS = new AtomicInteger();
+
+    /**
+     * 클라이언트 스레드별 사용자 묶음
+     * 같은 사용자의 적립이 동시에 들어오면 잔액 낙관적 락 충돌이 나므로 스레드끼리 사용자를 나눈다.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        private final int id = CLIENTS.getAndIncrement();
+
+        String nextUser() {
+            return "client" + id + "-user" + ThreadLocalRandom.current().nextInt(USERS_PER_CLIENT);
+        }
+    }
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI earnUri;
+    private URI balanceUri;
+
+    @Setup(Level.Trial)
+    public void start() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.threads.virtual.enabled", "virtual".equals(threads));
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:bench-" + threads + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.database-platform", "org.hibernate.dialect.H2Dialect");
+        properties.put("service.user.url", "http://127.0.0.1:9");
+        properties.put("logging.level.root", "WARN");
+        // 처리량 비교가 목적이므로 트랜잭션 타임아웃이나 사용자별 적립 제한(429)으로 요청이 끊기지 않게 한다
+        properties.put("reward.bulkhead.user.statement-timeout", 60);
+        properties.put("reward.rate-limit.earn.enabled", false);
+
+        context = new SpringApplicationBuilder(RewardServiceApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(properties)
+                .run();
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        earnUri = URI.create("http://127.0.0.1:" + port + "/reward/earn");
+        balanceUri = URI.create("http://127.0.0.1:" + port + "/reward/users/balance");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int earn(Client client) throws IOException, InterruptedException {
+        return send(earnRequest(client.nextUser(), ThreadLocalRandom.current()));
+    }
+
+    @Benchmark
+    public int balance(Client client) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(balanceUri)
+                .header("X-USER-ID", client.nextUser())
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    private HttpRequest earnRequest(String userId, ThreadLocalRandom random) {
+        String body = """
+                {"driveId":"drive-%d","score":%d,"주행 시간":%d,
+                 "lastScore":{"carbon":40,"safety":60,"accident":70,"focus":30},
+                 "currentScore":{"carbon":%d,"safety":60,"accident":70,"focus":55}}
+                """.formatted(random.nextLong(), random.nextInt(40, 101), random.nextInt(5, 120),
+                random.nextInt(30, 90));
+        return HttpRequest.newBuilder(earnUri)
+                .header("X-USER-ID", userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status >= 400) {
+            throw new IllegalStateException(request.uri() + " returned " + status);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,68 @@
+package com.modive.rewardservice.domain;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RewardReason.fromDescription 조회 벤치마크
+ * 관리자 내역/통계 매핑 루프에서 행마다 호출된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RewardReasonBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private final String[] descriptions = {
+            "종합점수", "이벤트미발생", "MoBTI향상", "기타"
+    };
+    private final String[] rows = new String[ROWS];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            // DB에서 읽어온 값처럼 매번 다른 String 인스턴스 사용
+            rows[i] = new String(descriptions[i % descriptions.length]);
+        }
+    }
+
+    @Benchmark
+    public RewardReason fromDescription() {
+        index = (index + 1) & 3;
+        return RewardReason.fromDescription(descriptions[index]);
+    }
+
+    /**
+     * 1000행 내보내기 매핑 루프 (사유 조회 부분)
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int mappingLoop_1000Rows() {
+        int sum = 0;
+        for (String row : rows) {
+            sum += RewardReason.fromDescription(row).getCode();
+        }
+        return sum;
+    }
+
+    /**
+     * 기존 stream 스캔 방식 (비교 기준)
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int mappingLoop_1000Rows_streamScan() {
+        int sum = 0;
+        for (String row : rows) {
+            sum += Arrays.stream(RewardReason.values())
+                    .filter(r -> r.getLabel().equals(row))
+                    .findFirst()
+                    .orElse(RewardReason.UNKNOWN)
+                    .getCode();
+        }
+        return sum;
+    }
+}
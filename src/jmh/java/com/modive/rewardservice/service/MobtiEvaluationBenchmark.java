@@ -0,0 +1,115 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.MobtiType;
+import com.modive.rewardservice.dto.request.ScoreInfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MoBTI 판정 벤치마크
+ * 기존 문자열 기반 구현과 비트마스크 구현(MobtiEvaluator, MobtiType) 비교
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MobtiEvaluationBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final ScoreInfo[] lastScores = new ScoreInfo[SIZE];
+    private final ScoreInfo[] currentScores = new ScoreInfo[SIZE];
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            lastScores[i] = randomScore(random);
+            currentScores[i] = randomScore(random);
+        }
+    }
+
+    @Benchmark
+    public void determineMbtiType_string(Blackhole bh) {
+        bh.consume(determineMbtiTypeString(nextCurrent()));
+    }
+
+    @Benchmark
+    public void determineMbtiType_bitmask(Blackhole bh) {
+        bh.consume(MobtiEvaluator.evaluate(nextCurrent()));
+    }
+
+    @Benchmark
+    public boolean isMbtiImproved_string() {
+        int i = next();
+        String last = determineMbtiTypeString(lastScores[i]);
+        String current = determineMbtiTypeString(currentScores[i]);
+        return isMbtiImprovedString(last, current);
+    }
+
+    @Benchmark
+    public boolean isMbtiImproved_bitmask() {
+        int i = next();
+        MobtiType current = MobtiEvaluator.evaluate(currentScores[i]);
+        return current != null && current.isImprovedFrom(MobtiEvaluator.evaluate(lastScores[i]));
+    }
+
+    private ScoreInfo nextCurrent() {
+        return currentScores[next()];
+    }
+
+    private int next() {
+        index = (index + 1) & (SIZE - 1);
+        return index;
+    }
+
+    // ===== 기존 문자열 기반 구현 (비교 기준) =====
+
+    private static String determineMbtiTypeString(ScoreInfo score) {
+        if (score == null) return null;
+
+        String eco = score.getCarbon() != null && score.getCarbon() >= 51 ? "E" : "H";
+        String safety = score.getSafety() != null && score.getSafety() >= 51 ? "D" : "A";
+        String accident = score.getAccident() != null && score.getAccident() >= 51 ? "S" : "I";
+        String focus = score.getFocus() != null && score.getFocus() >= 51 ? "F" : "U";
+
+        return eco + safety + accident + focus;
+    }
+
+    private static boolean isMbtiImprovedString(String lastMbti, String currentMbti) {
+        if (lastMbti == null || currentMbti == null || lastMbti.equals(currentMbti)) {
+            return false;
+        }
+
+        char[] lastChars = lastMbti.toCharArray();
+        char[] currentChars = currentMbti.toCharArray();
+        for (int i = 0; i < 4; i++) {
+            if (isImprovedAtPosition(lastChars[i], currentChars[i], i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isImprovedAtPosition(char lastChar, char currentChar, int position) {
+        return switch (position) {
+            case 0 -> lastChar == 'H' && currentChar == 'E';
+            case 1 -> lastChar == 'A' && currentChar == 'D';
+            case 2 -> lastChar == 'I' && currentChar == 'S';
+            case 3 -> lastChar == 'U' && currentChar == 'F';
+            default -> false;
+        };
+    }
+
+    private static ScoreInfo randomScore(Random random) {
+        return ScoreInfo.builder()
+                .carbon(random.nextInt(101))
+                .safety(random.nextInt(101))
+                .accident(random.nextInt(101))
+                .focus(random.nextInt(101))
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.modive.rewardservice.service.rule;
+
+import com.modive.rewardservice.domain.MobtiType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적립 규칙 평가 벤치마크
+ * 요청당 규칙 평가(컨텍스트 생성 + 계획 1회 순회)가 1µs 미만인지 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RewardRuleEngineBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final int[] drivingTimes = new int[SIZE];
+    private final int[] scores = new int[SIZE];
+    private final MobtiType[] lastTypes = new MobtiType[SIZE];
+    private final MobtiType[] currentTypes = new MobtiType[SIZE];
+    private final RewardRuleContext[] contexts = new RewardRuleContext[SIZE];
+
+    private RewardRulePlan plan;
+    private ScoreTierRule scoreTierRule;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        RewardRuleEngine engine = new RewardRuleEngine(new RewardRuleProperties(), List.of(
+                new DrivingTimeRule.Provider(), new ScoreTierRule.Provider(), new MobtiImprovementRule.Provider()));
+        plan = engine.getPlan();
+        scoreTierRule = (ScoreTierRule) plan.getRule(1);
+
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            drivingTimes[i] = random.nextInt(120);
+            scores[i] = random.nextInt(101);
+            lastTypes[i] = MobtiType.of(random.nextInt(16));
+            currentTypes[i] = MobtiType.of(random.nextInt(16));
+            contexts[i] = RewardRuleContext.of(drivingTimes[i], scores[i], lastTypes[i], currentTypes[i]);
+        }
+    }
+
+    /**
+     * 점수 구간 규칙 단독 평가 (기존 calculateScoreReward 대응)
+     */
+    @Benchmark
+    public long scoreTierRule() {
+        return scoreTierRule.evaluate(contexts[next()]);
+    }
+
+    /**
+     * 컴파일된 계획 평가
+     */
+    @Benchmark
+    public long[] evaluatePlan() {
+        return plan.evaluate(contexts[next()]);
+    }
+
+    /**
+     * 요청 1건 처리와 동일: 컨텍스트 생성 + 계획 평가
+     */
+    @Benchmark
+    public long[] buildContextAndEvaluate() {
+        int i = next();
+        return plan.evaluate(RewardRuleContext.of(drivingTimes[i], scores[i], lastTypes[i], currentTypes[i]));
+    }
+
+    private int next() {
+        index = (index + 1) & (SIZE - 1);
+        return index;
+    }
+}
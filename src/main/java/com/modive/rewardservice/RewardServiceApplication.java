@@ -2,11 +2,14 @@ package com.modive.rewardservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
 
+// R2DBC는 리액티브 조회 경로(ReactiveReadConfig)에서만 직접 구성한다
 @EnableFeignClients(basePackages = "com.modive.rewardservice.client")
-@SpringBootApplication
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 @ComponentScan(basePackages = {"com.modive.rewardservice", "com.modive.common"})
 public class RewardServiceApplication {
 
@@ -0,0 +1,135 @@
+package com.modive.rewardservice.client;
+
+import com.modive.rewardservice.exception.UserServiceUnavailableException;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 장애 격리된 UserClient
+ * Feign 호출을 벌크헤드(동시 호출 수 제한)와 서킷 브레이커로 감싸
+ * user-service가 느려져도 요청 스레드가 묶이지 않도록 한다.
+ * 차단된 호출은 UserServiceUnavailableException(503)으로 변환된다.
+ *
+ * 메트릭: reward.user.client.requests{method, outcome},
+ * resilience4j.circuitbreaker.* / resilience4j.bulkhead.* {name=user-service}
+ */
+@Primary
+@Component
+public class ResilientUserClient implements UserClient {
+
+    static final String NAME = "user-service";
+    static final String METRIC = "reward.user.client.requests";
+
+    private final UserClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+
+    public ResilientUserClient(@Qualifier(UserClient.FEIGN_QUALIFIER) UserClient delegate,
+                               UserClientProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+
+        CircuitBreakerRegistry circuitBreakerRegistry =
+                CircuitBreakerRegistry.of(circuitBreakerConfig(properties.getCircuitBreaker()));
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig(properties.getBulkhead()));
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    @Override
+    public String getUserIdByEmail(String email) {
+        return call("getUserIdByEmail", () -> delegate.getUserIdByEmail(email));
+    }
+
+    @Override
+    public String getEmailByUserId(String userId) {
+        return call("getEmailByUserId", () -> delegate.getEmailByUserId(userId));
+    }
+
+    @Override
+    public Map<String, String> getEmailsByUserIds(List<String> userIds) {
+        return call("getEmailsByUserIds", () -> delegate.getEmailsByUserIds(userIds));
+    }
+
+    @Override
+    public boolean existsById(String userId) {
+        return call("existsById", () -> delegate.existsById(userId));
+    }
+
+    CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    private <T> T call(String method, Supplier<T> supplier) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, supplier));
+        } catch (CallNotPermittedException e) {
+            outcome = "short_circuited";
+            throw new UserServiceUnavailableException("user-service circuit breaker is open", e);
+        } catch (BulkheadFullException e) {
+            outcome = "rejected";
+            throw new UserServiceUnavailableException("user-service bulkhead is full", e);
+        } catch (RuntimeException e) {
+            outcome = isClientError(e) ? "client_error" : "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 4xx(없는 사용자 등)는 user-service 장애가 아니므로 서킷 실패로 세지 않는다.
+     */
+    private static boolean isClientError(Throwable e) {
+        return e instanceof FeignException fe && fe.status() >= 400 && fe.status() < 500;
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig(UserClientProperties.CircuitBreaker properties) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedNumberOfCallsInHalfOpenState())
+                .recordException(e -> !isClientError(e))
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+    }
+
+    private static BulkheadConfig bulkheadConfig(UserClientProperties.Bulkhead properties) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxWait())
+                .build();
+    }
+}
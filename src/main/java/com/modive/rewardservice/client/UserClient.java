@@ -3,9 +3,21 @@ package com.modive.rewardservice.client;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
-@FeignClient(name = "user-service", url = "${service.user.url}")
+import java.util.List;
+import java.util.Map;
+
+/**
+ * user-service Feign 클라이언트
+ * 직접 주입하지 말고 ResilientUserClient(@Primary)를 통해 호출한다.
+ */
+@FeignClient(name = "user-service", url = "${service.user.url}",
+        configuration = UserClientFeignConfig.class,
+        qualifiers = UserClient.FEIGN_QUALIFIER,
+        primary = false)
 public interface UserClient {
 
+    String FEIGN_QUALIFIER = "userServiceFeignClient";
+
     /**
      * 이메일로 사용자 ID 조회
      * @param email 사용자 이메일
@@ -24,6 +36,18 @@ public interface UserClient {
     @GetMapping("/users/{userId}/email")
     String getEmailByUserId(@PathVariable("userId") String userId);
 
+    /**
+     * 사용자 ID 목록으로 이메일 일괄 조회
+     * user-service에 새로 필요한 엔드포인트다. 배포 전에는 호출하지 않도록
+     * reward.user-client.bulk-emails-enabled=false(기본값)로 둔다.
+     * - 요청: POST /users/emails, 본문은 사용자 ID JSON 배열 (최대 reward.user-cache.batch-size개)
+     * - 응답: 200, {"userId": "email", ...} JSON 객체 (없는 사용자는 빠진다, 전부 없으면 {})
+     * @param userIds 사용자 ID 목록
+     * @return userId → email (없는 사용자는 제외)
+     */
+    @PostMapping("/users/emails")
+    Map<String, String> getEmailsByUserIds(@RequestBody List<String> userIds);
+
     /**
      * 사용자 존재 여부 확인
      * @param userId 사용자 ID
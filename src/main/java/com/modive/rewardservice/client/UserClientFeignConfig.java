@@ -0,0 +1,44 @@
+package com.modive.rewardservice.client;
+
+import feign.Request;
+import org.springframework.context.annotation.Bean;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * UserClient 전용 Feign 설정
+ * 전역 Feign 설정에 섞이지 않도록 @Configuration 없이 @FeignClient(configuration)으로만 등록한다.
+ */
+public class UserClientFeignConfig {
+
+    @Bean
+    public Request.Options userClientOptions(UserClientProperties properties) {
+        return options(properties);
+    }
+
+    /**
+     * 기본 타임아웃 + 메서드별 타임아웃 (Feign은 메서드 이름으로 조회)
+     */
+    public static Request.Options options(UserClientProperties properties) {
+        Request.Options options = new Request.Options(
+                properties.getConnectTimeout(), properties.getReadTimeout(), true);
+        Set<String> methodNames = Arrays.stream(UserClient.class.getMethods())
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+        properties.getMethods().forEach((method, timeout) -> {
+            if (!methodNames.contains(method)) {
+                throw new IllegalArgumentException("Unknown UserClient method: " + method);
+            }
+            Duration connect = timeout.getConnectTimeout() != null
+                    ? timeout.getConnectTimeout() : properties.getConnectTimeout();
+            Duration read = timeout.getReadTimeout() != null
+                    ? timeout.getReadTimeout() : properties.getReadTimeout();
+            options.setMethodOptions(method, new Request.Options(connect, read, true));
+        });
+        return options;
+    }
+}
@@ -0,0 +1,68 @@
+package com.modive.rewardservice.client;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * user-service 호출 설정 (reward.user-client)
+ * 타임아웃은 메서드 이름 단위로 덮어쓸 수 있다.
+ * 예) reward.user-client.methods.getEmailsByUserIds.read-timeout=3s
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reward.user-client")
+public class UserClientProperties {
+
+    private Duration connectTimeout = Duration.ofMillis(500);
+    private Duration readTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 이메일 일괄 조회(POST /users/emails) 사용 여부
+     * user-service에 엔드포인트가 배포되기 전에는 false로 두고 사용자별 단건 조회(GET /users/{userId}/email)를 쓴다.
+     */
+    private boolean bulkEmailsEnabled = false;
+
+    /** UserClient 메서드 이름 → 타임아웃 */
+    private Map<String, Timeout> methods = new HashMap<>();
+
+    private Bulkhead bulkhead = new Bulkhead();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Timeout {
+        /** 비어 있으면 기본값 사용 */
+        private Duration connectTimeout;
+        private Duration readTimeout;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Bulkhead {
+        /** 동시에 user-service를 호출할 수 있는 요청 스레드 수 */
+        private int maxConcurrentCalls = 20;
+        /** 자리가 없을 때 기다리는 시간 (0이면 즉시 거절) */
+        private Duration maxWait = Duration.ZERO;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 100;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(1);
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedNumberOfCallsInHalfOpenState = 3;
+    }
+}
@@ -0,0 +1,77 @@
+package com.modive.rewardservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리
+ * - reward-write: spring.datasource (+ spring.datasource.hikari), 적립 등 쓰기 트랜잭션
+ * - reward-read : reward.datasource.read (+ reward.datasource.read.hikari), readOnly 트랜잭션
+ *   url이 없으면 primary로 연결하되 풀은 따로 두어 관리자 집계가 쓰기 풀 커넥션을 가져가지 못하게 한다.
+ * 풀별 메트릭은 hikaricp.connections.*{pool=reward-write|reward-read}로 노출된다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadDataSourceProperties.class)
+public class DataSourceConfig {
+
+    static final String WRITE_POOL = "reward-write";
+    static final String READ_POOL = "reward-read";
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(WRITE_POOL);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties(prefix = "reward.datasource.read.hikari")
+    public HikariDataSource readDataSource(DataSourceProperties properties, ReadDataSourceProperties read) {
+        HikariDataSource dataSource = DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(StringUtils.hasText(read.getUrl()) ? read.getUrl() : properties.determineUrl())
+                .username(read.getUsername() != null ? read.getUsername() : properties.determineUsername())
+                .password(read.getPassword() != null ? read.getPassword() : properties.determinePassword())
+                .build();
+        dataSource.setPoolName(READ_POOL);
+        // primary로 fallback 되어도 읽기 풀에서는 쓰기가 일어나지 않도록
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource) {
+        return routingDataSource(writeDataSource, readDataSource);
+    }
+
+    /**
+     * 트랜잭션의 readOnly 여부가 정해진 뒤(첫 쿼리 시점) 커넥션을 고르도록 지연 프록시로 감싼다.
+     */
+    static DataSource routingDataSource(DataSource writeDataSource, DataSource readDataSource) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.WRITE, writeDataSource,
+                ReadWriteRoutingDataSource.Route.READ, readDataSource));
+        routing.setDefaultTargetDataSource(writeDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
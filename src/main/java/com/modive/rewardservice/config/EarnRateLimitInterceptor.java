@@ -0,0 +1,80 @@
+package com.modive.rewardservice.config;
+
+import com.modive.rewardservice.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 적립(POST /reward/earn) 사용자별 토큰 버킷 제한
+ * 적립 한 건은 일일 한도를 확인하기 전에 여러 번 DB를 조회하므로, 같은 사용자가 몰아서 호출하면
+ * 동시 처리 한도(bulkhead)와 DB 조회 전에 메모리에서 바로 429(Retry-After)로 거절한다.
+ * X-USER-ID 헤더가 없으면 통과시키고 UserIdInterceptor가 거절한다. 인스턴스별로 따로 센다.
+ *
+ * 메트릭: reward.rate-limit.rejected / reward.rate-limit.tracked-users {endpoint=earn}
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(EarnRateLimitProperties.class)
+public class EarnRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String ENDPOINT = "earn";
+
+    private final UserTokenBuckets buckets;
+    private final boolean enabled;
+    private final LongSupplier nanoTime;
+    private final Counter rejected;
+
+    @Autowired
+    public EarnRateLimitInterceptor(EarnRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    EarnRateLimitInterceptor(EarnRateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.buckets = new UserTokenBuckets(properties.getStripes(), properties.getMaxUsers(),
+                properties.getCapacity(), properties.getRefillPerMinute());
+        this.enabled = properties.isEnabled();
+        this.nanoTime = nanoTime;
+        this.rejected = Counter.builder("reward.rate-limit.rejected")
+                .tag("endpoint", ENDPOINT)
+                .description("Requests rejected by the per-user token bucket")
+                .register(meterRegistry);
+        Gauge.builder("reward.rate-limit.tracked-users", buckets, UserTokenBuckets::size)
+                .tag("endpoint", ENDPOINT)
+                .description("Users with a partially used token bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String userId = request.getHeader(UserIdInterceptor.USER_ID_HEADER);
+        if (!enabled || userId == null || userId.isEmpty()) {
+            return true;
+        }
+        long waitNanos = buckets.tryAcquire(userId, nanoTime.getAsLong());
+        if (waitNanos > 0) {
+            rejected.increment();
+            throw new RateLimitExceededException(ENDPOINT, TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1);
+        }
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${reward.rate-limit.earn.sweep-interval:PT1M}")
+    public void sweep() {
+        int removed = buckets.sweep(nanoTime.getAsLong());
+        if (removed > 0) {
+            log.debug("Evicted {} idle earn rate limit buckets", removed);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.modive.rewardservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 적립 요청 사용자별 토큰 버킷 (reward.rate-limit.earn)
+ * 사용자마다 capacity개까지 모아 두고 분당 refill-per-minute개씩 채운다. 토큰이 없으면 429
+ * 추적하는 사용자는 max-users명까지, 다 찬(쉬고 있는) 버킷은 sweep-interval마다 비운다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reward.rate-limit.earn")
+public class EarnRateLimitProperties {
+
+    private boolean enabled = true;
+    private int capacity = 10;
+    private double refillPerMinute = 12;
+    private int maxUsers = 100_000;
+    private int stripes = 64;
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,52 @@
+package com.modive.rewardservice.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+/**
+ * 잔액/내역 리액티브 조회용 R2DBC 커넥션 풀 (reward.reactive-read.enabled=true 일 때만)
+ * 쓰기와 JPA 조회는 그대로 JDBC 풀을 사용한다.
+ * 풀 사용량은 actuator의 r2dbc.pool.* 메트릭으로 노출된다.
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+@ConditionalOnProperty(name = "reward.reactive-read.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    static final String POOL_NAME = "reward-reactive-read";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool reactiveReadConnectionFactory(ReactiveReadProperties properties) {
+        if (!StringUtils.hasText(properties.getUrl())) {
+            throw new IllegalStateException("reward.reactive-read.url must be set when reactive read is enabled");
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate();
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(POOL_NAME)
+                .initialSize(1)
+                .maxSize(properties.getMaxSize())
+                .maxAcquireTime(properties.getMaxAcquireTime())
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient reactiveReadDatabaseClient(ConnectionPool reactiveReadConnectionFactory) {
+        return DatabaseClient.create(reactiveReadConnectionFactory);
+    }
+}
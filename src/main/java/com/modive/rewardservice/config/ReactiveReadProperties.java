@@ -0,0 +1,25 @@
+package com.modive.rewardservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 리액티브 조회 경로 설정 (reward.reactive-read)
+ * url은 R2DBC 형식 (예: r2dbc:mysql://replica:3306/modive)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reward.reactive-read")
+public class ReactiveReadProperties {
+
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    // 커넥션 풀 크기 (요청 스레드를 잡지 않으므로 작게 유지)
+    private int maxSize = 4;
+    private Duration maxAcquireTime = Duration.ofSeconds(3);
+}
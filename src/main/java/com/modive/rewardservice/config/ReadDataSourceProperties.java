@@ -0,0 +1,19 @@
+package com.modive.rewardservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기(레플리카) 접속 정보 (reward.datasource.read)
+ * 비어 있는 항목은 spring.datasource 값을 사용한다. 풀 설정은 reward.datasource.read.hikari
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reward.datasource.read")
+public class ReadDataSourceProperties {
+
+    private String url;
+    private String username;
+    private String password;
+}
@@ -0,0 +1,33 @@
+package com.modive.rewardservice.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * 복구 모드(reward.recovery.enabled=true)는 웹 서버 없이 띄운다
+ * 내역 재생 중 들어온 요청의 잔액 변경은 복구가 덮어쓰므로 Tomcat을 열지 않는다 (스케줄 작업은 SchedulingConfig에서 끈다).
+ * application.yml/프로필 설정을 읽은 뒤에 판단하도록 ConfigData 다음 순서로 돈다.
+ */
+public class RecoveryModeEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    static final String PROPERTY_SOURCE_NAME = "rewardRecoveryMode";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty("reward.recovery.enabled", Boolean.class, false)) {
+            environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME,
+                    Map.of("spring.main.web-application-type", "none")));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+}
@@ -0,0 +1,136 @@
+package com.modive.rewardservice.config;
+
+import com.modive.rewardservice.controller.AdminRewardController;
+import com.modive.rewardservice.controller.ReservationController;
+import com.modive.rewardservice.controller.RewardController;
+import com.modive.rewardservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 API와 사용자 API의 동시 처리 수를 분리하는 인터셉터
+ * 두 컨트롤러가 같은 Tomcat 스레드 풀을 쓰므로, 무거운 관리자 집계가 몰려도
+ * 적립/잔액/예약 요청이 처리될 자리를 남겨 두도록 그룹별 세마포어로 제한한다.
+ * - admin: 한도 초과 시 503 (ServiceOverloadedException)
+ * - user : 한도 초과 시 자리가 날 때까지 대기
+ * 비동기 응답(시뮬레이션 스트리밍)은 응답이 끝날 때까지 자리를 점유한다.
+ * 리액티브 조회(ReactiveRewardQueryController)는 스레드를 잡지 않으므로 제외하고 R2DBC 풀 크기로만 제한한다.
+ * 실시간 발급 현황(IssuanceMonitorController)도 DB를 쓰지 않고 SSE 연결이 길어 제외한다 (구독자 수는 자체 제한).
+ *
+ * 메트릭: reward.bulkhead.active / rejected / wait {group=admin|user}
+ */
+@Component
+@EnableConfigurationProperties(RequestBulkheadProperties.class)
+public class RequestBulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = RequestBulkheadInterceptor.class.getName() + ".PERMIT";
+
+    private final GroupBulkhead admin;
+    private final GroupBulkhead user;
+
+    public RequestBulkheadInterceptor(RequestBulkheadProperties properties, MeterRegistry meterRegistry) {
+        this.admin = new GroupBulkhead("admin", properties.getAdmin(), true, meterRegistry);
+        this.user = new GroupBulkhead("user", properties.getUser(), false, meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 재디스패치에서는 이미 자리를 잡고 있다
+        if (!(handler instanceof HandlerMethod handlerMethod) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        GroupBulkhead bulkhead = bulkheadFor(handlerMethod.getBeanType());
+        if (bulkhead != null) {
+            bulkhead.acquire();
+            request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof GroupBulkhead bulkhead) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            bulkhead.release();
+        }
+    }
+
+    private GroupBulkhead bulkheadFor(Class<?> beanType) {
+        if (AdminRewardController.class.isAssignableFrom(beanType)) {
+            return admin;
+        }
+        if (RewardController.class.isAssignableFrom(beanType) || ReservationController.class.isAssignableFrom(beanType)) {
+            return user;
+        }
+        return null;
+    }
+
+    private static final class GroupBulkhead {
+
+        private final String name;
+        private final Semaphore semaphore;
+        private final Duration maxWait;
+        private final boolean rejectWhenFull;
+        private final Counter rejected;
+        private final Timer wait;
+
+        GroupBulkhead(String name, RequestBulkheadProperties.Group group, boolean rejectWhenFull,
+                      MeterRegistry meterRegistry) {
+            this.name = name;
+            this.semaphore = new Semaphore(group.getMaxConcurrent(), true);
+            this.maxWait = group.getMaxWait();
+            this.rejectWhenFull = rejectWhenFull;
+            this.rejected = Counter.builder("reward.bulkhead.rejected")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            this.wait = Timer.builder("reward.bulkhead.wait")
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder("reward.bulkhead.active", semaphore, s -> group.getMaxConcurrent() - s.availablePermits())
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+
+        void acquire() {
+            long start = System.nanoTime();
+            try {
+                if (!rejectWhenFull) {
+                    semaphore.acquireUninterruptibly();
+                } else if (!tryAcquire()) {
+                    rejected.increment();
+                    throw new ServiceOverloadedException(name);
+                }
+            } finally {
+                wait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        private boolean tryAcquire() {
+            if (maxWait.isZero()) {
+                return semaphore.tryAcquire();
+            }
+            try {
+                return semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void release() {
+            semaphore.release();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.modive.rewardservice.config;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청 그룹별 동시 처리 제한 (reward.bulkhead)
+ * - admin: 관리자 통계/조회. 자리가 없으면 max-wait 후 503
+ * - user : 적립/잔액/내역. 자리가 날 때까지 대기 (거절하지 않음)
+ * 그룹별 쿼리 타임아웃은 reward.bulkhead.{admin|user}.statement-timeout (초)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reward.bulkhead")
+public class RequestBulkheadProperties {
+
+    private Group admin = new Group(4, Duration.ZERO);
+    private Group user = new Group(50, Duration.ZERO);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Group {
+        private int maxConcurrent;
+        /** admin 전용: 자리가 없을 때 기다리는 시간 */
+        private Duration maxWait = Duration.ZERO;
+
+        public Group(int maxConcurrent, Duration maxWait) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxWait = maxWait;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.modive.rewardservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업 (복구 모드에서는 끈다: 내역 재생 중 잔액을 바꾸는 작업이 돌면 복구가 덮어쓴다)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "reward.recovery.enabled", havingValue = "false", matchIfMissing = true)
+public class SchedulingConfig {
+}
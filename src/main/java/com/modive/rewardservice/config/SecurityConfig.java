@@ -1,12 +1,15 @@
 package com.modive.rewardservice.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 
+// 복구 모드(웹 서버 없음)에서는 필터 체인을 만들지 않는다
 @Configuration
+@ConditionalOnWebApplication
 public class SecurityConfig {
 
     @Bean
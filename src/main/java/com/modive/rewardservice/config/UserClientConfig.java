@@ -0,0 +1,10 @@
+package com.modive.rewardservice.config;
+
+import com.modive.rewardservice.client.UserClientProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(UserClientProperties.class)
+public class UserClientConfig {
+}
@@ -3,12 +3,19 @@ package com.modive.rewardservice.config;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * X-USER-ID 헤더를 요청 속성(userId)에 저장하는 인터셉터
+ * 값은 스레드가 아니라 요청에 묶이므로 가상 스레드/비동기 재디스패치에서도
+ * 다른 요청의 값이 남거나 섞이지 않고, 요청이 끝나면 함께 사라진다.
+ */
 @Component
 public class UserIdInterceptor implements HandlerInterceptor {
-    private static final String USER_ID_HEADER = "X-USER-ID";
-    private static final ThreadLocal<String> currentUserId = new ThreadLocal<>();
+    public static final String USER_ID_HEADER = "X-USER-ID";
+    public static final String USER_ID_ATTRIBUTE = "userId";
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
@@ -16,24 +23,17 @@ public class UserIdInterceptor implements HandlerInterceptor {
         if (userIdStr == null || userIdStr.isEmpty()) {
             throw new IllegalStateException("X-USER-ID header is required");
         }
-        try {
-            currentUserId.set(userIdStr);
-            return true;
-        } catch (NumberFormatException e) {
-            throw new IllegalStateException("Invalid X-USER-ID format");
-        }
-    }
-
-    @Override
-    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-        currentUserId.remove();
+        request.setAttribute(USER_ID_ATTRIBUTE, userIdStr);
+        return true;
     }
 
     public static String getCurrentUserId() {
-        String userId = currentUserId.get();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object userId = attributes == null
+                ? null : attributes.getAttribute(USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
         if (userId == null) {
             throw new IllegalStateException("User ID not found in current context");
         }
-        return userId;
+        return userId.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.modive.rewardservice.config;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 사용자별 토큰 버킷 표 (키 해시로 stripes개 구역을 나눠 구역마다 따로 잠근다)
+ * 버킷은 토큰 수 대신 '버킷이 가득 차는 시각' 하나로 표현한다 (GCRA, 토큰 버킷과 같은 결과를 정수 연산으로).
+ * 이미 있는 사용자는 조회와 갱신만 하므로 객체를 만들지 않는다.
+ * 구역마다 최근 사용 순서를 유지해 maxUsers/stripes명을 넘으면 가장 오래 쓰지 않은 버킷부터 버리고,
+ * sweep은 다 찬 버킷(버려도 결과가 같은 버킷)을 비운다.
+ */
+final class UserTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    // 토큰 하나가 차는 시간, 빈 버킷이 가득 차는 시간 (나노초)
+    private final long interval;
+    private final long burst;
+
+    UserTokenBuckets(int stripes, int maxUsers, int capacity, double refillPerMinute) {
+        int count = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[count];
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(Math.max(1, maxUsers / count));
+        }
+        this.interval = Math.max(1, Math.round(60_000_000_000.0 / refillPerMinute));
+        this.burst = interval * capacity;
+    }
+
+    /**
+     * 토큰 하나 사용
+     *
+     * @return 0이면 허용, 아니면 토큰이 하나 찰 때까지 남은 나노초
+     */
+    long tryAcquire(String userId, long nowNanos) {
+        Stripe stripe = stripe(userId);
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(userId);
+            if (bucket == null) {
+                bucket = new Bucket(nowNanos);
+                stripe.buckets.put(userId, bucket);
+            }
+            long next = Math.max(bucket.fullAt, nowNanos) + interval;
+            long wait = next - nowNanos - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            bucket.fullAt = next;
+            return 0;
+        }
+    }
+
+    /**
+     * 다 찬 버킷 정리
+     *
+     * @return 비운 버킷 수
+     */
+    int sweep(long nowNanos) {
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Bucket> iterator = stripe.buckets.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().fullAt - nowNanos <= 0) {
+                        iterator.remove();
+                        removed++;
+                    }
+                }
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripe(String userId) {
+        int h = userId.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class Bucket {
+        // 이 시각이 지나면 버킷이 가득 찬다 (System.nanoTime 기준)
+        private long fullAt;
+
+        private Bucket(long fullAt) {
+            this.fullAt = fullAt;
+        }
+    }
+
+    private static final class Stripe {
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxSize) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+    }
+}
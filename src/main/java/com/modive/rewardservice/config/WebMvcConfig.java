@@ -10,10 +10,20 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final UserIdInterceptor userIdInterceptor;
+    private final RequestBulkheadInterceptor requestBulkheadInterceptor;
+    private final EarnRateLimitInterceptor earnRateLimitInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(userIdInterceptor)
+        // 사용자별 적립 요청 한도 초과는 동시 처리 자리를 잡기 전에 거절
+        registry.addInterceptor(earnRateLimitInterceptor)
+                .addPathPatterns("/reward/earn");
+        // 동시 처리 한도 초과는 다른 처리 전에 거절
+        registry.addInterceptor(requestBulkheadInterceptor)
                 .addPathPatterns("/reward/**");
+        // 잔액 일괄 조회는 다른 서비스가 호출하므로 사용자 헤더가 없다
+        registry.addInterceptor(userIdInterceptor)
+                .addPathPatterns("/reward/**")
+                .excludePathPatterns("/reward/balances");
     }
 }
\ No newline at end of file
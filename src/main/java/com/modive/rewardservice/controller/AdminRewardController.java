@@ -2,23 +2,35 @@ package com.modive.rewardservice.controller;
 
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.modive.common.Response;
 import com.modive.rewardservice.dto.AdminRewardDto;
 import com.modive.rewardservice.service.AdminRewardService;
+import com.modive.rewardservice.service.BalanceReconciliationService;
+import com.modive.rewardservice.service.IssuanceAnomalyDetector;
+import com.modive.rewardservice.service.IssuanceDigestService;
+import com.modive.rewardservice.service.RewardReversalService;
+import com.modive.rewardservice.service.RewardSimulationService;
+import com.modive.rewardservice.service.rule.RewardRulePlan;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +44,11 @@ import lombok.extern.slf4j.Slf4j;
 public class AdminRewardController {
 
     private final AdminRewardService adminRewardService;
+    private final RewardSimulationService rewardSimulationService;
+    private final RewardReversalService rewardReversalService;
+    private final BalanceReconciliationService balanceReconciliationService;
+    private final IssuanceAnomalyDetector issuanceAnomalyDetector;
+    private final IssuanceDigestService issuanceDigestService;
 
     // ===== 통계 관련 API =====
 
@@ -162,4 +179,92 @@ public class AdminRewardController {
 
         return ResponseEntity.ok(Response.success(200, "운전별 씨앗 적립 내역 조회에 성공하였습니다.", response));
     }
-}
\ No newline at end of file
+
+    /**
+     * 11. POST /reward/simulate - 적립 규칙 시뮬레이션 (dry-run)
+     * 일자별 예상 발급량을 NDJSON으로 스트리밍하고 마지막 줄에 합계를 반환
+     */
+    @PostMapping(value = "/simulate", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> simulate(
+            @Valid @RequestBody AdminRewardDto.SimulationRequest request) {
+
+        request.validate(rewardSimulationService.getMaxDays());
+        RewardRulePlan plan = rewardSimulationService.compilePlan(request.getRules());
+
+        StreamingResponseBody body = out -> rewardSimulationService.simulate(
+                request.getStartDate(), request.getEndDate(), plan, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * 12. POST /reward/reversals - 부정 주행 적립 일괄 취소 (비동기)
+     * 작업 ID를 바로 반환하고 진행 상황은 GET /reward/reversals/{jobId}로 조회
+     */
+    @PostMapping("/reversals")
+    public ResponseEntity<Response<AdminRewardDto.ReversalJobResponse>> reverseDrives(
+            @Valid @RequestBody AdminRewardDto.ReversalRequest request) {
+
+        AdminRewardDto.ReversalJobResponse response = rewardReversalService.start(request.getDriveIds());
+
+        return ResponseEntity.accepted().body(Response.success(202, "주행 적립 취소 작업이 등록되었습니다.", response));
+    }
+
+    /**
+     * 13. GET /reward/reversals/{jobId} - 주행 적립 취소 진행 상황 조회
+     */
+    @GetMapping("/reversals/{jobId}")
+    public ResponseEntity<Response<AdminRewardDto.ReversalJobResponse>> getReversalJob(@PathVariable String jobId) {
+        AdminRewardDto.ReversalJobResponse response = rewardReversalService.getJob(jobId);
+
+        return ResponseEntity.ok(Response.success(200, "주행 적립 취소 진행 상황 조회에 성공했습니다.", response));
+    }
+
+    /**
+     * 14. POST /reward/reconciliations - 잔액 대사 (비동기, repair=true면 어긋난 잔액을 내역 기준으로 수정)
+     * 진행 중인 대사가 있으면 그 작업을 반환
+     */
+    @PostMapping("/reconciliations")
+    public ResponseEntity<Response<AdminRewardDto.ReconciliationResponse>> reconcileBalances(
+            @RequestParam(value = "repair", defaultValue = "false") boolean repair) {
+
+        AdminRewardDto.ReconciliationResponse response = balanceReconciliationService.start(repair);
+
+        return ResponseEntity.accepted().body(Response.success(202, "잔액 대사 작업이 등록되었습니다.", response));
+    }
+
+    /**
+     * 15. GET /reward/reconciliations/{jobId} - 잔액 대사 진행 상황과 불일치 보고서 조회
+     */
+    @GetMapping("/reconciliations/{jobId}")
+    public ResponseEntity<Response<AdminRewardDto.ReconciliationResponse>> getReconciliation(
+            @PathVariable String jobId) {
+        AdminRewardDto.ReconciliationResponse response = balanceReconciliationService.getJob(jobId);
+
+        return ResponseEntity.ok(Response.success(200, "잔액 대사 결과 조회에 성공했습니다.", response));
+    }
+
+    /**
+     * 16. GET /reward/anomalies - 적립 이상 탐지 사용자 조회 (이 인스턴스 기준)
+     */
+    @GetMapping("/anomalies")
+    public ResponseEntity<Response<AdminRewardDto.AnomalyResponse>> getAnomalies() {
+        AdminRewardDto.AnomalyResponse response = issuanceAnomalyDetector.getFlagged();
+
+        return ResponseEntity.ok(Response.success(200, "적립 이상 탐지 사용자 조회에 성공했습니다.", response));
+    }
+
+    /**
+     * 17. GET /reward/stats/per-user/quantiles - 월 사용자별 적립 합계 분위수 (예: ?month=2025-06&q=0.5,0.9,0.99)
+     */
+    @GetMapping("/stats/per-user/quantiles")
+    public ResponseEntity<Response<AdminRewardDto.IssuanceQuantilesResponse>> getPerUserQuantiles(
+            @RequestParam(value = "month", required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            @RequestParam(value = "q", defaultValue = "0.5,0.9,0.99") List<Double> quantiles) {
+        AdminRewardDto.IssuanceQuantilesResponse response = issuanceDigestService.getPerUserQuantiles(month, quantiles);
+
+        return ResponseEntity.ok(Response.success(200, "사용자별 적립 분위수 조회에 성공했습니다.", response));
+    }
+}
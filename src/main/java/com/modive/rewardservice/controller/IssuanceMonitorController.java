@@ -0,0 +1,40 @@
+package com.modive.rewardservice.controller;
+
+import com.modive.common.Response;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.service.IssuanceMonitor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 씨앗 발급 현황 (메모리 링 버퍼만 읽으므로 DB 조회가 없다)
+ * 스트림은 연결 동안 스레드를 잡지 않으므로 관리자 동시 처리 한도(bulkhead)에 넣지 않는다.
+ */
+@RestController
+@RequestMapping("/reward/issuance")
+@RequiredArgsConstructor
+public class IssuanceMonitorController {
+
+    private final IssuanceMonitor issuanceMonitor;
+
+    /**
+     * GET /reward/issuance/live - 사유별 최근 분 단위 발급 현황
+     */
+    @GetMapping("/live")
+    public ResponseEntity<Response<AdminRewardDto.IssuanceSnapshot>> getLiveIssuance() {
+        return ResponseEntity.ok(Response.success(200, "실시간 발급 현황 조회에 성공했습니다.", issuanceMonitor.snapshot()));
+    }
+
+    /**
+     * GET /reward/issuance/stream - 발급 현황 SSE (event: issuance, 주기적으로 같은 형식의 스냅샷)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamIssuance() {
+        return issuanceMonitor.subscribe();
+    }
+}
@@ -0,0 +1,43 @@
+package com.modive.rewardservice.controller;
+
+import com.modive.common.Response;
+import com.modive.rewardservice.config.UserIdInterceptor;
+import com.modive.rewardservice.domain.LeaderboardPeriod;
+import com.modive.rewardservice.dto.LeaderboardDto;
+import com.modive.rewardservice.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/reward/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * GET /reward/leaderboard?period=TOTAL|MONTHLY&size=10 - 상위 N명 조회 (최대 100명)
+     */
+    @GetMapping
+    public ResponseEntity<Response<LeaderboardDto.TopResponse>> getTop(
+            @RequestParam(defaultValue = "TOTAL") LeaderboardPeriod period,
+            @RequestParam(defaultValue = "10") int size) {
+        LeaderboardDto.TopResponse data = leaderboardService.getTop(period, size);
+        return ResponseEntity.ok(Response.success(200, "리더보드 조회에 성공하였습니다.", data));
+    }
+
+    /**
+     * GET /reward/leaderboard/rank?period=TOTAL|MONTHLY - 내 순위 조회
+     */
+    @GetMapping("/rank")
+    public ResponseEntity<Response<LeaderboardDto.RankResponse>> getMyRank(
+            @RequestParam(defaultValue = "TOTAL") LeaderboardPeriod period) {
+        String userId = UserIdInterceptor.getCurrentUserId();
+        LeaderboardDto.RankResponse data = leaderboardService.getRank(period, userId);
+        return ResponseEntity.ok(Response.success(200, "리더보드 순위 조회에 성공하였습니다.", data));
+    }
+}
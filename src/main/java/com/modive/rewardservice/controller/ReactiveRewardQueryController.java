@@ -0,0 +1,45 @@
+package com.modive.rewardservice.controller;
+
+import com.modive.common.Response;
+import com.modive.rewardservice.config.UserIdInterceptor;
+import com.modive.rewardservice.dto.RewardDto;
+import com.modive.rewardservice.service.ReactiveRewardQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 잔액/내역 리액티브 조회 API (reward.reactive-read.enabled=true 일 때 RewardController의 같은 경로를 대신 처리)
+ * Mono를 반환하므로 쿼리 대기 동안 서블릿 스레드가 반납된다.
+ * X-Blocking-Read 헤더가 있는 요청과 시점 잔액 조회(?at=)는 기존 JPA 조회(RewardController)로 간다.
+ */
+@RestController
+@RequestMapping("/reward")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reward.reactive-read.enabled", havingValue = "true")
+public class ReactiveRewardQueryController {
+
+    public static final String BLOCKING_READ_HEADER = "X-Blocking-Read";
+
+    private final ReactiveRewardQueryService queryService;
+
+    @GetMapping(value = "/users/balance", headers = "!" + BLOCKING_READ_HEADER, params = "!at")
+    public Mono<ResponseEntity<Response<RewardDto.BalanceResponse>>> getBalance() {
+        String userId = UserIdInterceptor.getCurrentUserId();
+        return queryService.getBalance(userId)
+                .map(balance -> ResponseEntity.ok(Response.success(200, "씨앗 잔액 조회에 성공하였습니다.",
+                        RewardDto.BalanceResponse.of(userId, balance))));
+    }
+
+    @GetMapping(value = "/users/history", headers = "!" + BLOCKING_READ_HEADER)
+    public Mono<ResponseEntity<RewardDto.HistoryResponse>> getRewardHistory(Pageable pageable) {
+        String userId = UserIdInterceptor.getCurrentUserId();
+        return queryService.getRewardHistory(userId, pageable)
+                .map(page -> ResponseEntity.ok(RewardDto.HistoryResponse.ofResponses(page)));
+    }
+}
@@ -0,0 +1,47 @@
+package com.modive.rewardservice.controller;
+
+import com.modive.common.Response;
+import com.modive.rewardservice.config.UserIdInterceptor;
+import com.modive.rewardservice.domain.RewardReservation;
+import com.modive.rewardservice.dto.ReservationDto;
+import com.modive.rewardservice.service.ReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+
+/**
+ * 결제용 씨앗 예약 API (예약 → 확정 / 취소, 미확정 예약은 만료 시 자동 반환)
+ */
+@RestController
+@RequestMapping("/reward/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+
+    @PostMapping
+    public ResponseEntity<Response<ReservationDto.Response>> reserve(
+            @Valid @RequestBody ReservationDto.ReserveRequest request) {
+        String userId = UserIdInterceptor.getCurrentUserId();
+        Duration ttl = request.getTtlSeconds() != null ? Duration.ofSeconds(request.getTtlSeconds()) : null;
+        RewardReservation reservation = reservationService.reserve(userId, request.getOrderId(), request.getAmount(), ttl);
+        return ResponseEntity.ok(Response.success(200, "씨앗 예약에 성공하였습니다.", ReservationDto.Response.from(reservation)));
+    }
+
+    @PostMapping("/{orderId}/confirm")
+    public ResponseEntity<Response<ReservationDto.Response>> confirm(@PathVariable String orderId) {
+        String userId = UserIdInterceptor.getCurrentUserId();
+        RewardReservation reservation = reservationService.confirm(userId, orderId);
+        return ResponseEntity.ok(Response.success(200, "씨앗 예약 확정에 성공하였습니다.", ReservationDto.Response.from(reservation)));
+    }
+
+    @PostMapping("/{orderId}/cancel")
+    public ResponseEntity<Response<ReservationDto.Response>> cancel(@PathVariable String orderId) {
+        String userId = UserIdInterceptor.getCurrentUserId();
+        RewardReservation reservation = reservationService.cancel(userId, orderId);
+        return ResponseEntity.ok(Response.success(200, "씨앗 예약 취소에 성공하였습니다.", ReservationDto.Response.from(reservation)));
+    }
+}
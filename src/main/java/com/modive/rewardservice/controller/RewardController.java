@@ -4,16 +4,22 @@ package com.modive.rewardservice.controller;
 import com.modive.rewardservice.config.UserIdInterceptor;
 import com.modive.rewardservice.domain.Reward;
 import com.modive.rewardservice.dto.*;
+import com.modive.rewardservice.service.BalanceCheckpointService;
+import com.modive.rewardservice.service.BalanceLookupService;
+import com.modive.rewardservice.service.RedemptionService;
 import com.modive.rewardservice.service.RewardService;
 import com.modive.common.Response;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 
 
 @RestController
@@ -22,6 +28,9 @@ import org.springframework.web.bind.annotation.*;
 public class RewardController {
 
     private final RewardService rewardService;
+    private final BalanceLookupService balanceLookupService;
+    private final RedemptionService redemptionService;
+    private final BalanceCheckpointService balanceCheckpointService;
 
     @PostMapping("/earn")
     public ResponseEntity<Void> earnComplexRewards(
@@ -32,14 +41,41 @@ public class RewardController {
     }
 
 
+    /**
+     * 씨앗 사용 (주문 ID 기준 멱등, 잔액 부족 시 409)
+     */
+    @PostMapping("/redeem")
+    public ResponseEntity<Response<RewardDto.RedeemResponse>> redeem(
+            @Valid @RequestBody RewardDto.RedeemRequest request) {
+        String userId = UserIdInterceptor.getCurrentUserId();
+        Reward reward = redemptionService.redeem(userId, request.getOrderId(), request.getAmount());
+        return ResponseEntity.ok(Response.success(200, "씨앗 사용에 성공하였습니다.", RewardDto.RedeemResponse.from(reward)));
+    }
+
+    /**
+     * 잔액 조회 (at을 주면 그 시점의 사용 가능 잔액, 예: ?at=2025-06-01T00:00:00)
+     */
     @GetMapping("/users/balance")
-    public ResponseEntity<Response<RewardDto.BalanceResponse>> getBalance() {
+    public ResponseEntity<Response<RewardDto.BalanceResponse>> getBalance(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
         String userId = UserIdInterceptor.getCurrentUserId();
-        Long balance = rewardService.getBalance(userId);
+        Long balance = at == null ? rewardService.getBalance(userId) : balanceCheckpointService.getBalanceAt(userId, at);
         RewardDto.BalanceResponse data = RewardDto.BalanceResponse.of(userId, balance);
         return ResponseEntity.ok(Response.success(200, "씨앗 잔액 조회에 성공하였습니다.", data));
     }
 
+    /**
+     * 여러 사용자 잔액 일괄 조회 (서비스 간 호출용, X-USER-ID 불필요)
+     * 잔액이 없는 사용자는 0으로 응답한다.
+     */
+    @PostMapping("/balances")
+    public ResponseEntity<Response<RewardDto.BalancesResponse>> getBalances(
+            @Valid @RequestBody RewardDto.BalancesRequest request) {
+        RewardDto.BalancesResponse data = RewardDto.BalancesResponse.of(
+                balanceLookupService.getBalances(request.getUserIds()));
+        return ResponseEntity.ok(Response.success(200, "씨앗 잔액 일괄 조회에 성공하였습니다.", data));
+    }
+
     @GetMapping("/users/history")
     public ResponseEntity<RewardDto.HistoryResponse> getRewardHistory(Pageable pageable) {
         String userId = UserIdInterceptor.getCurrentUserId();
@@ -0,0 +1,45 @@
+package com.modive.rewardservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 일일 잔액 체크포인트 (checkpointAt 이전에 생긴 내역으로 계산한 사용 가능 잔액)
+ * 특정 시점 잔액은 그 시점 이전 마지막 체크포인트 + 이후 내역 합계로 구한다.
+ * (user_id, checkpoint_at) 유니크 인덱스가 시점 조회 인덱스를 겸한다.
+ */
+@Entity
+@Table(name = "reward_balance_checkpoint", uniqueConstraints = @UniqueConstraint(
+        name = "uk_reward_balance_checkpoint_user_at", columnNames = {"user_id", "checkpoint_at"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private LocalDateTime checkpointAt;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public BalanceCheckpoint(String userId, LocalDateTime checkpointAt, Long balance, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.checkpointAt = checkpointAt;
+        this.balance = balance;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,11 @@
+package com.modive.rewardservice.domain;
+
+/**
+ * 관리자 배치 작업 상태 (주행 적립 취소, 잔액 대사)
+ */
+public enum BatchJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
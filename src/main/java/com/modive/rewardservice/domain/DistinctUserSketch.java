@@ -0,0 +1,32 @@
+package com.modive.rewardservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기간별 적립 사용자 HyperLogLog 스케치 (periodKey: 일 "2025-06-01", 월 "2025-06")
+ * 인스턴스마다 모은 스케치를 주기적으로 행 잠금 후 레지스터 최댓값으로 합쳐 쓴다 (DistinctUserCounter).
+ */
+@Entity
+@Table(name = "reward_distinct_user_sketch")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DistinctUserSketch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 10)
+    private String periodKey;
+
+    // 정밀도 1바이트 + 레지스터 16384개
+    @Column(nullable = false, length = 16385)
+    private byte[] registers;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
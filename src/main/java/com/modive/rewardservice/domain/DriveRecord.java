@@ -0,0 +1,69 @@
+package com.modive.rewardservice.domain;
+
+import com.modive.rewardservice.domain.converter.MobtiTypeConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주행별 적립 요청 기록
+ * MoBTI 타입은 4비트 마스크(TINYINT)로 저장
+ * 적립 입력값(점수, 주행 시간)을 함께 보관해 규칙 시뮬레이션에서 재생한다.
+ */
+@Entity
+@Table(name = "drive_record", indexes = {
+        @Index(name = "idx_drive_record_created_at", columnList = "createdAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class DriveRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = true)
+    private String driveId;
+
+    @Column(nullable = true)
+    private Integer score;
+
+    @Column(nullable = true)
+    private Integer drivingTime;
+
+    @Convert(converter = MobtiTypeConverter.class)
+    @Column(nullable = true, columnDefinition = "TINYINT")
+    private MobtiType lastMobti;
+
+    @Convert(converter = MobtiTypeConverter.class)
+    @Column(nullable = true, columnDefinition = "TINYINT")
+    private MobtiType currentMobti;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public DriveRecord(String userId, String driveId, Integer score, Integer drivingTime,
+                       MobtiType lastMobti, MobtiType currentMobti) {
+        this.userId = userId;
+        this.driveId = driveId;
+        this.score = score;
+        this.drivingTime = drivingTime;
+        this.lastMobti = lastMobti;
+        this.currentMobti = currentMobti;
+    }
+
+    public boolean isMobtiImproved() {
+        return currentMobti != null && currentMobti.isImprovedFrom(lastMobti);
+    }
+}
@@ -0,0 +1,57 @@
+package com.modive.rewardservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 씨앗 소멸 작업 진행 위치 (실행일 + reward_balance id 범위별)
+ * 청크를 처리한 트랜잭션에서 lastId를 함께 갱신하므로 중단된 작업은 마지막 커밋 청크 다음부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "reward_expiration_checkpoint", uniqueConstraints = @UniqueConstraint(
+        name = "uk_reward_expiration_checkpoint_run_range", columnNames = {"run_date", "range_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ExpirationCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate runDate;
+
+    @Column(nullable = false)
+    private Integer rangeIndex;
+
+    // 처리 범위: lastId 초과 rangeEnd 이하
+    @Column(nullable = false)
+    private Long rangeEnd;
+
+    @Column(nullable = false)
+    private Long lastId;
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public ExpirationCheckpoint(LocalDate runDate, Integer rangeIndex, Long rangeStart, Long rangeEnd) {
+        this.runDate = runDate;
+        this.rangeIndex = rangeIndex;
+        this.rangeEnd = rangeEnd;
+        this.lastId = rangeStart - 1;
+        this.completed = false;
+    }
+}
@@ -0,0 +1,36 @@
+package com.modive.rewardservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월별 사용자당 적립 합계 분포 t-digest (monthKey: "2025-06")
+ * 그 달 사용자별 적립 합계를 한 값씩 넣은 스케치로, 적립이 있던 달만 주기적으로 다시 만들어 덮어쓴다 (IssuanceDigestService).
+ */
+@Entity
+@Table(name = "reward_issuance_digest")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IssuanceDigest {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 7)
+    private String monthKey;
+
+    // 중심점 수가 compression 정도로 고정되어 수 KB를 넘지 않는다
+    @Column(nullable = false, length = 16384)
+    private byte[] digest;
+
+    @Column(nullable = false)
+    private long userCount;
+
+    // 이 digest를 만들려고 집계를 시작한 시각 (그 전에 커밋된 적립은 반영돼 있다)
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.modive.rewardservice.domain;
+
+public enum LeaderboardPeriod {
+    TOTAL,      // 현재 잔액
+    MONTHLY     // 이번 달 적립 합계
+}
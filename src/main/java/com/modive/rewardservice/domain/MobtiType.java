@@ -0,0 +1,66 @@
+package com.modive.rewardservice.domain;
+
+/**
+ * MoBTI 타입 (4비트 마스크)
+ * 각 비트가 1이면 좋은 타입, 0이면 나쁜 타입
+ * bit3: E(에코)/H(헤비), bit2: D(방어)/A(공격), bit1: S(민감)/I(둔감), bit0: F(집중)/U(산만)
+ */
+public final class MobtiType {
+
+    public static final int ECO = 0b1000;
+    public static final int DEFENSIVE = 0b0100;
+    public static final int SENSITIVE = 0b0010;
+    public static final int FOCUSED = 0b0001;
+
+    private static final int MASK_BITS = 0b1111;
+    private static final MobtiType[] CACHE = new MobtiType[MASK_BITS + 1];
+
+    static {
+        for (int mask = 0; mask <= MASK_BITS; mask++) {
+            CACHE[mask] = new MobtiType(mask);
+        }
+    }
+
+    private final int mask;
+    private final String code;
+
+    private MobtiType(int mask) {
+        this.mask = mask;
+        this.code = new String(new char[]{
+                (mask & ECO) != 0 ? 'E' : 'H',
+                (mask & DEFENSIVE) != 0 ? 'D' : 'A',
+                (mask & SENSITIVE) != 0 ? 'S' : 'I',
+                (mask & FOCUSED) != 0 ? 'F' : 'U'
+        });
+    }
+
+    public static MobtiType of(int mask) {
+        if (mask < 0 || mask > MASK_BITS) {
+            throw new IllegalArgumentException("Invalid MoBTI mask: " + mask);
+        }
+        return CACHE[mask];
+    }
+
+    /**
+     * 이전 타입 대비 나쁜 타입 → 좋은 타입으로 바뀐 자리가 하나라도 있으면 향상
+     */
+    public boolean isImprovedFrom(MobtiType previous) {
+        return previous != null && (mask & ~previous.mask) != 0;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * 4자리 코드 (예: EDSF, HAIU)
+     */
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
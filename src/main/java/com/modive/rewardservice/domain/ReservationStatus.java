@@ -0,0 +1,8 @@
+package com.modive.rewardservice.domain;
+
+public enum ReservationStatus {
+    HELD,        // 결제 대기 (씨앗 묶임)
+    CONFIRMED,   // 사용 확정
+    CANCELED,    // 취소 (씨앗 반환)
+    EXPIRED      // 만료 (씨앗 반환)
+}
@@ -1,5 +1,6 @@
 package com.modive.rewardservice.domain;
 
+import com.modive.rewardservice.domain.converter.RewardReasonConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,7 +13,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reward")
+@Table(name = "reward", indexes = {
+        @Index(name = "idx_reward_drive_id", columnList = "driveId"),
+        @Index(name = "idx_reward_user_id_created_at", columnList = "userId, createdAt"),
+        // 기간 범위 조회 (일일 체크포인트 대상, 월 발급 집계)
+        @Index(name = "idx_reward_created_at_user_id", columnList = "createdAt, userId")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -34,6 +40,10 @@ public class Reward {
     @Column(nullable = false)
     private String description;
 
+    @Convert(converter = RewardReasonConverter.class)
+    @Column(name = "reason_code", nullable = true, columnDefinition = "TINYINT")
+    private RewardReason reason;
+
     @Column(nullable = false)
     private Long balanceSnapshot;
 
@@ -52,18 +62,32 @@ public class Reward {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // 적립을 발생시킨 주행 (주행 적립 취소 시 같은 driveId로 CANCELED 내역을 남긴다)
     @Column(nullable = true)
     private String driveId;
 
+    // 씨앗 사용(USED) 주문 ID: 같은 주문의 중복 차감 방지
+    @Column(name = "order_id", nullable = true, unique = true)
+    private String orderId;
+
     @Builder
-    public Reward(String userId, Long amount, RewardType type, String description, Long balanceSnapshot, RewardBalance rewardBalance, String driveId) {
+    public Reward(String userId, Long amount, RewardType type, String description, Long balanceSnapshot, RewardBalance rewardBalance, String driveId, String orderId) {
         this.userId = userId;
         this.amount = amount;
         this.type = type;
         this.description = description;
+        this.reason = RewardReason.fromDescription(description);
         this.balanceSnapshot = balanceSnapshot;
         this.rewardBalance = rewardBalance;
         this.driveId = driveId;
+        this.orderId = orderId;
         this.version = 0L;
     }
+
+    /**
+     * 사유 코드가 없는 기존 데이터는 description으로 판별
+     */
+    public RewardReason getReason() {
+        return reason != null ? reason : RewardReason.fromDescription(description);
+    }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import jakarta.persistence.Id;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -29,6 +30,11 @@ public class RewardBalance {
     @Column(nullable = false)
     private Long balance = 0L;  // 기본값 설정
 
+    // 결제 대기 중 예약으로 묶인 씨앗 (balance는 사용 가능 잔액, 총 보유량은 balance + held)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long held = 0L;
+
     @Version
     private Long version = 0L;  // 기본값 설정
 
@@ -44,6 +50,7 @@ public class RewardBalance {
     public RewardBalance(String userId, Long balance) {
         this.userId = userId;
         this.balance = balance != null ? balance : 0L;  // null 체크 추가
+        this.held = 0L;
         this.version = 0L;
     }
 
@@ -4,23 +4,46 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Getter
 @RequiredArgsConstructor
 public enum RewardReason {
-    TOTAL_SCORE("종합점수"),
-    EVENT_NOT_OCCURRED("이벤트미발생"),
-    MOBTI_IMPROVEMENT("MoBTI향상"),
-    UNKNOWN("알 수 없음");
+    TOTAL_SCORE("종합점수", (byte) 1),
+    EVENT_NOT_OCCURRED("이벤트미발생", (byte) 2),
+    MOBTI_IMPROVEMENT("MoBTI향상", (byte) 3),
+    UNKNOWN("알 수 없음", (byte) 0);
+
+    private static final Map<String, RewardReason> BY_LABEL = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(RewardReason::getLabel, Function.identity()));
+
+    private static final RewardReason[] BY_CODE = new RewardReason[Byte.MAX_VALUE + 1];
+
+    static {
+        for (RewardReason reason : values()) {
+            BY_CODE[reason.code] = reason;
+        }
+    }
 
     private final String label;
 
+    /** DB 저장용 사유 코드 */
+    private final byte code;
+
     public static RewardReason fromDescription(String description) {
-        return Arrays.stream(values())
-                .filter(r -> r.getLabel().equals(description))
-                .findFirst()
-                .orElse(UNKNOWN);
+        if (description == null) {
+            return UNKNOWN;
+        }
+        return BY_LABEL.getOrDefault(description, UNKNOWN);
+    }
+
+    public static RewardReason fromCode(byte code) {
+        RewardReason reason = code >= 0 ? BY_CODE[code] : null;
+        return reason != null ? reason : UNKNOWN;
     }
+
     public String getLabel() {
         return label;
     }
@@ -0,0 +1,63 @@
+package com.modive.rewardservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 대기 중 씨앗 예약
+ * 상태 전이(HELD → CONFIRMED / CANCELED / EXPIRED)는 조건부 UPDATE로만 일어난다.
+ * 만료 처리는 (status, expires_at) 인덱스로 만료된 HELD 예약만 찾는다.
+ */
+@Entity
+@Table(name = "reward_reservation", indexes = {
+        @Index(name = "idx_reward_reservation_status_expires_at", columnList = "status, expiresAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class RewardReservation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String orderId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReservationStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public RewardReservation(String orderId, String userId, Long amount, LocalDateTime expiresAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.amount = amount;
+        this.status = ReservationStatus.HELD;
+        this.expiresAt = expiresAt;
+    }
+}
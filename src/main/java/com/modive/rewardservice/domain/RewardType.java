@@ -3,5 +3,17 @@ package com.modive.rewardservice.domain;
 public enum RewardType {
     EARNED,      // 적립
     USED,       // 사용
-    CANCELED     // 취소
+    CANCELED,    // 취소 (예약 취소/만료는 잔액 복원, driveId가 있으면 주행 적립 취소로 차감)
+    EXPIRED;     // 소멸 (유효기간이 지난 적립분 차감)
+
+    /**
+     * 내역 한 행이 사용 가능 잔액에 더하는 양 (RewardLedgerJdbcRepository의 집계식과 같은 규칙)
+     */
+    public long balanceDelta(long amount, String driveId) {
+        return switch (this) {
+            case EARNED -> amount;
+            case CANCELED -> driveId == null ? amount : -amount;
+            case USED, EXPIRED -> -amount;
+        };
+    }
 }
@@ -0,0 +1,22 @@
+package com.modive.rewardservice.domain.converter;
+
+import com.modive.rewardservice.domain.MobtiType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * MobtiType ↔ TINYINT 변환
+ */
+@Converter
+public class MobtiTypeConverter implements AttributeConverter<MobtiType, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(MobtiType attribute) {
+        return attribute == null ? null : (byte) attribute.getMask();
+    }
+
+    @Override
+    public MobtiType convertToEntityAttribute(Byte dbData) {
+        return dbData == null ? null : MobtiType.of(dbData);
+    }
+}
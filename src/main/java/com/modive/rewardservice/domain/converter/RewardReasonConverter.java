@@ -0,0 +1,22 @@
+package com.modive.rewardservice.domain.converter;
+
+import com.modive.rewardservice.domain.RewardReason;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * RewardReason ↔ 사유 코드(TINYINT) 변환
+ */
+@Converter
+public class RewardReasonConverter implements AttributeConverter<RewardReason, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(RewardReason attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public RewardReason convertToEntityAttribute(Byte dbData) {
+        return dbData == null ? null : RewardReason.fromCode(dbData);
+    }
+}
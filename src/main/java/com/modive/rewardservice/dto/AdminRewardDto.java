@@ -1,18 +1,23 @@
 package com.modive.rewardservice.dto;
 
+import com.modive.rewardservice.domain.BatchJobStatus;
 import com.modive.rewardservice.domain.Reward;
 import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.service.rule.RewardRuleProperties;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.springframework.data.domain.Page;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 public class AdminRewardDto {
 
@@ -330,6 +335,7 @@ public class AdminRewardDto {
     public static class FilteredReward {
         private String rewardId;
         private String userId; // 🔧 핵심: email → userId로 변경하여 MSA 경계 명확화
+        private String email; // user-service 일괄 조회 결과 (조회 실패 시 null)
         private LocalDateTime issuedDate;
         private String reason;
         private int amount;
@@ -382,4 +388,180 @@ public class AdminRewardDto {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    // 규칙 시뮬레이션 관련 DTO
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SimulationRequest {
+        @NotNull(message = "시작일은 필수입니다")
+        private LocalDate startDate;
+
+        @NotNull(message = "종료일은 필수입니다")
+        private LocalDate endDate;
+
+        // 비어 있으면 현재 적용 중인 규칙으로 시뮬레이션
+        private List<RewardRuleProperties.RuleDefinition> rules;
+
+        public void validate(int maxDays) {
+            if (startDate.isAfter(endDate)) {
+                throw new IllegalArgumentException("시작일은 종료일보다 이전이어야 합니다.");
+            }
+            if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxDays) {
+                throw new IllegalArgumentException("시뮬레이션 기간은 " + maxDays + "일을 초과할 수 없습니다.");
+            }
+        }
+    }
+
+    // 일자별 예상 발급 (NDJSON 한 줄)
+    @Getter
+    @Builder
+    public static class SimulationDayResult {
+        private LocalDate date;
+        private long drives;
+        private long total;
+        private Map<String, Long> issuedByReason;
+    }
+
+    // 전체 기간 합계 (NDJSON 마지막 줄)
+    @Getter
+    @Builder
+    public static class SimulationSummary {
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private long drives;
+        private long total;
+        private Map<String, Long> issuedByReason;
+    }
+
+    // 주행 적립 취소(부정 주행) 관련 DTO
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReversalRequest {
+        @NotEmpty(message = "Drive IDs cannot be empty")
+        @Size(max = 10000, message = "한 번에 최대 10000개 주행까지 취소할 수 있습니다")
+        private List<String> driveIds;
+    }
+
+    @Getter
+    @Builder
+    public static class ReversalJobResponse {
+        private String jobId;
+        private BatchJobStatus status;
+        private int totalDrives;
+        private int processedDrives;
+        // 실제로 취소한 (사용자, 주행) 건수와 차감 합계
+        private long reversedRewards;
+        private long reversedAmount;
+        private LocalDateTime requestedAt;
+        private LocalDateTime finishedAt;
+        private String error;
+    }
+
+    // 잔액 대사 관련 DTO
+    @Getter
+    @Builder
+    public static class ReconciliationResponse {
+        private String jobId;
+        private BatchJobStatus status;
+        private boolean repair;
+        private int totalRanges;
+        private int scannedRanges;
+        private long mismatchCount;
+        private long repairedCount;
+        // 앞에서부터 최대 max-reported명
+        private List<BalanceMismatch> mismatches;
+        private LocalDateTime requestedAt;
+        private LocalDateTime finishedAt;
+        private String error;
+    }
+
+    @Getter
+    @Builder
+    public static class BalanceMismatch {
+        private String userId;
+        private long balance;
+        private long ledgerBalance;
+        private long held;
+        private long heldReservations;
+    }
+
+    // 실시간 발급 현황 (분 단위, DB 조회 없음)
+    @Getter
+    @Builder
+    public static class IssuanceSnapshot {
+        private LocalDateTime generatedAt;
+        private int windowMinutes;
+        private List<IssuanceSeries> reasons;
+    }
+
+    @Getter
+    @Builder
+    public static class IssuanceSeries {
+        private RewardReason reason;
+        // 창 전체 합계
+        private long count;
+        private long amount;
+        // 오래된 분부터
+        private List<IssuanceMinute> minutes;
+    }
+
+    @Getter
+    @Builder
+    public static class IssuanceMinute {
+        private LocalDateTime minute;
+        private long count;
+        private long amount;
+    }
+
+    // 적립 이상 탐지 (인스턴스별, 최근 window 기준)
+    @Getter
+    @Builder
+    public static class AnomalyResponse {
+        private LocalDateTime generatedAt;
+        private long windowMinutes;
+        // 창 안의 사용자당 평균 적립 요청 수
+        private double baselineDrivesPerUser;
+        private double scoreMean;
+        private double scoreStdDev;
+        // 최근 탐지 순
+        private List<FlaggedUser> users;
+    }
+
+    @Getter
+    @Builder
+    public static class FlaggedUser {
+        private String userId;
+        // EARN_RATE, SCORE_OUTLIER
+        private List<String> signals;
+        private long driveCount;
+        private double baselineDrives;
+        private long outlierDrives;
+        private Integer lastScore;
+        private LocalDateTime firstFlaggedAt;
+        private LocalDateTime lastFlaggedAt;
+    }
+
+    // 월 사용자별 적립 합계 분위수 (t-digest 추정, 적립 사용자가 없으면 값은 null)
+    @Getter
+    @Builder
+    public static class IssuanceQuantilesResponse {
+        private String month;
+        // 그 달 적립한 사용자 수
+        private long users;
+        private Double min;
+        private Double max;
+        private Double mean;
+        private List<QuantileValue> quantiles;
+    }
+
+    @Getter
+    @Builder
+    public static class QuantileValue {
+        private double quantile;
+        private Double value;
+    }
+}
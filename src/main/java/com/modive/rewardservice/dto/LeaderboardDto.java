@@ -0,0 +1,37 @@
+package com.modive.rewardservice.dto;
+
+import com.modive.rewardservice.domain.LeaderboardPeriod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+public class LeaderboardDto {
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private long rank;
+        private String userId;
+        private long score;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TopResponse {
+        private LeaderboardPeriod period;
+        private int totalUsers;
+        private List<Entry> entries;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class RankResponse {
+        private LeaderboardPeriod period;
+        private String userId;
+        // 순위에 없으면 null
+        private Long rank;
+        private long score;
+        private int totalUsers;
+    }
+}
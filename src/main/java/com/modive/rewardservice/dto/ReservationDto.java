@@ -0,0 +1,52 @@
+package com.modive.rewardservice.dto;
+
+import com.modive.rewardservice.domain.ReservationStatus;
+import com.modive.rewardservice.domain.RewardReservation;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class ReservationDto {
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReserveRequest {
+        @NotBlank
+        @Size(max = 64)
+        private String orderId;
+
+        @NotNull
+        @Positive
+        private Long amount;
+
+        // 예약 유지 시간(초), 없으면 기본값
+        @Positive
+        private Long ttlSeconds;
+    }
+
+    @Getter
+    @Builder
+    public static class Response {
+        private String orderId;
+        private Long amount;
+        private ReservationStatus status;
+        private LocalDateTime expiresAt;
+
+        public static Response from(RewardReservation reservation) {
+            return Response.builder()
+                    .orderId(reservation.getOrderId())
+                    .amount(reservation.getAmount())
+                    .status(reservation.getStatus())
+                    .expiresAt(reservation.getExpiresAt())
+                    .build();
+        }
+    }
+}
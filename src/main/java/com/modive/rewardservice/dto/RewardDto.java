@@ -5,6 +5,11 @@ import com.modive.rewardservice.domain.Reward;
 import com.modive.rewardservice.domain.RewardType;
 import com.modive.rewardservice.dto.request.RewardEarnRequest;
 import com.modive.rewardservice.dto.request.ScoreInfo;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,7 +18,7 @@ import org.springframework.data.domain.Page;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 public class RewardDto {
 
@@ -86,6 +91,59 @@ public class RewardDto {
         }
     }
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BalancesRequest {
+        @NotEmpty
+        @Size(max = 1000)
+        private List<String> userIds;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BalancesResponse {
+        private List<BalanceResponse> balances;
+
+        public static BalancesResponse of(Map<String, Long> balances) {
+            return new BalancesResponse(balances.entrySet().stream()
+                    .map(entry -> BalanceResponse.of(entry.getKey(), entry.getValue()))
+                    .toList());
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RedeemRequest {
+        @NotBlank
+        @Size(max = 64)
+        private String orderId;
+
+        @NotNull
+        @Positive
+        private Long amount;
+    }
+
+    @Getter
+    @Builder
+    public static class RedeemResponse {
+        private String orderId;
+        private Long rewardId;
+        private Long amount;
+        private Long balance;
+        private LocalDateTime usedAt;
+
+        public static RedeemResponse from(Reward reward) {
+            return RedeemResponse.builder()
+                    .orderId(reward.getOrderId())
+                    .rewardId(reward.getId())
+                    .amount(reward.getAmount())
+                    .balance(reward.getBalanceSnapshot())
+                    .usedAt(reward.getCreatedAt())
+                    .build();
+        }
+    }
 
     @Getter
     @Builder
@@ -95,9 +153,11 @@ public class RewardDto {
         private HistoryData data;
 
         public static HistoryResponse of(Page<Reward> page) {
-            List<Response> rewards = page.getContent().stream()
-                    .map(RewardDto.Response::from)
-                    .collect(Collectors.toList());
+            return ofResponses(page.map(RewardDto.Response::from));
+        }
+
+        public static HistoryResponse ofResponses(Page<RewardDto.Response> page) {
+            List<Response> rewards = page.getContent();
 
             PageInfoDTO pageInfo = new PageInfoDTO(
                     page.getNumber() + 1,
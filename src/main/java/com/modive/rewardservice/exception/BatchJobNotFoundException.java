@@ -0,0 +1,10 @@
+package com.modive.rewardservice.exception;
+
+/**
+ * 관리자 배치 작업을 찾을 수 없는 경우 (만료되어 정리된 작업 포함)
+ */
+public class BatchJobNotFoundException extends RuntimeException {
+    public BatchJobNotFoundException(String jobId) {
+        super("Batch job not found: " + jobId);
+    }
+}
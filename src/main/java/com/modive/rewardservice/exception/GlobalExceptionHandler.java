@@ -1,5 +1,6 @@
 package com.modive.rewardservice.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -28,5 +29,89 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
+    @ExceptionHandler(UserServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleUserServiceUnavailable(UserServiceUnavailableException ex) {
+        ErrorResponse response = new ErrorResponse(
+                503,
+                "사용자 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.",
+                new ErrorResponse.ErrorDetail("USER_SERVICE_UNAVAILABLE", ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex) {
+        ErrorResponse response = new ErrorResponse(
+                503,
+                "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                new ErrorResponse.ErrorDetail("SERVICE_OVERLOADED", ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex) {
+        ErrorResponse response = new ErrorResponse(
+                429,
+                "요청이 너무 잦습니다. 잠시 후 다시 시도해주세요.",
+                new ErrorResponse.ErrorDetail("RATE_LIMIT_EXCEEDED", ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    @ExceptionHandler(InsufficientBalanceException.class)
+    public ResponseEntity<ErrorResponse> handleInsufficientBalance(InsufficientBalanceException ex) {
+        ErrorResponse response = new ErrorResponse(
+                409,
+                "씨앗 잔액이 부족합니다.",
+                new ErrorResponse.ErrorDetail("INSUFFICIENT_BALANCE", ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(OrderConflictException.class)
+    public ResponseEntity<ErrorResponse> handleOrderConflict(OrderConflictException ex) {
+        ErrorResponse response = new ErrorResponse(
+                409,
+                "이미 처리된 주문입니다.",
+                new ErrorResponse.ErrorDetail("ORDER_CONFLICT", ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(ReservationNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleReservationNotFound(ReservationNotFoundException ex) {
+        ErrorResponse response = new ErrorResponse(
+                404,
+                "씨앗 예약을 찾을 수 없습니다.",
+                new ErrorResponse.ErrorDetail("RESERVATION_NOT_FOUND", ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    @ExceptionHandler(BatchJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleBatchJobNotFound(BatchJobNotFoundException ex) {
+        ErrorResponse response = new ErrorResponse(
+                404,
+                "작업을 찾을 수 없습니다.",
+                new ErrorResponse.ErrorDetail("BATCH_JOB_NOT_FOUND", ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    @ExceptionHandler(ReservationStateException.class)
+    public ResponseEntity<ErrorResponse> handleReservationState(ReservationStateException ex) {
+        ErrorResponse response = new ErrorResponse(
+                409,
+                "이미 처리가 끝난 씨앗 예약입니다.",
+                new ErrorResponse.ErrorDetail("RESERVATION_STATE_CONFLICT", ex.getMessage())
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     // 기타 예외 처리도 여기에 추가 가능
 }
@@ -0,0 +1,10 @@
+package com.modive.rewardservice.exception;
+
+/**
+ * 씨앗 잔액이 차감하려는 양보다 적은 경우
+ */
+public class InsufficientBalanceException extends RuntimeException {
+    public InsufficientBalanceException(String userId, long amount) {
+        super("Insufficient balance for user " + userId + " to use " + amount + " seeds");
+    }
+}
@@ -0,0 +1,10 @@
+package com.modive.rewardservice.exception;
+
+/**
+ * 이미 처리된 주문 ID로 다른 사용자/수량의 요청이 들어온 경우
+ */
+public class OrderConflictException extends RuntimeException {
+    public OrderConflictException(String orderId) {
+        super("Order " + orderId + " was already processed with a different request");
+    }
+}
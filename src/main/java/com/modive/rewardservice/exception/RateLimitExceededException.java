@@ -0,0 +1,19 @@
+package com.modive.rewardservice.exception;
+
+/**
+ * 사용자별 요청 한도(토큰 버킷)를 넘어 거절된 경우
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    // 토큰이 하나 다시 찰 때까지 남은 시간(초)
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String endpoint, long retryAfterSeconds) {
+        super(endpoint + " rate limit exceeded, retry after " + retryAfterSeconds + "s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
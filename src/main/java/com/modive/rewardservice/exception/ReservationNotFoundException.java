@@ -0,0 +1,10 @@
+package com.modive.rewardservice.exception;
+
+/**
+ * 사용자의 씨앗 예약을 찾을 수 없는 경우
+ */
+public class ReservationNotFoundException extends RuntimeException {
+    public ReservationNotFoundException(String orderId) {
+        super("Reservation not found for order " + orderId);
+    }
+}
@@ -0,0 +1,12 @@
+package com.modive.rewardservice.exception;
+
+import com.modive.rewardservice.domain.ReservationStatus;
+
+/**
+ * 이미 다른 상태로 끝난 예약을 확정/취소하려는 경우
+ */
+public class ReservationStateException extends RuntimeException {
+    public ReservationStateException(String orderId, ReservationStatus status) {
+        super("Reservation for order " + orderId + " is already " + status);
+    }
+}
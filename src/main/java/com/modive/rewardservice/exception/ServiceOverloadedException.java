@@ -0,0 +1,10 @@
+package com.modive.rewardservice.exception;
+
+/**
+ * 요청 그룹의 동시 처리 한도를 넘어 거절된 경우
+ */
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String group) {
+        super(group + " requests are saturated");
+    }
+}
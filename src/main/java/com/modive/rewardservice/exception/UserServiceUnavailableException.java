@@ -0,0 +1,10 @@
+package com.modive.rewardservice.exception;
+
+/**
+ * user-service 호출이 서킷 브레이커/벌크헤드에 의해 차단된 경우
+ */
+public class UserServiceUnavailableException extends RuntimeException {
+    public UserServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,13 @@
+package com.modive.rewardservice.repository;
+
+import com.modive.rewardservice.domain.BalanceCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface BalanceCheckpointRepository extends JpaRepository<BalanceCheckpoint, Long> {
+
+    Optional<BalanceCheckpoint> findTopByUserIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(
+            String userId, LocalDateTime at);
+}
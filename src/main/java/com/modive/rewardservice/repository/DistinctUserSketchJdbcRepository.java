@@ -0,0 +1,68 @@
+package com.modive.rewardservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 적립 사용자 스케치 읽기/쓰기 (레지스터 바이트를 그대로 다룬다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DistinctUserSketchJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Map<String, byte[]> findSketches(Collection<String> periodKeys) {
+        Map<String, byte[]> sketches = new HashMap<>();
+        namedParameterJdbcTemplate.query(
+                "SELECT period_key, registers FROM reward_distinct_user_sketch WHERE period_key IN (:periodKeys)",
+                new MapSqlParameterSource("periodKeys", periodKeys),
+                rs -> {
+                    sketches.put(rs.getString(1), rs.getBytes(2));
+                });
+        return sketches;
+    }
+
+    /**
+     * 스케치 행을 잠그고 조회 (없으면 null)
+     */
+    public byte[] lockSketch(String periodKey) {
+        List<byte[]> rows = jdbcTemplate.query(
+                "SELECT registers FROM reward_distinct_user_sketch WHERE period_key = ? FOR UPDATE",
+                (rs, rowNum) -> rs.getBytes(1), periodKey);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public void insertSketch(String periodKey, byte[] registers, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO reward_distinct_user_sketch (period_key, registers, updated_at) VALUES (?, ?, ?)",
+                periodKey, registers, Timestamp.valueOf(now));
+    }
+
+    public void updateSketch(String periodKey, byte[] registers, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE reward_distinct_user_sketch SET registers = ?, updated_at = ? WHERE period_key = ?",
+                registers, Timestamp.valueOf(now), periodKey);
+    }
+
+    /**
+     * start 이상 end 미만에 적립한 사용자를 한 명씩 넘긴다 (스케치가 없는 기간을 내역으로 채울 때)
+     */
+    public void forEachEarnedUser(LocalDateTime start, LocalDateTime end, Consumer<String> consumer) {
+        jdbcTemplate.query("SELECT DISTINCT user_id FROM reward WHERE type = 'EARNED' AND created_at >= ? AND created_at < ?",
+                rs -> {
+                    consumer.accept(rs.getString(1));
+                },
+                Timestamp.valueOf(start), Timestamp.valueOf(end));
+    }
+}
@@ -0,0 +1,20 @@
+package com.modive.rewardservice.repository;
+
+import com.modive.rewardservice.domain.DriveRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DriveRecordRepository extends JpaRepository<DriveRecord, Long> {
+
+    // 🎯 시뮬레이션 - 사용자별, 시간순 정렬
+    @Query("SELECT new com.modive.rewardservice.repository.DriveReplayRow(" +
+            "d.userId, d.drivingTime, d.score, d.lastMobti, d.currentMobti) " +
+            "FROM DriveRecord d " +
+            "WHERE d.createdAt >= :start AND d.createdAt < :end " +
+            "ORDER BY d.userId, d.createdAt, d.id")
+    List<DriveReplayRow> findReplayRowsBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+}
@@ -0,0 +1,15 @@
+package com.modive.rewardservice.repository;
+
+import com.modive.rewardservice.domain.MobtiType;
+
+/**
+ * 규칙 시뮬레이션용 주행 기록 프로젝션 (영속성 컨텍스트에 올리지 않음)
+ */
+public record DriveReplayRow(
+        String userId,
+        Integer drivingTime,
+        Integer score,
+        MobtiType lastMobti,
+        MobtiType currentMobti
+) {
+}
@@ -0,0 +1,11 @@
+package com.modive.rewardservice.repository;
+
+/**
+ * 주행 적립 취소용 프로젝션: 사용자별/주행별 적립 합계
+ */
+public record DriveRewardRow(
+        String userId,
+        String driveId,
+        Long amount
+) {
+}
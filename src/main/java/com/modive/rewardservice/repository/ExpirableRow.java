@@ -0,0 +1,21 @@
+package com.modive.rewardservice.repository;
+
+/**
+ * 씨앗 소멸 계산용 프로젝션
+ *
+ * @param earnedBeforeCutoff 유효기간이 지난 적립 합계 (주행 적립 취소로 없어진 적립은 뺀다)
+ * @param consumed           지금까지 빠져나간 씨앗 (선입선출로 오래된 적립부터 소진된 것으로 본다, 주행 적립 취소는 제외)
+ */
+public record ExpirableRow(
+        String userId,
+        Long earnedBeforeCutoff,
+        Long consumed
+) {
+    /**
+     * 소멸 대상 (남은 오래된 적립, 현재 잔액 이하)
+     */
+    public long expiring(long balance) {
+        long remaining = earnedBeforeCutoff - consumed;
+        return Math.max(0, Math.min(remaining, balance));
+    }
+}
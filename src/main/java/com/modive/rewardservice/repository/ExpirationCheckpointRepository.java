@@ -0,0 +1,25 @@
+package com.modive.rewardservice.repository;
+
+import com.modive.rewardservice.domain.ExpirationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ExpirationCheckpointRepository extends JpaRepository<ExpirationCheckpoint, Long> {
+
+    List<ExpirationCheckpoint> findByRunDateOrderByRangeIndex(LocalDate runDate);
+
+    @Query("SELECT DISTINCT c.runDate FROM ExpirationCheckpoint c WHERE c.completed = false ORDER BY c.runDate")
+    List<LocalDate> findIncompleteRunDates();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ExpirationCheckpoint c SET c.lastId = :lastId, c.completed = :completed, c.updatedAt = :now " +
+            "WHERE c.id = :id")
+    int advance(@Param("id") Long id, @Param("lastId") long lastId, @Param("completed") boolean completed,
+                @Param("now") LocalDateTime now);
+}
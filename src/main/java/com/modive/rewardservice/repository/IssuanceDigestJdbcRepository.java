@@ -0,0 +1,77 @@
+package com.modive.rewardservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 월별 적립 분포 t-digest 읽기/쓰기 (직렬화된 바이트를 그대로 다룬다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IssuanceDigestJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 digest (없으면 null)
+     */
+    public byte[] findDigest(String monthKey) {
+        List<byte[]> rows = jdbcTemplate.query("SELECT digest FROM reward_issuance_digest WHERE month_key = ?",
+                (rs, rowNum) -> rs.getBytes(1), monthKey);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * 저장된 digest의 집계 시작 시각 (updated_at, 없으면 null)
+     */
+    public LocalDateTime findBuiltAt(String monthKey) {
+        List<Timestamp> rows = jdbcTemplate.query("SELECT updated_at FROM reward_issuance_digest WHERE month_key = ?",
+                (rs, rowNum) -> rs.getTimestamp(1), monthKey);
+        return rows.isEmpty() ? null : rows.get(0).toLocalDateTime();
+    }
+
+    /**
+     * 더 늦게 집계를 시작한 digest가 이미 있으면 덮어쓰지 않는다
+     *
+     * @param builtAt 집계를 시작한 시각 (updated_at에 쓴다)
+     * @return 갱신한 행 수 (0이면 행이 없거나 더 새 digest가 있다)
+     */
+    public int updateDigest(String monthKey, byte[] digest, long userCount, LocalDateTime builtAt) {
+        return jdbcTemplate.update(
+                "UPDATE reward_issuance_digest SET digest = ?, user_count = ?, updated_at = ? "
+                        + "WHERE month_key = ? AND updated_at <= ?",
+                digest, userCount, Timestamp.valueOf(builtAt), monthKey, Timestamp.valueOf(builtAt));
+    }
+
+    public void insertDigest(String monthKey, byte[] digest, long userCount, LocalDateTime builtAt) {
+        jdbcTemplate.update(
+                "INSERT INTO reward_issuance_digest (month_key, digest, user_count, updated_at) VALUES (?, ?, ?, ?)",
+                monthKey, digest, userCount, Timestamp.valueOf(builtAt));
+    }
+
+    /**
+     * start 이상 end 미만 적립을 사용자별로 합쳐 합계를 하나씩 넘긴다 (정렬 없이 흘려 읽는다)
+     */
+    public void forEachUserEarnedTotal(LocalDateTime start, LocalDateTime end, int fetchSize, LongConsumer consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(
+                    "SELECT SUM(amount) FROM reward WHERE type = 'EARNED' AND created_at >= ? AND created_at < ? "
+                            + "GROUP BY user_id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setTimestamp(1, Timestamp.valueOf(start));
+            statement.setTimestamp(2, Timestamp.valueOf(end));
+            return statement;
+        }, rs -> {
+            consumer.accept(rs.getLong(1));
+        });
+    }
+}
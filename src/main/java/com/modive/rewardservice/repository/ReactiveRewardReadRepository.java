@@ -0,0 +1,67 @@
+package com.modive.rewardservice.repository;
+
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.RewardDto;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잔액/내역 R2DBC 조회 (엔티티를 거치지 않고 응답 DTO로 바로 매핑)
+ * 쿼리는 RewardBalanceRepository / RewardRepository의 JPA 조회와 같은 결과를 낸다.
+ */
+@Repository
+@ConditionalOnProperty(name = "reward.reactive-read.enabled", havingValue = "true")
+public class ReactiveRewardReadRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveRewardReadRepository(@Qualifier("reactiveReadDatabaseClient") DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Long> findBalanceByUserId(String userId) {
+        return databaseClient.sql("SELECT balance FROM reward_balance WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map(row -> row.get("balance", Long.class))
+                .one();
+    }
+
+    public Flux<RewardDto.Response> findHistoryByUserId(String userId, long offset, int limit) {
+        return databaseClient.sql("SELECT id, user_id, drive_id, amount, type, description, balance_snapshot, created_at " +
+                        "FROM reward WHERE user_id = :userId " +
+                        "ORDER BY created_at DESC LIMIT :limit OFFSET :offset")
+                .bind("userId", userId)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveRewardReadRepository::toResponse)
+                .all();
+    }
+
+    public Mono<Long> countByUserId(String userId) {
+        return databaseClient.sql("SELECT COUNT(*) AS cnt FROM reward WHERE user_id = :userId")
+                .bind("userId", userId)
+                .map(row -> row.get("cnt", Long.class))
+                .one();
+    }
+
+    private static RewardDto.Response toResponse(Readable row) {
+        String type = row.get("type", String.class);
+        return RewardDto.Response.builder()
+                .id(row.get("id", Long.class))
+                .userId(row.get("user_id", String.class))
+                .driveId(row.get("drive_id", String.class))
+                .amount(row.get("amount", Long.class))
+                .type(type != null ? RewardType.valueOf(type) : null)
+                .description(row.get("description", String.class))
+                .balanceSnapshot(row.get("balance_snapshot", Long.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -2,12 +2,57 @@ package com.modive.rewardservice.repository;
 
 import com.modive.rewardservice.domain.RewardBalance;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RewardBalanceRepository extends JpaRepository<RewardBalance, Long> {
     @Lock(LockModeType.OPTIMISTIC)
     Optional<RewardBalance> findByUserId(String userId);
+
+    /**
+     * 잔액이 충분할 때만 차감 (조건부 UPDATE 한 번, 갱신된 행 수 반환)
+     * version도 올려 같은 행을 읽고 있던 적립의 낙관적 락이 차감을 덮어쓰지 못하게 한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RewardBalance b SET b.balance = b.balance - :amount, b.version = b.version + 1, b.updatedAt = :now " +
+            "WHERE b.userId = :userId AND b.balance >= :amount")
+    int debit(@Param("userId") String userId, @Param("amount") long amount, @Param("now") LocalDateTime now);
+
+    // 예약: 사용 가능 잔액에서 묶음으로 옮긴다 (잔액이 충분할 때만)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RewardBalance b SET b.balance = b.balance - :amount, b.held = b.held + :amount, " +
+            "b.version = b.version + 1, b.updatedAt = :now " +
+            "WHERE b.userId = :userId AND b.balance >= :amount")
+    int hold(@Param("userId") String userId, @Param("amount") long amount, @Param("now") LocalDateTime now);
+
+    // 예약 확정: 묶인 씨앗을 소진한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RewardBalance b SET b.held = b.held - :amount, b.version = b.version + 1, b.updatedAt = :now " +
+            "WHERE b.userId = :userId AND b.held >= :amount")
+    int settleHold(@Param("userId") String userId, @Param("amount") long amount, @Param("now") LocalDateTime now);
+
+    // 예약 취소/만료: 묶인 씨앗을 사용 가능 잔액으로 돌려준다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RewardBalance b SET b.held = b.held - :amount, b.balance = b.balance + :amount, " +
+            "b.version = b.version + 1, b.updatedAt = :now " +
+            "WHERE b.userId = :userId AND b.held >= :amount")
+    int releaseHold(@Param("userId") String userId, @Param("amount") long amount, @Param("now") LocalDateTime now);
+
+    @Query("SELECT new com.modive.rewardservice.repository.UserBalanceRow(b.userId, b.balance) " +
+            "FROM RewardBalance b WHERE b.userId IN :userIds")
+    List<UserBalanceRow> findBalancesByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    // 리더보드 재구성용 키셋 조회 (userId 순)
+    @Query("SELECT new com.modive.rewardservice.repository.UserBalanceRow(b.userId, b.balance) " +
+            "FROM RewardBalance b WHERE b.userId > :afterUserId ORDER BY b.userId")
+    List<UserBalanceRow> findBalancesAfter(@Param("afterUserId") String afterUserId, Pageable pageable);
 }
@@ -0,0 +1,333 @@
+package com.modive.rewardservice.repository;
+
+import com.modive.rewardservice.domain.RewardType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 대량 잔액 차감/내역 쓰기와 대사용 JDBC (주행 적립 취소, 씨앗 소멸, 잔액 대사, 내역 재생 복구, 잔액 체크포인트)
+ * 청크 하나의 잔액 차감(사용자당 UPDATE 한 번)과 내역 INSERT를 각각 배치 한 번으로 보낸다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않으므로 수천 건을 처리해도 1차 캐시가 커지지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RewardLedgerJdbcRepository {
+
+    public record BalanceRef(long id, String userId, long balance) {
+    }
+
+    public record LedgerRow(String userId, String driveId, long amount, long balanceSnapshot, long rewardBalanceId) {
+    }
+
+    /**
+     * 잔액 행과 내역/예약 합계가 어긋난 사용자
+     *
+     * @param ledgerBalance    내역으로 계산한 사용 가능 잔액
+     * @param heldReservations HELD 예약 합계
+     */
+    public record BalanceMismatch(String userId, long balance, long ledgerBalance, long held, long heldReservations) {
+    }
+
+    /**
+     * 내역 재생으로 다시 계산한 잔액
+     */
+    public record RebuiltBalance(String userId, long balance, long held) {
+    }
+
+    /**
+     * 체크포인트 시점 이전 내역으로 계산한 잔액
+     */
+    public record CheckpointBalance(String userId, long balance) {
+    }
+
+    /**
+     * 체크포인트 대상 탐색 위치 ((created_at, user_id) 인덱스 순서)
+     */
+    public record LedgerUserKey(LocalDateTime createdAt, String userId) {
+    }
+
+    @FunctionalInterface
+    public interface LedgerEntryHandler {
+        void handle(long id, String userId, RewardType type, long amount, String driveId);
+    }
+
+    private static final String BALANCE_COLUMNS = "SELECT id, user_id, balance FROM reward_balance ";
+
+    /**
+     * 내역 한 행이 사용 가능 잔액에 더하는 양 (RewardType.balanceDelta와 같은 규칙)
+     * 적립과 예약 취소/만료(driveId 없는 CANCELED)는 더하고, 사용/소멸/주행 적립 취소는 뺀다.
+     */
+    private static final String LEDGER_DELTA = "CASE WHEN r.type = 'EARNED' THEN r.amount " +
+            "WHEN r.type = 'CANCELED' AND r.drive_id IS NULL THEN r.amount " +
+            "WHEN r.type IN ('USED', 'EXPIRED', 'CANCELED') THEN -r.amount ELSE 0 END";
+
+    private static final String MISMATCH_COLUMNS =
+            "b.user_id, b.balance, COALESCE(l.ledger_balance, 0) AS ledger_balance, " +
+            "b.held, COALESCE(h.held_amount, 0) AS held_amount ";
+
+    private static final String MISMATCH_CONDITION =
+            "(b.balance <> COALESCE(l.ledger_balance, 0) OR b.held <> COALESCE(h.held_amount, 0))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 사용자별 차감 (잔액이 모자라면 음수가 될 수 있다)
+     * 잠금 순서를 고정하도록 userId 순으로 보낸다.
+     *
+     * @return 잔액 행이 없어 차감하지 못한 사용자
+     */
+    public List<String> debitBalances(SortedMap<String, Long> debits, LocalDateTime now) {
+        List<String> userIds = new ArrayList<>(debits.keySet());
+        List<Object[]> args = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            args.add(new Object[]{debits.get(userId), Timestamp.valueOf(now), userId});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE reward_balance SET balance = balance - ?, version = version + 1, updated_at = ? WHERE user_id = ?",
+                args);
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            // 드라이버가 건수를 돌려주지 않으면(SUCCESS_NO_INFO) 아래 잔액 조회에서 확인한다
+            if (updated[i] == 0) {
+                missing.add(userIds.get(i));
+            }
+        }
+        return missing;
+    }
+
+    public Map<String, BalanceRef> findBalances(Collection<String> userIds) {
+        Map<String, BalanceRef> balances = new HashMap<>();
+        namedParameterJdbcTemplate.query(BALANCE_COLUMNS + "WHERE user_id IN (:userIds)",
+                new MapSqlParameterSource("userIds", userIds),
+                rs -> {
+                    balances.put(rs.getString("user_id"),
+                            new BalanceRef(rs.getLong("id"), rs.getString("user_id"), rs.getLong("balance")));
+                });
+        return balances;
+    }
+
+    /**
+     * id 키셋 청크를 잠그며 조회 (afterId 초과 toId 이하, id 순)
+     */
+    public List<BalanceRef> lockBalancesAfter(long afterId, long toId, int limit) {
+        return jdbcTemplate.query(BALANCE_COLUMNS + "WHERE id > ? AND id <= ? ORDER BY id LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> new BalanceRef(rs.getLong("id"), rs.getString("user_id"), rs.getLong("balance")),
+                afterId, toId, limit);
+    }
+
+    /**
+     * 잔액 행 id 범위 {최소, 최대} (행이 없으면 null)
+     */
+    public long[] findBalanceIdRange() {
+        return jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM reward_balance", rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        });
+    }
+
+    public void insertLedger(RewardType type, List<LedgerRow> rows, String description, byte reasonCode,
+                             LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (LedgerRow row : rows) {
+            args.add(new Object[]{row.userId(), row.amount(), type.name(), description, reasonCode,
+                    row.balanceSnapshot(), row.rewardBalanceId(), timestamp, timestamp, row.driveId()});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO reward (user_id, amount, type, description, reason_code, balance_snapshot, version, " +
+                        "reward_balance_id, created_at, updated_at, drive_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?)",
+                args);
+    }
+
+    /**
+     * id 범위(afterId 초과 toId 이하) 사용자의 내역/예약 합계를 한 번에 집계해 어긋난 사용자만 반환
+     */
+    public List<BalanceMismatch> findMismatches(long afterId, long toId) {
+        return jdbcTemplate.query("SELECT " + MISMATCH_COLUMNS +
+                        "FROM reward_balance b " +
+                        "LEFT JOIN (SELECT r.user_id, SUM(" + LEDGER_DELTA + ") AS ledger_balance " +
+                        "FROM reward r JOIN reward_balance rb ON rb.user_id = r.user_id " +
+                        "WHERE rb.id > ? AND rb.id <= ? GROUP BY r.user_id) l ON l.user_id = b.user_id " +
+                        "LEFT JOIN (SELECT v.user_id, SUM(v.amount) AS held_amount " +
+                        "FROM reward_reservation v JOIN reward_balance vb ON vb.user_id = v.user_id " +
+                        "WHERE v.status = 'HELD' AND vb.id > ? AND vb.id <= ? GROUP BY v.user_id) h " +
+                        "ON h.user_id = b.user_id " +
+                        "WHERE b.id > ? AND b.id <= ? AND " + MISMATCH_CONDITION + " ORDER BY b.id",
+                (rs, rowNum) -> mismatch(rs),
+                afterId, toId, afterId, toId, afterId, toId);
+    }
+
+    /**
+     * 잔액 행을 잠근 뒤 다시 집계해 아직 어긋나 있으면 내역 기준으로 맞춘다
+     *
+     * @return 고치기 전 상태 (이미 맞으면 null)
+     */
+    public BalanceMismatch repair(String userId, LocalDateTime now) {
+        List<Long> locked = jdbcTemplate.queryForList(
+                "SELECT id FROM reward_balance WHERE user_id = ? FOR UPDATE", Long.class, userId);
+        if (locked.isEmpty()) {
+            return null;
+        }
+        List<BalanceMismatch> mismatches = jdbcTemplate.query("SELECT " + MISMATCH_COLUMNS +
+                        "FROM reward_balance b " +
+                        "LEFT JOIN (SELECT r.user_id, SUM(" + LEDGER_DELTA + ") AS ledger_balance " +
+                        "FROM reward r WHERE r.user_id = ? GROUP BY r.user_id) l ON l.user_id = b.user_id " +
+                        "LEFT JOIN (SELECT v.user_id, SUM(v.amount) AS held_amount FROM reward_reservation v " +
+                        "WHERE v.user_id = ? AND v.status = 'HELD' GROUP BY v.user_id) h ON h.user_id = b.user_id " +
+                        "WHERE b.user_id = ? AND " + MISMATCH_CONDITION,
+                (rs, rowNum) -> mismatch(rs),
+                userId, userId, userId);
+        if (mismatches.isEmpty()) {
+            return null;
+        }
+        BalanceMismatch mismatch = mismatches.get(0);
+        jdbcTemplate.update("UPDATE reward_balance SET balance = ?, held = ?, version = version + 1, updated_at = ? " +
+                        "WHERE user_id = ?",
+                mismatch.ledgerBalance(), mismatch.heldReservations(), Timestamp.valueOf(now), userId);
+        return mismatch;
+    }
+
+    /**
+     * 내역을 id 순으로 afterId 다음부터 최대 limit건 읽어 한 행씩 넘긴다 (읽은 건수 반환)
+     * 결과를 리스트로 모으지 않도록 forward-only/read-only 커서에 fetchSize를 주어 흘려 읽는다.
+     * MySQL은 접속 URL에 useCursorFetch=true가 있어야 fetchSize만큼씩 가져온다.
+     */
+    public long streamLedger(long afterId, int limit, int fetchSize, LedgerEntryHandler handler) {
+        long[] count = new long[1];
+        RowCallbackHandler rowHandler = rs -> {
+            String driveId = rs.getString(5);
+            handler.handle(rs.getLong(1), rs.getString(2), RewardType.valueOf(rs.getString(4)), rs.getLong(3), driveId);
+            count[0]++;
+        };
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(
+                    "SELECT id, user_id, amount, type, drive_id FROM reward WHERE id > ? ORDER BY id LIMIT ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, afterId);
+            statement.setInt(2, limit);
+            return statement;
+        }, rowHandler);
+        return count[0];
+    }
+
+    /**
+     * 사용자별 HELD 예약 합계
+     */
+    public Map<String, Long> sumHeldReservations() {
+        Map<String, Long> held = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, SUM(amount) FROM reward_reservation WHERE status = 'HELD' GROUP BY user_id",
+                rs -> {
+                    held.put(rs.getString(1), rs.getLong(2));
+                });
+        return held;
+    }
+
+    /**
+     * 다시 계산한 잔액을 배치 UPDATE로 덮어쓰고, 잔액 행이 없던 사용자는 배치 INSERT
+     *
+     * @return {갱신 건수, 추가 건수}
+     */
+    public int[] upsertBalances(List<RebuiltBalance> balances, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> updates = new ArrayList<>(balances.size());
+        for (RebuiltBalance balance : balances) {
+            updates.add(new Object[]{balance.balance(), balance.held(), timestamp, balance.userId()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE reward_balance SET balance = ?, held = ?, version = version + 1, updated_at = ? WHERE user_id = ?",
+                updates);
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                RebuiltBalance balance = balances.get(i);
+                inserts.add(new Object[]{balance.userId(), balance.balance(), balance.held(), timestamp, timestamp});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO reward_balance (user_id, balance, held, version, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, 0, ?, ?)", inserts);
+        }
+        return new int[]{balances.size() - inserts.size(), inserts.size()};
+    }
+
+    /**
+     * from 이상 cutoff 미만 내역의 (created_at, user_id) 키셋 청크 (after 다음부터, 처음이면 null)
+     * (created_at, user_id) 인덱스 범위만 읽으므로 청크마다 구간 전체를 다시 훑지 않는다.
+     * 같은 사용자가 여러 청크에 나올 수 있다 (이미 만든 체크포인트는 computeCheckpointBalances가 거른다).
+     */
+    public List<LedgerUserKey> findLedgerUsers(LocalDateTime from, LocalDateTime cutoff, LedgerUserKey after, int limit) {
+        Timestamp afterAt = Timestamp.valueOf(after != null ? after.createdAt() : from);
+        String afterUserId = after != null ? after.userId() : "";
+        return jdbcTemplate.query("SELECT DISTINCT r.created_at, r.user_id FROM reward r " +
+                        "WHERE r.created_at >= ? AND r.created_at < ? " +
+                        "AND (r.created_at > ? OR (r.created_at = ? AND r.user_id > ?)) " +
+                        "ORDER BY r.created_at, r.user_id LIMIT ?",
+                (rs, rowNum) -> new LedgerUserKey(rs.getTimestamp("created_at").toLocalDateTime(),
+                        rs.getString("user_id")),
+                Timestamp.valueOf(from), Timestamp.valueOf(cutoff), afterAt, afterAt, afterUserId, limit);
+    }
+
+    /**
+     * cutoff 직전 잔액 = cutoff 이전 마지막 체크포인트 + 그 뒤 cutoff 전까지의 내역 합계 (집계 쿼리 한 번)
+     * cutoff 체크포인트가 이미 있는 사용자는 뺀다.
+     */
+    public List<CheckpointBalance> computeCheckpointBalances(Collection<String> userIds, LocalDateTime cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds)
+                .addValue("cutoff", Timestamp.valueOf(cutoff));
+        return namedParameterJdbcTemplate.query("SELECT r.user_id, COALESCE(MAX(c.balance), 0) + SUM(" + LEDGER_DELTA +
+                        ") AS balance FROM reward r " +
+                        "LEFT JOIN (SELECT c.user_id, c.checkpoint_at, c.balance FROM reward_balance_checkpoint c " +
+                        "WHERE c.user_id IN (:userIds) AND c.checkpoint_at = (SELECT MAX(c2.checkpoint_at) " +
+                        "FROM reward_balance_checkpoint c2 WHERE c2.user_id = c.user_id AND c2.checkpoint_at < :cutoff)) c " +
+                        "ON c.user_id = r.user_id " +
+                        "WHERE r.user_id IN (:userIds) AND r.created_at < :cutoff " +
+                        "AND (c.checkpoint_at IS NULL OR r.created_at >= c.checkpoint_at) " +
+                        "AND NOT EXISTS (SELECT 1 FROM reward_balance_checkpoint x " +
+                        "WHERE x.user_id = r.user_id AND x.checkpoint_at = :cutoff) " +
+                        "GROUP BY r.user_id",
+                params,
+                (rs, rowNum) -> new CheckpointBalance(rs.getString("user_id"), rs.getLong("balance")));
+    }
+
+    public void insertCheckpoints(List<CheckpointBalance> balances, LocalDateTime cutoff, LocalDateTime now) {
+        List<Object[]> args = new ArrayList<>(balances.size());
+        for (CheckpointBalance balance : balances) {
+            args.add(new Object[]{balance.userId(), Timestamp.valueOf(cutoff), balance.balance(), Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reward_balance_checkpoint (user_id, checkpoint_at, balance, created_at) " +
+                "VALUES (?, ?, ?, ?)", args);
+    }
+
+    /**
+     * 사용자의 from 이상(null이면 처음부터) to 이하 내역 합계 ((user_id, created_at) 인덱스 범위 조회)
+     */
+    public long sumLedgerDelta(String userId, LocalDateTime from, LocalDateTime to) {
+        Long sum = from == null
+                ? jdbcTemplate.queryForObject("SELECT SUM(" + LEDGER_DELTA + ") FROM reward r " +
+                        "WHERE r.user_id = ? AND r.created_at <= ?", Long.class, userId, Timestamp.valueOf(to))
+                : jdbcTemplate.queryForObject("SELECT SUM(" + LEDGER_DELTA + ") FROM reward r " +
+                        "WHERE r.user_id = ? AND r.created_at >= ? AND r.created_at <= ?", Long.class,
+                userId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+        return sum == null ? 0 : sum;
+    }
+
+    private static BalanceMismatch mismatch(ResultSet rs) throws SQLException {
+        return new BalanceMismatch(rs.getString("user_id"), rs.getLong("balance"), rs.getLong("ledger_balance"),
+                rs.getLong("held"), rs.getLong("held_amount"));
+    }
+}
@@ -9,12 +9,15 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RewardRepository extends JpaRepository<Reward, Long> {
 
+    Optional<Reward> findByOrderId(String orderId);
+
     @Query("SELECT r FROM Reward r LEFT JOIN FETCH r.rewardBalance WHERE r.userId = :userId ORDER BY r.createdAt DESC")
     Page<Reward> findByUserIdOrderByCreatedAtDesc(@Param("userId") String userId, Pageable pageable);
 
@@ -99,4 +102,41 @@ public interface RewardRepository extends JpaRepository<Reward, Long> {
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end
     );
-}
\ No newline at end of file
+
+    // 리더보드 재구성용: 기간 내 사용자별 적립 합계 키셋 조회 (userId 순, 주행 적립 취소는 뺀다)
+    @Query("SELECT new com.modive.rewardservice.repository.UserBalanceRow(r.userId, " +
+            "SUM(CASE WHEN r.type = 'EARNED' THEN r.amount ELSE -r.amount END)) " +
+            "FROM Reward r " +
+            "WHERE (r.type = 'EARNED' OR (r.type = 'CANCELED' AND r.driveId IS NOT NULL)) " +
+            "AND r.createdAt >= :start AND r.createdAt < :end " +
+            "AND r.userId > :afterUserId " +
+            "GROUP BY r.userId ORDER BY r.userId")
+    List<UserBalanceRow> sumEarnedByUserBetween(@Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end,
+                                                @Param("afterUserId") String afterUserId,
+                                                Pageable pageable);
+
+    // 주행 적립 취소용: 아직 취소되지 않은 주행의 사용자별 적립 합계 (userId, driveId 순)
+    @Query("SELECT new com.modive.rewardservice.repository.DriveRewardRow(r.userId, r.driveId, SUM(r.amount)) " +
+            "FROM Reward r " +
+            "WHERE r.type = 'EARNED' AND r.driveId IN :driveIds " +
+            "AND NOT EXISTS (SELECT 1 FROM Reward c WHERE c.type = 'CANCELED' AND c.driveId = r.driveId) " +
+            "GROUP BY r.userId, r.driveId ORDER BY r.userId, r.driveId")
+    List<DriveRewardRow> sumUnreversedEarnedByDriveIdIn(@Param("driveIds") Collection<String> driveIds);
+
+    /**
+     * 소멸 계산용 사용자별 합계: cutoff 이전 적립, 지금까지 빠져나간 씨앗
+     * cutoff 이전 적립 = cutoff 이전 적립 - 그 적립을 취소한 주행 적립 취소 (취소는 자기 적립만 없앤다)
+     * 빠져나간 씨앗 = 사용 + 소멸 - 예약 취소/만료로 돌려받은 씨앗
+     */
+    @Query("SELECT new com.modive.rewardservice.repository.ExpirableRow(r.userId, " +
+            "SUM(CASE WHEN r.type = 'EARNED' AND r.createdAt < :cutoff THEN r.amount " +
+            "WHEN r.type = 'CANCELED' AND r.driveId IS NOT NULL AND EXISTS (SELECT 1 FROM Reward e " +
+            "WHERE e.type = 'EARNED' AND e.userId = r.userId AND e.driveId = r.driveId AND e.createdAt < :cutoff) " +
+            "THEN -r.amount ELSE 0L END), " +
+            "SUM(CASE WHEN r.type = 'USED' OR r.type = 'EXPIRED' THEN r.amount " +
+            "WHEN r.type = 'CANCELED' AND r.driveId IS NULL THEN -r.amount ELSE 0L END)) " +
+            "FROM Reward r WHERE r.userId IN :userIds GROUP BY r.userId")
+    List<ExpirableRow> sumExpirableByUserIdIn(@Param("userIds") Collection<String> userIds,
+                                              @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,33 @@
+package com.modive.rewardservice.repository;
+
+import com.modive.rewardservice.domain.ReservationStatus;
+import com.modive.rewardservice.domain.RewardReservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RewardReservationRepository extends JpaRepository<RewardReservation, Long> {
+
+    Optional<RewardReservation> findByOrderId(String orderId);
+
+    /**
+     * HELD 상태일 때만 상태 변경 (확정/취소/만료가 겹쳐도 하나만 성공)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RewardReservation r SET r.status = :status, r.updatedAt = :now " +
+            "WHERE r.id = :id AND r.status = com.modive.rewardservice.domain.ReservationStatus.HELD")
+    int transitionFromHeld(@Param("id") Long id, @Param("status") ReservationStatus status,
+                           @Param("now") LocalDateTime now);
+
+    // 만료된 HELD 예약 (status, expires_at 인덱스 범위 조회)
+    @Query("SELECT r.id FROM RewardReservation r " +
+            "WHERE r.status = com.modive.rewardservice.domain.ReservationStatus.HELD AND r.expiresAt <= :now " +
+            "ORDER BY r.expiresAt")
+    List<Long> findExpiredHeldIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,10 @@
+package com.modive.rewardservice.repository;
+
+/**
+ * 잔액 일괄 조회용 프로젝션 (영속성 컨텍스트에 올리지 않음)
+ */
+public record UserBalanceRow(
+        String userId,
+        Long balance
+) {
+}
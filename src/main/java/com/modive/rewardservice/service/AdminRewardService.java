@@ -9,17 +9,17 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
-import com.modive.rewardservice.client.UserClient;
 import com.modive.rewardservice.domain.Reward;
 import com.modive.rewardservice.domain.RewardReason;
 import com.modive.rewardservice.dto.AdminRewardDto;
@@ -31,18 +31,21 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@EnableFeignClients(basePackages = "com.modive.rewardservice.client")
 public class AdminRewardService {
 
+    // 관리자 집계 쿼리 타임아웃(초): 무거운 집계가 읽기 풀 커넥션을 오래 잡지 않도록
+    private static final String STATEMENT_TIMEOUT = "${reward.bulkhead.admin.statement-timeout:30}";
+
     private final RewardRepository rewardRepository;
-    private final UserClient userClient;
+    private final UserLookupService userLookupService;
+    private final DistinctUserCounter distinctUserCounter;
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public long getTotalIssued() {
         return rewardRepository.getTotalIssued();
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public double getChangeRate() {
         LocalDate today = LocalDate.now();
         LocalDate yesterday = today.minusDays(1);
@@ -64,7 +67,7 @@ public class AdminRewardService {
         return Math.round(((double) (todayCount - yesterdayCount) / yesterdayCount) * 1000) / 10.0;
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public long getCurrentMonthIssued() {
         YearMonth currentMonth = YearMonth.now();
         LocalDateTime start = currentMonth.atDay(1).atStartOfDay();
@@ -72,7 +75,7 @@ public class AdminRewardService {
         return rewardRepository.countIssuedBetween(start, end);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public double getMonthlyChangeRate() {
         YearMonth currentMonth = YearMonth.now();
         YearMonth previousMonth = currentMonth.minusMonths(1);
@@ -92,7 +95,7 @@ public class AdminRewardService {
         return Math.round(((double) (currentCount - prevCount) / prevCount) * 1000) / 10.0;
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public double getDailyAverageChangeRate() {
         LocalDate today = LocalDate.now();
 
@@ -111,7 +114,7 @@ public class AdminRewardService {
         return Math.round(((double) (todayCount - yesterdayCount) / yesterdayCount) * 1000) / 10.0;
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public double getCurrentDailyAverageIssued() {
         LocalDate today = LocalDate.now();
         LocalDateTime start = today.atStartOfDay();
@@ -119,30 +122,31 @@ public class AdminRewardService {
         return (double) rewardRepository.countIssuedBetween(start, end);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public double getCurrentPerUserAverageIssued() {
-        LocalDateTime start = LocalDate.now().atStartOfDay();
-        LocalDateTime end = LocalDate.now().atTime(23, 59, 59);
+        LocalDate today = LocalDate.now();
+        LocalDateTime start = today.atStartOfDay();
+        LocalDateTime end = today.atTime(23, 59, 59);
         long todayRewards = rewardRepository.countIssuedBetween(start, end);
-        long todayUsers = rewardRepository.countDistinctUsersBetween(start, end);
+        long todayUsers = distinctUserCounter.countDistinctEarnedUsers(today, today);
 
         if (todayUsers == 0) return 0.0;
         return Math.round((double) todayRewards * 10 / todayUsers) / 10.0;
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public double getPerUserAverageChangeRate() {
         LocalDate today = LocalDate.now();
         LocalDateTime todayStart = today.atStartOfDay();
         LocalDateTime todayEnd = today.atTime(23, 59, 59);
         long todayRewards = rewardRepository.countIssuedBetween(todayStart, todayEnd);
-        long todayUsers = rewardRepository.countDistinctUsersBetween(todayStart, todayEnd);
+        long todayUsers = distinctUserCounter.countDistinctEarnedUsers(today, today);
         double todayAverage = todayUsers == 0 ? 0.0 : (double) todayRewards / todayUsers;
 
         LocalDateTime yesterdayStart = today.minusDays(1).atStartOfDay();
         LocalDateTime yesterdayEnd = today.minusDays(1).atTime(23, 59, 59);
         long yesterdayRewards = rewardRepository.countIssuedBetween(yesterdayStart, yesterdayEnd);
-        long yesterdayUsers = rewardRepository.countDistinctUsersBetween(yesterdayStart, yesterdayEnd);
+        long yesterdayUsers = distinctUserCounter.countDistinctEarnedUsers(today.minusDays(1), today.minusDays(1));
         double yesterdayAverage = yesterdayUsers == 0 ? 0.0 : (double) yesterdayRewards / yesterdayUsers;
 
         if (yesterdayAverage == 0) {
@@ -152,7 +156,7 @@ public class AdminRewardService {
         return Math.round(((todayAverage - yesterdayAverage) / yesterdayAverage) * 1000) / 10.0;
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     @Cacheable(value = "totalRewardStats", unless = "#result.totalRewardStatistics.isEmpty()")
     public AdminRewardDto.TotalReasonStatsResponse getTotalRewardStats() {
         try {
@@ -176,7 +180,7 @@ public class AdminRewardService {
         }
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     @Cacheable(value = "monthlyReasonStats", key = "#month != null ? #month : T(java.time.LocalDate).now().format(T(java.time.format.DateTimeFormatter).ofPattern('yyyy-MM'))")
     public AdminRewardDto.MonthlyReasonStatsResponse getMonthlyRewardStatsByReason(String month) {
         try {
@@ -203,7 +207,7 @@ public class AdminRewardService {
         }
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     @Cacheable(value = "monthlyRewardTrends", unless = "#result.monthlyRewardStatistics.isEmpty()")
     public AdminRewardDto.MonthlyStatsResponse getMonthlyRewardTrends() {
         try {
@@ -237,13 +241,13 @@ public class AdminRewardService {
         }
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public Page<AdminRewardDto.AllRewardHistoryResponse.RewardHistoryItem> getAllRewardHistory(Pageable pageable) {
         try {
             Page<Reward> rewardPage = rewardRepository.findAllByOrderByCreatedAtDesc(pageable);
 
             return rewardPage.map(reward -> {
-                RewardReason reasonEnum = RewardReason.fromDescription(reward.getDescription());
+                RewardReason reasonEnum = reward.getReason();
                 return AdminRewardDto.AllRewardHistoryResponse.RewardHistoryItem.builder()
                         .rewardId("SEED_" + reward.getId())
                         .userId(reward.getUserId())
@@ -258,8 +262,8 @@ public class AdminRewardService {
         }
     }
 
-    // 🔧 수정: 필터링 메서드 - userId 기반으로 간소화
-    @Transactional(readOnly = true)
+    // 🔧 수정: 필터링 메서드 - 이메일이 주어지면 user-service(캐시)로 userId를 찾아 검색
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public AdminRewardDto.RewardFilterResponse filterRewards(
             String userId,
             String email,
@@ -274,8 +278,17 @@ public class AdminRewardService {
                 throw new IllegalArgumentException("시작일은 종료일보다 이전이어야 합니다.");
             }
 
+            String targetUserId = userId;
+            if (StringUtils.hasText(email)) {
+                Optional<String> foundUserId = userLookupService.findUserIdByEmail(email.trim());
+                if (foundUserId.isEmpty()) {
+                    return AdminRewardDto.RewardFilterResponse.empty();
+                }
+                targetUserId = foundUserId.get();
+            }
+
             Page<Reward> page = rewardRepository.filterRewards(
-                    userId,
+                    targetUserId,
                     description,
                     startDate != null ? startDate.atStartOfDay() : null,
                     endDate != null ? endDate.plusDays(1).atStartOfDay().minusNanos(1) : null,
@@ -291,7 +304,7 @@ public class AdminRewardService {
         }
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public AdminRewardDto.RewardsByDriveResponse getRewardsByDrive(AdminRewardDto.RewardsByDriveRequest request) {
         try {
             if (CollectionUtils.isEmpty(request.getDriveIds())) {
@@ -315,18 +328,22 @@ public class AdminRewardService {
         }
     }
 
-    // 🔧 수정: 간소화된 헬퍼 메서드 - email 조회 없이 userId 직접 사용
+    // 🔧 수정: 페이지 단위로 이메일을 한 번에 조회해 매핑
     private List<AdminRewardDto.FilteredReward> mapToFilteredRewards(List<Reward> rewards) {
         if (CollectionUtils.isEmpty(rewards)) {
             return Collections.emptyList();
         }
 
+        Map<String, String> emails = userLookupService.findEmailsByUserIds(
+                rewards.stream().map(Reward::getUserId).toList());
+
         return rewards.stream()
                 .map(reward -> {
-                    RewardReason reasonEnum = RewardReason.fromDescription(reward.getDescription());
+                    RewardReason reasonEnum = reward.getReason();
                     return AdminRewardDto.FilteredReward.builder()
                             .rewardId("SEED_" + reward.getId())
                             .userId(reward.getUserId()) // 🔧 email → userId로 변경
+                            .email(emails.get(reward.getUserId()))
                             .issuedDate(reward.getCreatedAt())
                             .reason(reasonEnum.getLabel())
                             .amount(reward.getAmount().intValue())
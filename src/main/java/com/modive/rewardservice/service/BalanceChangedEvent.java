@@ -0,0 +1,27 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.RewardType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 씨앗 잔액 변경 이벤트 (변경 트랜잭션 안에서 발행, 리스너는 커밋 후 처리)
+ *
+ * @param amount        변동량 (항상 양수, 방향은 type)
+ * @param balance       변경 후 잔액
+ * @param occurredAt    변경 시각 (내역 행의 created_at 이후)
+ * @param driveReversal 주행 적립 취소(driveId가 있는 CANCELED) 여부 → 적립 합계에서 뺀다
+ */
+public record BalanceChangedEvent(
+        String userId,
+        RewardType type,
+        long amount,
+        long balance,
+        LocalDateTime occurredAt,
+        boolean driveReversal
+) {
+
+    public BalanceChangedEvent(String userId, RewardType type, long amount, long balance, LocalDateTime occurredAt) {
+        this(userId, type, amount, balance, occurredAt, false);
+    }
+}
@@ -0,0 +1,131 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.BalanceCheckpoint;
+import com.modive.rewardservice.repository.BalanceCheckpointRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.CheckpointBalance;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.LedgerUserKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일일 잔액 체크포인트와 시점 잔액 조회
+ * 매일 cutoff(당일 0시) 기준으로 직전 lookback-days일 동안 내역이 생긴 사용자만 체크포인트를 남긴다.
+ * 대상 사용자는 (created_at, user_id) 인덱스를 구간 순서대로 한 번 훑어 찾는다.
+ * 체크포인트 잔액은 이전 체크포인트 + 그 뒤 내역 합계로 계산하므로 사용자 전체 내역을 다시 읽지 않는다.
+ * 시점 잔액은 그 시점 이전 마지막 체크포인트 한 건 + 이후 내역((user_id, created_at) 인덱스 범위)으로 구한다.
+ * 체크포인트는 조회를 줄이는 용도일 뿐이라 하루 빠져도 결과는 같고 꼬리 구간만 길어진다.
+ */
+@Slf4j
+@Service
+public class BalanceCheckpointService {
+
+    private final RewardLedgerJdbcRepository ledgerJdbcRepository;
+    private final BalanceCheckpointRepository checkpointRepository;
+    private final TransactionOperations transaction;
+    private final TransactionOperations readOnlyTransaction;
+    private final Clock clock;
+    private final int lookbackDays;
+    private final int chunkSize;
+
+    @Autowired
+    public BalanceCheckpointService(RewardLedgerJdbcRepository ledgerJdbcRepository,
+                                    BalanceCheckpointRepository checkpointRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${reward.bulkhead.admin.statement-timeout:30}") int timeoutSeconds,
+                                    @Value("${reward.balance-checkpoint.lookback-days:1}") int lookbackDays,
+                                    @Value("${reward.balance-checkpoint.chunk-size:1000}") int chunkSize) {
+        this(ledgerJdbcRepository, checkpointRepository, transaction(transactionManager, timeoutSeconds, false),
+                transaction(transactionManager, timeoutSeconds, true), Clock.systemDefaultZone(), lookbackDays, chunkSize);
+    }
+
+    BalanceCheckpointService(RewardLedgerJdbcRepository ledgerJdbcRepository,
+                             BalanceCheckpointRepository checkpointRepository, TransactionOperations transaction,
+                             TransactionOperations readOnlyTransaction, Clock clock, int lookbackDays, int chunkSize) {
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transaction = transaction;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.clock = clock;
+        this.lookbackDays = Math.max(1, lookbackDays);
+        this.chunkSize = chunkSize;
+    }
+
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds,
+                                                     boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    @Scheduled(cron = "${reward.balance-checkpoint.cron:0 10 0 * * *}")
+    public void scheduledRun() {
+        run(LocalDate.now(clock));
+    }
+
+    /**
+     * runDate 0시 기준 체크포인트 생성 (이미 만든 사용자는 건너뜀)
+     *
+     * @return 새로 만든 체크포인트 수
+     */
+    public synchronized long run(LocalDate runDate) {
+        LocalDateTime cutoff = runDate.atStartOfDay();
+        LocalDateTime from = cutoff.minusDays(lookbackDays);
+        long startedAt = System.nanoTime();
+        long written = 0;
+        LedgerUserKey afterKey = null;
+        while (true) {
+            LedgerUserKey after = afterKey;
+            List<LedgerUserKey> keys = readOnlyTransaction.execute(status ->
+                    ledgerJdbcRepository.findLedgerUsers(from, cutoff, after, chunkSize));
+            if (keys.isEmpty()) {
+                break;
+            }
+            List<String> userIds = List.copyOf(new LinkedHashSet<>(keys.stream().map(LedgerUserKey::userId).toList()));
+            try {
+                written += transaction.execute(status -> {
+                    List<CheckpointBalance> balances = ledgerJdbcRepository.computeCheckpointBalances(userIds, cutoff);
+                    ledgerJdbcRepository.insertCheckpoints(balances, cutoff, LocalDateTime.now(clock));
+                    return balances.size();
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 다른 인스턴스가 같은 청크를 먼저 썼다
+                log.warn("Balance checkpoints for {} users after {} already written", userIds.size(), after);
+            }
+            if (keys.size() < chunkSize) {
+                break;
+            }
+            afterKey = keys.get(keys.size() - 1);
+        }
+        log.info("Balance checkpoint at {}: {} users ({} ms)", cutoff, written, (System.nanoTime() - startedAt) / 1_000_000);
+        return written;
+    }
+
+    /**
+     * at 시점 사용 가능 잔액 (at 이하에 생긴 내역까지)
+     */
+    public long getBalanceAt(String userId, LocalDateTime at) {
+        return readOnlyTransaction.execute(status -> {
+            Optional<BalanceCheckpoint> checkpoint = checkpointRepository
+                    .findTopByUserIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(userId, at);
+            long base = checkpoint.map(BalanceCheckpoint::getBalance).orElse(0L);
+            LocalDateTime from = checkpoint.map(BalanceCheckpoint::getCheckpointAt).orElse(null);
+            return base + ledgerJdbcRepository.sumLedgerDelta(userId, from, at);
+        });
+    }
+}
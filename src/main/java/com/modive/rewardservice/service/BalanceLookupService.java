@@ -0,0 +1,97 @@
+package com.modive.rewardservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.UserBalanceRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 여러 사용자의 씨앗 잔액 일괄 조회 (리더보드/상점 등 다른 서비스용)
+ * 캐시 미스만 chunkSize 단위 IN 쿼리로 조회하고, 잔액 행이 없는 사용자는 0으로 채운다.
+ * 잔액이 바뀌면 커밋 후 해당 사용자를 캐시에서 지운다.
+ * 변경 커밋과 동시에 진행 중이던 조회가 이전 값을 넣을 수 있으므로 ttl로 최대 지연을 제한한다.
+ *
+ * 메트릭: cache.gets / cache.puts / cache.evictions {cache=rewardBalance}
+ */
+@Service
+public class BalanceLookupService {
+
+    private static final String STATEMENT_TIMEOUT = "${reward.bulkhead.user.statement-timeout:5}";
+
+    private final RewardBalanceRepository rewardBalanceRepository;
+    private final int chunkSize;
+
+    // userId → 잔액
+    private final Cache<String, Long> balances;
+
+    @Autowired
+    public BalanceLookupService(RewardBalanceRepository rewardBalanceRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${reward.balance-cache.ttl:30s}") Duration ttl,
+                                @Value("${reward.balance-cache.max-size:100000}") long maxSize,
+                                @Value("${reward.balance-cache.chunk-size:500}") int chunkSize) {
+        this(rewardBalanceRepository, meterRegistry, ttl, maxSize, chunkSize, Ticker.systemTicker());
+    }
+
+    BalanceLookupService(RewardBalanceRepository rewardBalanceRepository, MeterRegistry meterRegistry,
+                         Duration ttl, long maxSize, int chunkSize, Ticker ticker) {
+        this.rewardBalanceRepository = rewardBalanceRepository;
+        this.chunkSize = chunkSize;
+        this.balances = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, balances, "rewardBalance");
+    }
+
+    /**
+     * 사용자 ID 목록의 잔액 일괄 조회 (요청 순서 유지, 중복/빈 ID 제외)
+     */
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
+    public Map<String, Long> getBalances(Collection<String> userIds) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String userId : userIds) {
+            if (StringUtils.hasText(userId)) {
+                distinct.add(userId);
+            }
+        }
+        Map<String, Long> cached = balances.getAll(distinct, this::loadBalances);
+        Map<String, Long> result = new LinkedHashMap<>();
+        distinct.forEach(userId -> result.put(userId, cached.getOrDefault(userId, 0L)));
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        balances.invalidate(event.userId());
+    }
+
+    private Map<String, Long> loadBalances(Set<? extends String> userIds) {
+        List<String> ids = new ArrayList<>(userIds);
+        Map<String, Long> result = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            for (UserBalanceRow row : rewardBalanceRepository.findBalancesByUserIdIn(chunk)) {
+                result.put(row.userId(), row.balance());
+            }
+        }
+        // 잔액 행이 없는 사용자도 0으로 캐시해 반복 조회를 막는다
+        ids.forEach(userId -> result.putIfAbsent(userId, 0L));
+        return result;
+    }
+}
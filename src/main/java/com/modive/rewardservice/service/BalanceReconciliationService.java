@@ -0,0 +1,232 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.BatchJobStatus;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.exception.BatchJobNotFoundException;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.BalanceMismatch;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잔액 대사 (reward_balance vs 내역/예약)
+ * 사용 가능 잔액 = 적립 + 예약 취소/만료 - 사용 - 소멸 - 주행 적립 취소, 묶인 잔액 = HELD 예약 합계여야 한다.
+ * reward_balance를 id 범위(range-size)로 나눠 workers개 스레드에서 범위당 집계 쿼리 한 번으로 비교하고,
+ * 어긋난 사용자만 보고한다. 집계는 읽기 전용 트랜잭션(레플리카)에서 하므로 쓰기 풀을 쓰지 않는다.
+ * repair를 켜면 사용자마다 잔액 행을 잠그고 다시 집계해 아직 어긋나 있을 때만 내역 기준으로 맞춘다
+ * (레플리카 지연이나 진행 중이던 적립으로 생긴 일시적 차이는 고치지 않는다).
+ * 고친 잔액은 잔액 캐시 ttl과 리더보드 재구성 주기 안에 반영된다.
+ */
+@Slf4j
+@Service
+public class BalanceReconciliationService {
+
+    static final int MAX_RETAINED_JOBS = 20;
+
+    private final RewardLedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionOperations readOnlyTransaction;
+    private final TransactionOperations transaction;
+    private final ExecutorService coordinator;
+    private final ExecutorService workerPool;
+    private final Clock clock;
+    private final int rangeSize;
+    private final int maxReported;
+
+    private final Map<String, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    });
+    private Job current;
+
+    @Autowired
+    public BalanceReconciliationService(RewardLedgerJdbcRepository ledgerJdbcRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${reward.bulkhead.admin.statement-timeout:30}") int timeoutSeconds,
+                                        @Value("${reward.reconciliation.workers:4}") int workers,
+                                        @Value("${reward.reconciliation.range-size:10000}") int rangeSize,
+                                        @Value("${reward.reconciliation.max-reported:1000}") int maxReported) {
+        this(ledgerJdbcRepository, readOnly(transactionManager, timeoutSeconds),
+                transaction(transactionManager, timeoutSeconds), workers, Clock.systemDefaultZone(), rangeSize, maxReported);
+    }
+
+    BalanceReconciliationService(RewardLedgerJdbcRepository ledgerJdbcRepository,
+                                 TransactionOperations readOnlyTransaction, TransactionOperations transaction,
+                                 int workers, Clock clock, int rangeSize, int maxReported) {
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.rangeSize = rangeSize;
+        this.maxReported = maxReported;
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> daemon(runnable, "reward-reconciliation"));
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(Math.max(1, workers),
+                runnable -> daemon(runnable, "reward-reconciliation-" + threadIndex.incrementAndGet()));
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager, int timeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * 대사 작업 등록 (진행 중인 작업이 있으면 그 작업을 반환)
+     */
+    public synchronized AdminRewardDto.ReconciliationResponse start(boolean repair) {
+        if (current != null && (current.status == BatchJobStatus.QUEUED || current.status == BatchJobStatus.RUNNING)) {
+            return current.toResponse();
+        }
+        Job job = new Job(UUID.randomUUID().toString(), repair, LocalDateTime.now(clock), maxReported);
+        jobs.put(job.id, job);
+        current = job;
+        coordinator.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    public AdminRewardDto.ReconciliationResponse getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new BatchJobNotFoundException(jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(Job job) {
+        job.status = BatchJobStatus.RUNNING;
+        long startedAt = System.nanoTime();
+        try {
+            long[] idRange = readOnlyTransaction.execute(status -> ledgerJdbcRepository.findBalanceIdRange());
+            List<CompletableFuture<Void>> ranges = new ArrayList<>();
+            if (idRange != null) {
+                job.totalRanges = (int) ((idRange[1] - idRange[0]) / rangeSize + 1);
+                for (long afterId = idRange[0] - 1; afterId < idRange[1]; afterId += rangeSize) {
+                    long from = afterId;
+                    long to = Math.min(idRange[1], afterId + rangeSize);
+                    ranges.add(CompletableFuture.runAsync(() -> reconcileRange(job, from, to), workerPool));
+                }
+            }
+            CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new)).join();
+            job.status = BatchJobStatus.COMPLETED;
+            log.info("Reconciliation {} found {} mismatched balances, repaired {} ({} ranges, {} ms)",
+                    job.id, job.mismatchCount.get(), job.repairedCount.get(), job.totalRanges,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            job.status = BatchJobStatus.FAILED;
+            log.warn("Reconciliation {} failed after {} of {} ranges", job.id, job.scannedRanges.get(), job.totalRanges, e);
+        } finally {
+            job.finishedAt = LocalDateTime.now(clock);
+        }
+    }
+
+    private void reconcileRange(Job job, long afterId, long toId) {
+        List<BalanceMismatch> mismatches = readOnlyTransaction.execute(status ->
+                ledgerJdbcRepository.findMismatches(afterId, toId));
+        for (BalanceMismatch mismatch : mismatches) {
+            log.warn("Balance mismatch for user {}: balance={} ledger={} held={} reservations={}", mismatch.userId(),
+                    mismatch.balance(), mismatch.ledgerBalance(), mismatch.held(), mismatch.heldReservations());
+            job.report(mismatch);
+            if (job.repair) {
+                BalanceMismatch repaired = transaction.execute(status ->
+                        ledgerJdbcRepository.repair(mismatch.userId(), LocalDateTime.now(clock)));
+                if (repaired != null) {
+                    job.repairedCount.incrementAndGet();
+                }
+            }
+        }
+        job.scannedRanges.incrementAndGet();
+    }
+
+    private static final class Job {
+        final String id;
+        final boolean repair;
+        final LocalDateTime requestedAt;
+        final int maxReported;
+        final List<BalanceMismatch> reported = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger scannedRanges = new AtomicInteger();
+        final AtomicLong mismatchCount = new AtomicLong();
+        final AtomicLong repairedCount = new AtomicLong();
+        volatile BatchJobStatus status = BatchJobStatus.QUEUED;
+        volatile int totalRanges;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+
+        Job(String id, boolean repair, LocalDateTime requestedAt, int maxReported) {
+            this.id = id;
+            this.repair = repair;
+            this.requestedAt = requestedAt;
+            this.maxReported = maxReported;
+        }
+
+        void report(BalanceMismatch mismatch) {
+            if (mismatchCount.incrementAndGet() <= maxReported) {
+                reported.add(mismatch);
+            }
+        }
+
+        AdminRewardDto.ReconciliationResponse toResponse() {
+            List<AdminRewardDto.BalanceMismatch> mismatches;
+            synchronized (reported) {
+                mismatches = reported.stream()
+                        .map(mismatch -> AdminRewardDto.BalanceMismatch.builder()
+                                .userId(mismatch.userId())
+                                .balance(mismatch.balance())
+                                .ledgerBalance(mismatch.ledgerBalance())
+                                .held(mismatch.held())
+                                .heldReservations(mismatch.heldReservations())
+                                .build())
+                        .toList();
+            }
+            return AdminRewardDto.ReconciliationResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .repair(repair)
+                    .totalRanges(totalRanges)
+                    .scannedRanges(scannedRanges.get())
+                    .mismatchCount(mismatchCount.get())
+                    .repairedCount(repairedCount.get())
+                    .mismatches(mismatches)
+                    .requestedAt(requestedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
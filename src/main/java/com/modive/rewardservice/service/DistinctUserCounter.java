@@ -0,0 +1,228 @@
+package com.modive.rewardservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.repository.DistinctUserSketchJdbcRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기간별 적립 사용자 수 (COUNT(DISTINCT user_id) 대신 일/월 HyperLogLog 스케치 합치기)
+ * - 적립 커밋 후 사용자 ID를 그 날짜/월 스케치에 넣어 두고 flush-interval마다 DB 스케치와 합쳐 쓴다.
+ * - 조회는 범위를 온전한 월과 나머지 일로 나눠 스케치를 합친다 (저장본은 cache-ttl 동안 캐시, 아직 안 쓴 분도 합침).
+ * - 스케치가 없는 기간(도입 전, 첫 flush 전)은 처음 한 번 내역의 적립 사용자로 채워 저장한다.
+ * 추정치라 오차가 약 0.8% 있다. mode=exact면 스케치를 쓰지 않고 기존 COUNT(DISTINCT) 쿼리로 센다.
+ * 다른 인스턴스가 아직 쓰지 않은 분은 최대 flush-interval만큼 늦게 반영된다.
+ */
+@Slf4j
+@Service
+public class DistinctUserCounter {
+
+    private final DistinctUserSketchJdbcRepository sketchRepository;
+    private final RewardRepository rewardRepository;
+    private final TransactionOperations transaction;
+    private final Clock clock;
+    private final boolean exact;
+
+    // 아직 DB에 쓰지 않은 스케치 (기간 키 → 스케치, 키 단위 compute로만 건드린다)
+    private final ConcurrentHashMap<String, HyperLogLog> pending = new ConcurrentHashMap<>();
+    // DB에 저장된 스케치 바이트
+    private final Cache<String, byte[]> stored;
+
+    @Autowired
+    public DistinctUserCounter(DistinctUserSketchJdbcRepository sketchRepository,
+                               RewardRepository rewardRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${reward.bulkhead.admin.statement-timeout:30}") int timeoutSeconds,
+                               @Value("${reward.distinct-users.mode:sketch}") String mode,
+                               @Value("${reward.distinct-users.cache-ttl:PT1M}") Duration cacheTtl) {
+        this(sketchRepository, rewardRepository, transaction(transactionManager, timeoutSeconds),
+                Clock.systemDefaultZone(), "exact".equalsIgnoreCase(mode), cacheTtl);
+    }
+
+    DistinctUserCounter(DistinctUserSketchJdbcRepository sketchRepository, RewardRepository rewardRepository,
+                        TransactionOperations transaction, Clock clock, boolean exact, Duration cacheTtl) {
+        this.sketchRepository = sketchRepository;
+        this.rewardRepository = rewardRepository;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.exact = exact;
+        this.stored = Caffeine.newBuilder()
+                .maximumSize(400)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 스케치 쓰기는 항상 새 쓰기 트랜잭션에서 한다
+     * (관리자 통계의 readOnly 트랜잭션 안에서 조회하다 채워 쓸 때 읽기 풀로 라우팅되지 않도록)
+     */
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        if (exact || event.type() != RewardType.EARNED) {
+            return;
+        }
+        LocalDate day = event.occurredAt().toLocalDate();
+        offer(dayKey(day), event.userId());
+        offer(monthKey(YearMonth.from(day)), event.userId());
+    }
+
+    private void offer(String periodKey, String userId) {
+        pending.compute(periodKey, (key, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.offer(userId);
+            return target;
+        });
+    }
+
+    /**
+     * from ~ to(포함) 사이 하루라도 적립한 사용자 수
+     */
+    public long countDistinctEarnedUsers(LocalDate from, LocalDate to) {
+        if (exact) {
+            return rewardRepository.countDistinctUsersBetween(from.atStartOfDay(), to.atTime(23, 59, 59));
+        }
+        List<String> periodKeys = periodKeys(from, to);
+        if (periodKeys.isEmpty()) {
+            return 0;
+        }
+        HyperLogLog union = new HyperLogLog();
+        stored.getAll(periodKeys, this::loadSketches).values()
+                .forEach(bytes -> union.merge(HyperLogLog.fromBytes(bytes)));
+        for (String periodKey : periodKeys) {
+            pending.computeIfPresent(periodKey, (key, sketch) -> {
+                union.merge(sketch);
+                return sketch;
+            });
+        }
+        return union.estimate();
+    }
+
+    /**
+     * 범위를 온전히 포함된 월은 월 키로, 나머지는 일 키로 나눈다 (오늘 이후는 제외)
+     */
+    private List<String> periodKeys(LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate last = to.isAfter(today) ? today : to;
+        List<String> periodKeys = new ArrayList<>();
+        LocalDate day = from;
+        while (!day.isAfter(last)) {
+            YearMonth month = YearMonth.from(day);
+            if (day.getDayOfMonth() == 1 && !month.atEndOfMonth().isAfter(to)) {
+                periodKeys.add(monthKey(month));
+                day = month.plusMonths(1).atDay(1);
+            } else {
+                periodKeys.add(dayKey(day));
+                day = day.plusDays(1);
+            }
+        }
+        return periodKeys;
+    }
+
+    private Map<String, byte[]> loadSketches(Set<? extends String> periodKeys) {
+        Map<String, byte[]> sketches = new HashMap<>(sketchRepository.findSketches(new ArrayList<>(periodKeys)));
+        for (String periodKey : periodKeys) {
+            if (!sketches.containsKey(periodKey)) {
+                sketches.put(periodKey, writeSketch(periodKey, new HyperLogLog()));
+            }
+        }
+        return sketches;
+    }
+
+    /**
+     * 아직 DB에 쓰지 않은 스케치를 저장된 스케치와 합쳐 쓴다 (실패한 키는 다음 주기에 다시)
+     */
+    @Scheduled(initialDelayString = "${reward.distinct-users.flush-interval:PT1M}",
+            fixedDelayString = "${reward.distinct-users.flush-interval:PT1M}")
+    @PreDestroy
+    public void flush() {
+        for (String periodKey : new ArrayList<>(pending.keySet())) {
+            HyperLogLog sketch = pending.remove(periodKey);
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                stored.put(periodKey, writeSketch(periodKey, sketch));
+            } catch (RuntimeException e) {
+                pending.merge(periodKey, sketch, HyperLogLog::merge);
+                log.warn("Failed to flush distinct user sketch {}", periodKey, e);
+            }
+        }
+    }
+
+    /**
+     * 저장된 스케치를 잠그고 합쳐 쓴다 (없으면 그 기간 내역의 적립 사용자로 채워 새로 만든다)
+     *
+     * @return 저장된 스케치 바이트
+     */
+    private byte[] writeSketch(String periodKey, HyperLogLog sketch) {
+        try {
+            return transaction.execute(status -> {
+                LocalDateTime now = LocalDateTime.now(clock);
+                byte[] current = sketchRepository.lockSketch(periodKey);
+                if (current != null) {
+                    byte[] merged = HyperLogLog.fromBytes(current).merge(sketch).toBytes();
+                    sketchRepository.updateSketch(periodKey, merged, now);
+                    return merged;
+                }
+                LocalDateTime[] range = range(periodKey);
+                sketchRepository.forEachEarnedUser(range[0], range[1], sketch::offer);
+                byte[] created = sketch.toBytes();
+                sketchRepository.insertSketch(periodKey, created, now);
+                return created;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 만들었다 → 그 행에 합친다
+            return transaction.execute(status -> {
+                byte[] merged = HyperLogLog.fromBytes(sketchRepository.lockSketch(periodKey)).merge(sketch).toBytes();
+                sketchRepository.updateSketch(periodKey, merged, LocalDateTime.now(clock));
+                return merged;
+            });
+        }
+    }
+
+    private static String dayKey(LocalDate day) {
+        return day.toString();
+    }
+
+    private static String monthKey(YearMonth month) {
+        return month.toString();
+    }
+
+    private static LocalDateTime[] range(String periodKey) {
+        if (periodKey.length() == 7) {
+            YearMonth month = YearMonth.parse(periodKey);
+            return new LocalDateTime[]{month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()};
+        }
+        LocalDate day = LocalDate.parse(periodKey);
+        return new LocalDateTime[]{day.atStartOfDay(), day.plusDays(1).atStartOfDay()};
+    }
+}
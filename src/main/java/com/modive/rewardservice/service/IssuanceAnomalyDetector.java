@@ -0,0 +1,236 @@
+package com.modive.rewardservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 적립 이상 탐지 (주행 적립 요청 흐름만 보고 판단, 적립마다 추가 DB 조회 없음)
+ * - EARN_RATE: 최근 window 동안 사용자의 적립 요청 수가 min-drives 이상이고 사용자당 평균의 rate-multiplier배 이상
+ * - SCORE_OUTLIER: 종합점수가 전체 평균에서 z-threshold 표준편차 넘게 벗어난 주행이 window 안에 outlier-drives번 이상
+ *   (점수 표본이 min-samples개 쌓이기 전에는 판단하지 않는다)
+ * 사용자별 횟수는 슬라이딩 count-min 스케치에 세므로 사용자 수와 상관없이 메모리가 고정된다 (실제보다 작게 세지는 않음).
+ * 탐지된 사용자는 마지막 탐지 후 window 동안, 최대 max-flagged명까지 보관한다. 인스턴스별로 따로 센다.
+ */
+@Slf4j
+@Service
+public class IssuanceAnomalyDetector {
+
+    public enum Signal {
+        EARN_RATE,
+        SCORE_OUTLIER
+    }
+
+    private final SlidingCountMinSketch drives;
+    private final SlidingCountMinSketch outliers;
+    private final ScoreStats scoreStats = new ScoreStats();
+    private final Cache<String, FlaggedUser> flagged;
+    private final Map<Signal, Counter> flaggedCounters = new EnumMap<>(Signal.class);
+    private final Clock clock;
+    private final Duration window;
+    private final int minDrives;
+    private final double rateMultiplier;
+    private final double zThreshold;
+    private final long minSamples;
+    private final int outlierDrives;
+
+    @Autowired
+    public IssuanceAnomalyDetector(MeterRegistry meterRegistry,
+                                   @Value("${reward.anomaly.window:PT1H}") Duration window,
+                                   @Value("${reward.anomaly.slices:6}") int slices,
+                                   @Value("${reward.anomaly.width:4096}") int width,
+                                   @Value("${reward.anomaly.min-drives:10}") int minDrives,
+                                   @Value("${reward.anomaly.rate-multiplier:5}") double rateMultiplier,
+                                   @Value("${reward.anomaly.z-threshold:3.0}") double zThreshold,
+                                   @Value("${reward.anomaly.min-samples:1000}") long minSamples,
+                                   @Value("${reward.anomaly.outlier-drives:3}") int outlierDrives,
+                                   @Value("${reward.anomaly.max-flagged:1000}") int maxFlagged) {
+        this(meterRegistry, Clock.systemDefaultZone(), window, slices, width, minDrives, rateMultiplier, zThreshold,
+                minSamples, outlierDrives, maxFlagged);
+    }
+
+    IssuanceAnomalyDetector(MeterRegistry meterRegistry, Clock clock, Duration window, int slices, int width,
+                            int minDrives, double rateMultiplier, double zThreshold, long minSamples,
+                            int outlierDrives, int maxFlagged) {
+        long sliceMillis = Math.max(1, window.toMillis() / slices);
+        this.drives = new SlidingCountMinSketch(4, width, slices, sliceMillis);
+        this.outliers = new SlidingCountMinSketch(4, width, slices, sliceMillis);
+        this.clock = clock;
+        this.window = window;
+        this.minDrives = minDrives;
+        this.rateMultiplier = rateMultiplier;
+        this.zThreshold = zThreshold;
+        this.minSamples = minSamples;
+        this.outlierDrives = outlierDrives;
+        this.flagged = Caffeine.newBuilder()
+                .maximumSize(maxFlagged)
+                .expireAfterWrite(window)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+        for (Signal signal : Signal.values()) {
+            flaggedCounters.put(signal, Counter.builder("reward.anomaly.flagged")
+                    .tag("signal", signal.name())
+                    .description("Users newly flagged by the issuance anomaly detector")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 주행 적립 요청 한 건 반영 (트랜잭션 안이면 커밋된 뒤에 센다)
+     */
+    public void observe(String userId, Integer score) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    detect(userId, score);
+                }
+            });
+            return;
+        }
+        detect(userId, score);
+    }
+
+    private void detect(String userId, Integer score) {
+        long now = clock.millis();
+        long driveCount = drives.add(userId, now);
+        double baseline = drives.meanPerKey(now);
+        if (driveCount >= minDrives && driveCount >= rateMultiplier * baseline) {
+            flag(userId, Signal.EARN_RATE, flaggedUser -> {
+                flaggedUser.driveCount = driveCount;
+                flaggedUser.baseline = baseline;
+            });
+        }
+        if (score == null) {
+            return;
+        }
+        double z = scoreStats.zScoreAndAdd(score, minSamples);
+        if (Math.abs(z) >= zThreshold) {
+            long outlierCount = outliers.add(userId, now);
+            if (outlierCount >= outlierDrives) {
+                flag(userId, Signal.SCORE_OUTLIER, flaggedUser -> {
+                    flaggedUser.outlierDrives = outlierCount;
+                    flaggedUser.lastScore = score;
+                });
+            }
+        }
+    }
+
+    private void flag(String userId, Signal signal, Consumer<FlaggedUser> update) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        boolean[] added = new boolean[1];
+        flagged.asMap().compute(userId, (key, current) -> {
+            FlaggedUser flaggedUser = current != null ? current : new FlaggedUser(now);
+            synchronized (flaggedUser) {
+                added[0] = flaggedUser.signals.add(signal);
+                flaggedUser.lastFlaggedAt = now;
+                update.accept(flaggedUser);
+            }
+            return flaggedUser;
+        });
+        if (added[0]) {
+            flaggedCounters.get(signal).increment();
+            log.warn("Issuance anomaly {} for user {}", signal, userId);
+        }
+    }
+
+    /**
+     * 현재 탐지된 사용자 (최근 탐지 순)
+     */
+    public AdminRewardDto.AnomalyResponse getFlagged() {
+        long now = clock.millis();
+        List<AdminRewardDto.FlaggedUser> users = new ArrayList<>();
+        flagged.asMap().forEach((userId, flaggedUser) -> {
+            synchronized (flaggedUser) {
+                users.add(AdminRewardDto.FlaggedUser.builder()
+                        .userId(userId)
+                        .signals(flaggedUser.signals.stream().map(Enum::name).toList())
+                        .driveCount(flaggedUser.driveCount)
+                        .baselineDrives(flaggedUser.baseline)
+                        .outlierDrives(flaggedUser.outlierDrives)
+                        .lastScore(flaggedUser.lastScore)
+                        .firstFlaggedAt(flaggedUser.firstFlaggedAt)
+                        .lastFlaggedAt(flaggedUser.lastFlaggedAt)
+                        .build());
+            }
+        });
+        users.sort(Comparator.comparing(AdminRewardDto.FlaggedUser::getLastFlaggedAt).reversed());
+        double[] score = scoreStats.meanAndStdDev();
+        return AdminRewardDto.AnomalyResponse.builder()
+                .generatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(now), clock.getZone()))
+                .windowMinutes(window.toMinutes())
+                .baselineDrivesPerUser(drives.meanPerKey(now))
+                .scoreMean(score[0])
+                .scoreStdDev(score[1])
+                .users(users)
+                .build();
+    }
+
+    /**
+     * 탐지된 사용자 (compute 안에서 객체를 잠그고 고친다)
+     */
+    private static final class FlaggedUser {
+        private final Set<Signal> signals = EnumSet.noneOf(Signal.class);
+        private final LocalDateTime firstFlaggedAt;
+        private LocalDateTime lastFlaggedAt;
+        private long driveCount;
+        private double baseline;
+        private long outlierDrives;
+        private Integer lastScore;
+
+        private FlaggedUser(LocalDateTime firstFlaggedAt) {
+            this.firstFlaggedAt = firstFlaggedAt;
+            this.lastFlaggedAt = firstFlaggedAt;
+        }
+    }
+
+    /**
+     * 전체 종합점수 평균/분산 (Welford 누적)
+     */
+    private static final class ScoreStats {
+        private long count;
+        private double mean;
+        private double m2;
+
+        /**
+         * 지금까지 분포 기준 z 점수를 구하고 표본에 더한다 (표본이 minSamples개 미만이면 0)
+         */
+        synchronized double zScoreAndAdd(int score, long minSamples) {
+            double z = 0;
+            if (count >= minSamples && m2 > 0) {
+                z = (score - mean) / Math.sqrt(m2 / (count - 1));
+            }
+            count++;
+            double delta = score - mean;
+            mean += delta / count;
+            m2 += delta * (score - mean);
+            return z;
+        }
+
+        synchronized double[] meanAndStdDev() {
+            return new double[]{mean, count > 1 ? Math.sqrt(m2 / (count - 1)) : 0};
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.modive.rewardservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.repository.IssuanceDigestJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 월별 사용자당 적립 합계 분위수 (중앙값, p90, p99 등)
+ * 달마다 사용자별 적립 합계를 t-digest 하나에 넣어 저장해 두고, 조회는 저장된 digest만 읽어 일정한 시간에 답한다.
+ * - 적립이 커밋되면 그 달을 갱신 대상으로 표시하고, refresh-interval마다 표시된 달만 다시 만들어 덮어쓴다.
+ *   사용자 합계는 적립마다 바뀌는데 t-digest는 넣은 값을 뺄 수 없어, 달 단위 합계(GROUP BY)를 흘려 읽어 새로 만든다.
+ *   집계는 읽기 전용 트랜잭션(읽기 풀)에서 (created_at, user_id) 인덱스 범위로 읽는다.
+ * - 저장된 digest의 집계 시작 시각(updated_at)이 표시 시각보다 뒤면 다른 인스턴스가 그 적립까지 이미 반영한 것이라
+ *   다시 만들지 않고 저장된 값을 읽는다 (인스턴스마다 같은 달을 중복 집계하지 않는다).
+ * - digest가 없는 달(도입 전)은 처음 조회할 때 한 번 만들어 저장한다.
+ * 분위수는 추정치이며 꼬리(p99)로 갈수록 정확하다. 다른 인스턴스가 갱신한 값은 cache-ttl만큼 늦게 보인다.
+ */
+@Slf4j
+@Service
+public class IssuanceDigestService {
+
+    private final IssuanceDigestJdbcRepository digestRepository;
+    private final TransactionOperations transaction;
+    private final TransactionOperations readOnlyTransaction;
+    private final Clock clock;
+    private final double compression;
+    private final int fetchSize;
+
+    // 적립이 커밋되어 다시 만들 달 → 처음 표시한 시각
+    private final Map<YearMonth, LocalDateTime> dirty = new ConcurrentHashMap<>();
+    // 다 만든 digest만 담는다 (읽기 전용으로 공유)
+    private final Cache<YearMonth, TDigest> digests;
+
+    @Autowired
+    public IssuanceDigestService(IssuanceDigestJdbcRepository digestRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${reward.bulkhead.admin.statement-timeout:30}") int timeoutSeconds,
+                                 @Value("${reward.issuance-digest.compression:100}") double compression,
+                                 @Value("${reward.issuance-digest.fetch-size:1000}") int fetchSize,
+                                 @Value("${reward.issuance-digest.cache-ttl:PT5M}") Duration cacheTtl) {
+        this(digestRepository, transaction(transactionManager, timeoutSeconds, false),
+                transaction(transactionManager, timeoutSeconds, true), Clock.systemDefaultZone(), compression,
+                fetchSize, cacheTtl);
+    }
+
+    IssuanceDigestService(IssuanceDigestJdbcRepository digestRepository, TransactionOperations transaction,
+                          TransactionOperations readOnlyTransaction, Clock clock, double compression, int fetchSize,
+                          Duration cacheTtl) {
+        this.digestRepository = digestRepository;
+        this.transaction = transaction;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.clock = clock;
+        this.compression = compression;
+        this.fetchSize = fetchSize;
+        this.digests = Caffeine.newBuilder()
+                .maximumSize(120)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds,
+                                                     boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        if (event.type() == RewardType.EARNED) {
+            dirty.putIfAbsent(YearMonth.from(event.occurredAt()), LocalDateTime.now(clock));
+        }
+    }
+
+    /**
+     * 적립이 있던 달의 digest를 다시 만든다
+     * 표시 뒤에 집계를 시작한 digest가 이미 저장돼 있으면 건너뛴다. 실패한 달은 다음 주기에 다시.
+     */
+    @Scheduled(initialDelayString = "${reward.issuance-digest.refresh-interval:PT5M}",
+            fixedDelayString = "${reward.issuance-digest.refresh-interval:PT5M}")
+    public void refresh() {
+        for (Map.Entry<YearMonth, LocalDateTime> entry : new ArrayList<>(dirty.entrySet())) {
+            YearMonth month = entry.getKey();
+            LocalDateTime dirtySince = entry.getValue();
+            dirty.remove(month, dirtySince);
+            try {
+                LocalDateTime builtFrom = digestRepository.findBuiltAt(month.toString());
+                if (builtFrom != null && builtFrom.isAfter(dirtySince)) {
+                    // 다른 인스턴스가 표시 뒤에 다시 만들었다 → 다음 조회에서 저장된 값을 읽는다
+                    digests.invalidate(month);
+                    continue;
+                }
+                digests.put(month, rebuild(month));
+            } catch (RuntimeException e) {
+                dirty.merge(month, dirtySince, (current, failed) -> current.isBefore(failed) ? current : failed);
+                log.warn("Failed to rebuild issuance digest {}", month, e);
+            }
+        }
+    }
+
+    /**
+     * month 사용자별 적립 합계의 분위수 (month가 없으면 이번 달, quantiles는 0~1)
+     */
+    public AdminRewardDto.IssuanceQuantilesResponse getPerUserQuantiles(YearMonth month, List<Double> quantiles) {
+        YearMonth target = month != null ? month : YearMonth.now(clock);
+        TDigest digest = digests.get(target, this::load);
+        boolean empty = digest.count() == 0;
+        List<AdminRewardDto.QuantileValue> values = quantiles.stream()
+                .map(q -> AdminRewardDto.QuantileValue.builder()
+                        .quantile(q)
+                        .value(empty ? null : round(digest.quantile(q)))
+                        .build())
+                .toList();
+        return AdminRewardDto.IssuanceQuantilesResponse.builder()
+                .month(target.toString())
+                .users(digest.count())
+                .min(empty ? null : round(digest.min()))
+                .max(empty ? null : round(digest.max()))
+                .mean(empty ? null : round(digest.mean()))
+                .quantiles(values)
+                .build();
+    }
+
+    private TDigest load(YearMonth month) {
+        byte[] stored = digestRepository.findDigest(month.toString());
+        return stored != null ? TDigest.fromBytes(stored) : rebuild(month);
+    }
+
+    /**
+     * 그 달 사용자별 적립 합계로 digest를 새로 만들어 저장 (updated_at은 집계를 시작한 시각)
+     */
+    TDigest rebuild(YearMonth month) {
+        LocalDateTime start = month.atDay(1).atStartOfDay();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        LocalDateTime builtAt = LocalDateTime.now(clock);
+        TDigest digest = readOnlyTransaction.execute(status -> {
+            TDigest built = new TDigest(compression);
+            digestRepository.forEachUserEarnedTotal(start, end, fetchSize, built::add);
+            return built;
+        });
+        byte[] bytes = digest.toBytes();
+        String monthKey = month.toString();
+        try {
+            transaction.executeWithoutResult(status -> {
+                if (digestRepository.updateDigest(monthKey, bytes, digest.count(), builtAt) == 0) {
+                    digestRepository.insertDigest(monthKey, bytes, digest.count(), builtAt);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 행이 있다 (다른 인스턴스가 먼저 만들었다) → 이쪽이 더 늦게 집계를 시작했을 때만 덮어쓴다
+            transaction.executeWithoutResult(status ->
+                    digestRepository.updateDigest(monthKey, bytes, digest.count(), builtAt));
+        }
+        return digest;
+    }
+
+    private static Double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
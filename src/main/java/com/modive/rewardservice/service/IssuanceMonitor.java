@@ -0,0 +1,169 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실시간 씨앗 발급 현황 (사유별 분 단위 건수/합계, DB 조회 없음)
+ * 적립 트랜잭션이 커밋된 뒤 사유별 링 버퍼에 더하고, 최근 window-minutes분을 보여 준다.
+ * - SSE 구독자에게 push-interval마다 같은 스냅샷을 보낸다 (구독자 수는 max-subscribers까지).
+ * - 게이지 reward.issuance.count / amount {reason}: 직전 1분(끝난 분) 값
+ * 인스턴스별 값이므로 전체 발급량은 인스턴스 합계로 본다.
+ */
+@Slf4j
+@Service
+public class IssuanceMonitor {
+
+    private final Map<RewardReason, IssuanceRingBuffer> buffers = new EnumMap<>(RewardReason.class);
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final Clock clock;
+    private final int windowMinutes;
+    private final int maxSubscribers;
+    private final Duration streamTimeout;
+
+    @Autowired
+    public IssuanceMonitor(MeterRegistry meterRegistry,
+                           @Value("${reward.issuance-monitor.window-minutes:60}") int windowMinutes,
+                           @Value("${reward.issuance-monitor.max-subscribers:100}") int maxSubscribers,
+                           @Value("${reward.issuance-monitor.stream-timeout:PT30M}") Duration streamTimeout) {
+        this(meterRegistry, Clock.systemDefaultZone(), windowMinutes, maxSubscribers, streamTimeout);
+    }
+
+    IssuanceMonitor(MeterRegistry meterRegistry, Clock clock, int windowMinutes, int maxSubscribers,
+                    Duration streamTimeout) {
+        this.clock = clock;
+        this.windowMinutes = windowMinutes;
+        this.maxSubscribers = maxSubscribers;
+        this.streamTimeout = streamTimeout;
+        for (RewardReason reason : RewardReason.values()) {
+            IssuanceRingBuffer buffer = new IssuanceRingBuffer(windowMinutes);
+            buffers.put(reason, buffer);
+            Gauge.builder("reward.issuance.count", buffer, b -> b.get(currentMinute() - 1).count())
+                    .tag("reason", reason.name())
+                    .description("Seeds issued in the last completed minute")
+                    .register(meterRegistry);
+            Gauge.builder("reward.issuance.amount", buffer, b -> b.get(currentMinute() - 1).amount())
+                    .tag("reason", reason.name())
+                    .description("Seed amount issued in the last completed minute")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 발급 기록 (트랜잭션 안이면 커밋된 뒤에 더한다)
+     */
+    public void record(RewardReason reason, long amount) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffers.get(reason).record(currentMinute(), amount);
+                }
+            });
+            return;
+        }
+        buffers.get(reason).record(currentMinute(), amount);
+    }
+
+    public AdminRewardDto.IssuanceSnapshot snapshot() {
+        long current = currentMinute();
+        List<AdminRewardDto.IssuanceSeries> series = new ArrayList<>(buffers.size());
+        buffers.forEach((reason, buffer) -> {
+            long count = 0;
+            long amount = 0;
+            List<AdminRewardDto.IssuanceMinute> minutes = new ArrayList<>(windowMinutes);
+            for (IssuanceRingBuffer.Minute minute : buffer.snapshot(current)) {
+                count += minute.count();
+                amount += minute.amount();
+                minutes.add(AdminRewardDto.IssuanceMinute.builder()
+                        .minute(toDateTime(minute.epochMinute()))
+                        .count(minute.count())
+                        .amount(minute.amount())
+                        .build());
+            }
+            series.add(AdminRewardDto.IssuanceSeries.builder()
+                    .reason(reason)
+                    .count(count)
+                    .amount(amount)
+                    .minutes(minutes)
+                    .build());
+        });
+        return AdminRewardDto.IssuanceSnapshot.builder()
+                .generatedAt(LocalDateTime.now(clock))
+                .windowMinutes(windowMinutes)
+                .reasons(series)
+                .build();
+    }
+
+    /**
+     * SSE 구독 (현재 스냅샷을 바로 보내고 이후 push-interval마다 보낸다)
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceOverloadedException("issuance-stream");
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.add(emitter);
+        send(emitter, snapshot());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${reward.issuance-monitor.push-interval:PT5S}")
+    public void push() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        AdminRewardDto.IssuanceSnapshot snapshot = snapshot();
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, snapshot);
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void send(SseEmitter emitter, AdminRewardDto.IssuanceSnapshot snapshot) {
+        try {
+            emitter.send(SseEmitter.event().name("issuance").data(snapshot, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자
+            subscribers.remove(emitter);
+            log.debug("Dropping issuance stream subscriber: {}", e.getMessage());
+        }
+    }
+
+    private long currentMinute() {
+        return clock.millis() / 60_000;
+    }
+
+    private LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochMinute * 60), clock.getZone());
+    }
+}
@@ -0,0 +1,71 @@
+package com.modive.rewardservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분 단위 발급 건수/합계 링 버퍼 (최근 minutes분)
+ * 슬롯 = epochMinute % minutes. 슬롯의 분이 바뀌면 새 버킷을 CAS로 끼워 넣고, 같은 분이면 LongAdder에 더하므로 잠금이 없다.
+ * 창보다 오래된 기록은 버린다.
+ */
+final class IssuanceRingBuffer {
+
+    record Minute(long epochMinute, long count, long amount) {
+    }
+
+    private static final class Bucket {
+        final long epochMinute;
+        final LongAdder count = new LongAdder();
+        final LongAdder amount = new LongAdder();
+
+        Bucket(long epochMinute) {
+            this.epochMinute = epochMinute;
+        }
+    }
+
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    IssuanceRingBuffer(int minutes) {
+        this.buckets = new AtomicReferenceArray<>(minutes);
+    }
+
+    void record(long epochMinute, long amount) {
+        int index = (int) Math.floorMod(epochMinute, (long) buckets.length());
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epochMinute >= epochMinute) {
+                if (bucket.epochMinute == epochMinute) {
+                    bucket.count.increment();
+                    bucket.amount.add(amount);
+                }
+                return;
+            }
+            Bucket fresh = new Bucket(epochMinute);
+            fresh.count.increment();
+            fresh.amount.add(amount);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return;
+            }
+        }
+    }
+
+    Minute get(long epochMinute) {
+        Bucket bucket = buckets.get((int) Math.floorMod(epochMinute, (long) buckets.length()));
+        return bucket != null && bucket.epochMinute == epochMinute
+                ? new Minute(epochMinute, bucket.count.sum(), bucket.amount.sum())
+                : new Minute(epochMinute, 0, 0);
+    }
+
+    /**
+     * currentMinute까지 최근 minutes분 (오래된 분부터, 기록이 없는 분은 0)
+     */
+    List<Minute> snapshot(long currentMinute) {
+        List<Minute> minutes = new ArrayList<>(buckets.length());
+        for (long minute = currentMinute - buckets.length() + 1; minute <= currentMinute; minute++) {
+            minutes.add(get(minute));
+        }
+        return minutes;
+    }
+}
@@ -0,0 +1,239 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.LeaderboardPeriod;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.LeaderboardDto;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import com.modive.rewardservice.repository.UserBalanceRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+/**
+ * 씨앗 리더보드 (전체 잔액 / 이번 달 적립 합계, 주행 적립 취소분은 뺀다)
+ * 순위 인덱스를 메모리에 두고 잔액 변경 이벤트로 즉시 갱신하므로 조회 시 정렬하지 않는다.
+ * 시작 시와 rebuild-interval마다 DB를 userId 순 키셋 청크로 훑어 다시 만든다
+ * (다른 인스턴스에서 일어난 적립도 이때 반영된다).
+ * 재구성 중 도착한 이벤트는 새 인덱스에 다시 적용하고, 월간 합계는 재구성 시작 시각 이후 이벤트만 더한다.
+ */
+@Slf4j
+@Service
+public class LeaderboardService {
+
+    static final int MAX_TOP_SIZE = 100;
+
+    private final RewardBalanceRepository rewardBalanceRepository;
+    private final RewardRepository rewardRepository;
+    private final TransactionOperations readOnlyTransaction;
+    private final Clock clock;
+    private final int chunkSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private RankedScoreIndex total = new RankedScoreIndex();
+    private RankedScoreIndex monthly = new RankedScoreIndex();
+    private YearMonth month;
+    // 재구성 중 도착한 이벤트 (재구성 중이 아니면 null)
+    private List<BalanceChangedEvent> pending;
+
+    @Autowired
+    public LeaderboardService(RewardBalanceRepository rewardBalanceRepository,
+                              RewardRepository rewardRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${reward.leaderboard.chunk-size:1000}") int chunkSize) {
+        this(rewardBalanceRepository, rewardRepository, readOnly(transactionManager), Clock.systemDefaultZone(), chunkSize);
+    }
+
+    LeaderboardService(RewardBalanceRepository rewardBalanceRepository, RewardRepository rewardRepository,
+                       TransactionOperations readOnlyTransaction, Clock clock, int chunkSize) {
+        this.rewardBalanceRepository = rewardBalanceRepository;
+        this.rewardRepository = rewardRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    private static TransactionOperations readOnly(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${reward.leaderboard.rebuild-interval:PT10M}",
+            fixedDelayString = "${reward.leaderboard.rebuild-interval:PT10M}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB에서 두 리더보드를 다시 만든다 (실패하면 기존 인덱스 유지)
+     */
+    public synchronized void rebuild() {
+        LocalDateTime cutoff = LocalDateTime.now(clock);
+        YearMonth rebuildMonth = YearMonth.from(cutoff);
+        long startedAt = System.nanoTime();
+
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            RankedScoreIndex newTotal = load(rewardBalanceRepository::findBalancesAfter);
+            RankedScoreIndex newMonthly = load((afterUserId, page) -> rewardRepository.sumEarnedByUserBetween(
+                    rebuildMonth.atDay(1).atStartOfDay(), cutoff, afterUserId, page));
+
+            lock.writeLock().lock();
+            try {
+                for (BalanceChangedEvent event : pending) {
+                    newTotal.put(event.userId(), event.balance());
+                    long earned = monthlyDelta(event);
+                    if (earned != 0 && YearMonth.from(event.occurredAt()).equals(rebuildMonth)
+                            && !event.occurredAt().isBefore(cutoff)) {
+                        newMonthly.add(event.userId(), earned);
+                    }
+                }
+                total = newTotal;
+                // 재구성 중 달이 바뀌었으면 이미 새 달 인덱스가 쌓이고 있다
+                if (month == null || !month.isAfter(rebuildMonth)) {
+                    monthly = newMonthly;
+                    month = rebuildMonth;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Rebuilt leaderboards: {} users total, {} users in {} ({} ms)",
+                    newTotal.size(), newMonthly.size(), rebuildMonth, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild leaderboards, keeping current ranking", e);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            total.put(event.userId(), event.balance());
+            long earned = monthlyDelta(event);
+            if (earned != 0) {
+                YearMonth eventMonth = YearMonth.from(event.occurredAt());
+                if (month == null || eventMonth.isAfter(month)) {
+                    monthly = new RankedScoreIndex();
+                    month = eventMonth;
+                }
+                if (eventMonth.equals(month)) {
+                    monthly.add(event.userId(), earned);
+                }
+            }
+            if (pending != null) {
+                pending.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 N명 (최대 100명)
+     */
+    public LeaderboardDto.TopResponse getTop(LeaderboardPeriod period, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_TOP_SIZE));
+        lock.readLock().lock();
+        try {
+            RankedScoreIndex index = index(period);
+            List<LeaderboardDto.Entry> entries = index.top(limit).stream()
+                    .map(ranked -> new LeaderboardDto.Entry(ranked.rank(), ranked.userId(), ranked.score()))
+                    .toList();
+            return new LeaderboardDto.TopResponse(period, index.size(), entries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 순위 (리더보드에 없으면 순위 null, 점수 0)
+     */
+    public LeaderboardDto.RankResponse getRank(LeaderboardPeriod period, String userId) {
+        lock.readLock().lock();
+        try {
+            RankedScoreIndex index = index(period);
+            long rank = index.rank(userId);
+            Long score = index.score(userId);
+            return new LeaderboardDto.RankResponse(period, userId, rank > 0 ? rank : null,
+                    score != null ? score : 0L, index.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RankedScoreIndex index(LeaderboardPeriod period) {
+        if (period == LeaderboardPeriod.TOTAL) {
+            return total;
+        }
+        // 달이 바뀐 뒤 아직 적립이 없으면 빈 리더보드
+        return YearMonth.now(clock).equals(month) ? monthly : new RankedScoreIndex();
+    }
+
+    /**
+     * 월간 적립 합계 변동 (적립은 더하고 주행 적립 취소는 뺀다, 그 밖의 변경은 0)
+     */
+    private static long monthlyDelta(BalanceChangedEvent event) {
+        if (event.type() == RewardType.EARNED) {
+            return event.amount();
+        }
+        return event.type() == RewardType.CANCELED && event.driveReversal() ? -event.amount() : 0;
+    }
+
+    private RankedScoreIndex load(BiFunction<String, PageRequest, List<UserBalanceRow>> chunkQuery) {
+        RankedScoreIndex index = new RankedScoreIndex();
+        PageRequest page = PageRequest.of(0, chunkSize);
+        String afterUserId = "";
+        while (true) {
+            String after = afterUserId;
+            List<UserBalanceRow> rows = readOnlyTransaction.execute(status -> chunkQuery.apply(after, page));
+            if (rows == null || rows.isEmpty()) {
+                return index;
+            }
+            for (UserBalanceRow row : rows) {
+                index.put(row.userId(), row.balance() != null ? row.balance() : 0L);
+            }
+            if (rows.size() < chunkSize) {
+                return index;
+            }
+            afterUserId = rows.get(rows.size() - 1).userId();
+        }
+    }
+}
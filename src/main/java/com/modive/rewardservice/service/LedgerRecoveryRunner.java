@@ -0,0 +1,38 @@
+package com.modive.rewardservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 복구 모드 실행 (--reward.recovery.enabled=true)
+ * 시작하자마자 내역 재생 복구를 돌리고 종료한다. 실패하면 종료 코드 1, 체크포인트는 남겨 다시 실행하면 이어서 읽는다.
+ * 복구 모드는 웹 서버(RecoveryModeEnvironmentPostProcessor)와 스케줄 작업(SchedulingConfig) 없이 뜬다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reward.recovery.enabled", havingValue = "true")
+public class LedgerRecoveryRunner implements ApplicationRunner {
+
+    private final LedgerRecoveryService ledgerRecoveryService;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            ledgerRecoveryService.recover();
+        } catch (RuntimeException e) {
+            log.error("Ledger recovery failed", e);
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
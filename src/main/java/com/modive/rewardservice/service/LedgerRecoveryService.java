@@ -0,0 +1,212 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.RebuiltBalance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 내역 재생으로 잔액 복구 (reward_balance가 유실/손상됐을 때)
+ * reward를 id 순 forward-only 커서로 segment-size건씩 흘려 읽어 RewardType.balanceDelta로 사용자별 잔액을 접는다.
+ * 사용자별 합계는 힙 밖 테이블(OffHeapBalanceTable)에 두어 사용자가 수천만이어도 박싱된 Long/엔트리가 쌓이지 않는다.
+ * - 세그먼트마다 마지막 내역 id와 테이블을 체크포인트 파일에 쓰므로(임시 파일 후 원자적 이동) 중단되면 그 다음부터 이어 읽는다.
+ * - 다 읽으면 HELD 예약 합계를 묶인 잔액으로 붙여 write-batch-size건씩 트랜잭션 하나로 덮어쓴다(없는 잔액 행은 추가).
+ * 내역이 없는 사용자의 잔액 행은 건드리지 않는다. 재생 중 들어온 적립/사용은 반영되지 않으므로 트래픽을 막고 돌린다.
+ */
+@Slf4j
+@Service
+public class LedgerRecoveryService {
+
+    private static final int CHECKPOINT_MAGIC = 0x52435631;
+
+    /**
+     * 복구 결과
+     *
+     * @param resumedFromId 체크포인트에서 이어 읽기 시작한 내역 id (처음부터면 0)
+     */
+    public record RecoveryReport(long rows, long users, long updated, long inserted, long resumedFromId,
+                                 long elapsedMillis, long rowsPerSecond) {
+    }
+
+    private final RewardLedgerJdbcRepository ledgerJdbcRepository;
+    private final TransactionOperations transaction;
+    private final Clock clock;
+    private final Path checkpointFile;
+    private final int segmentSize;
+    private final int fetchSize;
+    private final int writeBatchSize;
+    private final int expectedUsers;
+
+    @Autowired
+    public LedgerRecoveryService(RewardLedgerJdbcRepository ledgerJdbcRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${reward.bulkhead.admin.statement-timeout:30}") int timeoutSeconds,
+                                 @Value("${reward.recovery.checkpoint-file:${java.io.tmpdir}/reward-recovery.ckpt}") String checkpointFile,
+                                 @Value("${reward.recovery.segment-size:1000000}") int segmentSize,
+                                 @Value("${reward.recovery.fetch-size:1000}") int fetchSize,
+                                 @Value("${reward.recovery.write-batch-size:1000}") int writeBatchSize,
+                                 @Value("${reward.recovery.expected-users:1000000}") int expectedUsers) {
+        this(ledgerJdbcRepository, transaction(transactionManager, timeoutSeconds), Clock.systemDefaultZone(),
+                Path.of(checkpointFile), segmentSize, fetchSize, writeBatchSize, expectedUsers);
+    }
+
+    LedgerRecoveryService(RewardLedgerJdbcRepository ledgerJdbcRepository, TransactionOperations transaction,
+                          Clock clock, Path checkpointFile, int segmentSize, int fetchSize, int writeBatchSize,
+                          int expectedUsers) {
+        // 슬롯 버퍼가 2GB를 넘는 설정은 재생을 시작하기 전에 막는다
+        OffHeapBalanceTable.capacityFor(expectedUsers);
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.checkpointFile = checkpointFile;
+        this.segmentSize = segmentSize;
+        this.fetchSize = fetchSize;
+        this.writeBatchSize = writeBatchSize;
+        this.expectedUsers = expectedUsers;
+    }
+
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    public synchronized RecoveryReport recover() {
+        long startedAt = System.nanoTime();
+        long[] lastId = new long[1];
+        OffHeapBalanceTable table = readCheckpoint(lastId);
+        long resumedFromId = lastId[0];
+        if (table == null) {
+            table = new OffHeapBalanceTable(expectedUsers);
+        } else {
+            log.info("Resuming ledger replay after reward id {} ({} users folded)", resumedFromId, table.size());
+        }
+
+        OffHeapBalanceTable balances = table;
+        long rows = 0;
+        while (true) {
+            long read = ledgerJdbcRepository.streamLedger(lastId[0], segmentSize, fetchSize,
+                    (id, userId, type, amount, driveId) -> {
+                        balances.add(userId, type.balanceDelta(amount, driveId));
+                        lastId[0] = id;
+                    });
+            rows += read;
+            if (read < segmentSize) {
+                break;
+            }
+            writeCheckpoint(balances, lastId[0]);
+            log.info("Ledger replay at reward id {}: {} rows, {} users", lastId[0], rows, balances.size());
+        }
+
+        Map<String, Long> held = ledgerJdbcRepository.sumHeldReservations();
+        // 예약만 있고 내역이 없는 사용자도 묶인 잔액은 써야 한다
+        held.keySet().forEach(userId -> balances.add(userId, 0));
+        long[] written = writeBalances(balances, held);
+        deleteCheckpoint();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        RecoveryReport report = new RecoveryReport(rows, balances.size(), written[0], written[1], resumedFromId,
+                elapsedMillis, rows * 1000 / elapsedMillis);
+        log.info("Ledger replay rebuilt {} balances ({} updated, {} inserted) from {} rows in {} ms ({} rows/s)",
+                report.users(), report.updated(), report.inserted(), report.rows(), report.elapsedMillis(),
+                report.rowsPerSecond());
+        return report;
+    }
+
+    private long[] writeBalances(OffHeapBalanceTable balances, Map<String, Long> held) {
+        long[] written = new long[2];
+        List<RebuiltBalance> batch = new ArrayList<>(writeBatchSize);
+        balances.forEach((userId, balance) -> {
+            batch.add(new RebuiltBalance(userId, balance, held.getOrDefault(userId, 0L)));
+            if (batch.size() == writeBatchSize) {
+                flush(batch, written);
+            }
+        });
+        if (!batch.isEmpty()) {
+            flush(batch, written);
+        }
+        return written;
+    }
+
+    private void flush(List<RebuiltBalance> batch, long[] written) {
+        int[] counts = transaction.execute(status -> ledgerJdbcRepository.upsertBalances(batch, LocalDateTime.now(clock)));
+        written[0] += counts[0];
+        written[1] += counts[1];
+        batch.clear();
+    }
+
+    /**
+     * 체크포인트: [magic, 마지막 내역 id] + 테이블 (임시 파일에 쓴 뒤 원자적으로 바꾼다)
+     */
+    private void writeCheckpoint(OffHeapBalanceTable balances, long lastId) {
+        Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(12).putInt(CHECKPOINT_MAGIC).putLong(lastId).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            balances.writeTo(channel);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write recovery checkpoint " + temp, e);
+        }
+        try {
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replace recovery checkpoint " + checkpointFile, e);
+        }
+    }
+
+    private OffHeapBalanceTable readCheckpoint(long[] lastId) {
+        if (!Files.exists(checkpointFile)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(checkpointFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(12);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    break;
+                }
+            }
+            header.flip();
+            if (header.remaining() < 12 || header.getInt() != CHECKPOINT_MAGIC) {
+                log.warn("Ignoring unreadable recovery checkpoint {}", checkpointFile);
+                return null;
+            }
+            lastId[0] = header.getLong();
+            return OffHeapBalanceTable.readFrom(channel);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable recovery checkpoint {}", checkpointFile, e);
+            lastId[0] = 0;
+            return null;
+        }
+    }
+
+    private void deleteCheckpoint() {
+        try {
+            Files.deleteIfExists(checkpointFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete recovery checkpoint {}", checkpointFile, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.MobtiType;
+import com.modive.rewardservice.dto.request.ScoreInfo;
+
+/**
+ * ScoreInfo → MobtiType 판정기
+ * 51점 이상이면 좋은 타입(E/D/S/F), 미만이면 나쁜 타입(H/A/I/U)
+ * 캐시된 MobtiType 인스턴스를 반환하므로 판정 과정에서 객체를 생성하지 않는다.
+ */
+public final class MobtiEvaluator {
+
+    private static final int THRESHOLD = 51;
+
+    private MobtiEvaluator() {
+    }
+
+    /**
+     * score가 null이면 null 반환
+     */
+    public static MobtiType evaluate(ScoreInfo score) {
+        if (score == null) return null;
+
+        int mask = 0;
+        if (isGood(score.getCarbon())) mask |= MobtiType.ECO;          // 에코 vs 헤비
+        if (isGood(score.getSafety())) mask |= MobtiType.DEFENSIVE;    // 방어 vs 공격
+        if (isGood(score.getAccident())) mask |= MobtiType.SENSITIVE;  // 민감 vs 둔감
+        if (isGood(score.getFocus())) mask |= MobtiType.FOCUSED;       // 집중 vs 산만
+        return MobtiType.of(mask);
+    }
+
+    private static boolean isGood(Integer value) {
+        return value != null && value >= THRESHOLD;
+    }
+}
@@ -0,0 +1,235 @@
+package com.modive.rewardservice.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * userId별 잔액 합계를 힙 밖(direct buffer)에 두는 오픈 어드레싱 해시 테이블
+ * 수천만 사용자를 HashMap&lt;String, Long&gt;으로 접으면 엔트리/Long/String 객체가 GC 대상이 되므로,
+ * 슬롯(16바이트: 잔액 8 + 키 해시 4 + 키 위치 4)과 키 바이트(길이 2 + UTF-8)를 각각 direct buffer에 둔다.
+ * 선형 탐사, 적재율 0.75를 넘으면 슬롯만 두 배로 늘린다(키 바이트는 그대로).
+ * 버퍼 하나는 2GB를 넘을 수 없으므로 슬롯은 최대 2^26개(사용자 약 5천만 명)이고, 넘으면 예외로 멈춘다.
+ * 동기화하지 않으므로 한 스레드에서만 쓴다.
+ */
+class OffHeapBalanceTable {
+
+    interface Visitor {
+        void visit(String userId, long balance);
+    }
+
+    private static final int SLOT_BYTES = 16;
+    private static final int BALANCE = 0;
+    private static final int HASH = 8;
+    // 키 바이트 위치 + 1 (0이면 빈 슬롯)
+    private static final int KEY_REF = 12;
+    // capacity * SLOT_BYTES가 int를 넘지 않는 최대 슬롯 수
+    static final int MAX_CAPACITY = 1 << 26;
+    static final int MAX_USERS = MAX_CAPACITY / 4 * 3;
+    private static final int MAX_INITIAL_KEY_BYTES = 1 << 30;
+
+    private ByteBuffer slots;
+    private ByteBuffer keys;
+    private int capacity;
+    private int size;
+
+    OffHeapBalanceTable(int expectedUsers) {
+        this.capacity = capacityFor(expectedUsers);
+        this.slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+        this.keys = ByteBuffer.allocateDirect(
+                (int) Math.max(1024, Math.min(MAX_INITIAL_KEY_BYTES, expectedUsers * 40L)));
+    }
+
+    /**
+     * 예상 사용자 수에 맞는 슬롯 수 (2의 거듭제곱, MAX_USERS를 넘으면 IllegalArgumentException)
+     */
+    static int capacityFor(int expectedUsers) {
+        if (expectedUsers < 0 || expectedUsers > MAX_USERS) {
+            throw new IllegalArgumentException(
+                    "expectedUsers must be between 0 and " + MAX_USERS + ": " + expectedUsers);
+        }
+        int required = Math.max(16, (int) ((long) expectedUsers * 4 / 3) + 1);
+        return Math.min(MAX_CAPACITY, Integer.highestOneBit(required - 1) << 1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 잔액에 delta를 더한다 (없으면 0에서 시작)
+     */
+    void add(String userId, long delta) {
+        byte[] key = userId.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(key);
+        int slot = find(key, hash);
+        int offset = slot * SLOT_BYTES;
+        if (slots.getInt(offset + KEY_REF) == 0) {
+            slots.putInt(offset + HASH, hash);
+            slots.putInt(offset + KEY_REF, appendKey(key) + 1);
+            slots.putLong(offset + BALANCE, delta);
+            if (++size > capacity * 3L / 4) {
+                resize();
+            }
+            return;
+        }
+        slots.putLong(offset + BALANCE, slots.getLong(offset + BALANCE) + delta);
+    }
+
+    /**
+     * 잔액 (없으면 null)
+     */
+    Long get(String userId) {
+        byte[] key = userId.getBytes(StandardCharsets.UTF_8);
+        int offset = find(key, hash(key)) * SLOT_BYTES;
+        return slots.getInt(offset + KEY_REF) == 0 ? null : slots.getLong(offset + BALANCE);
+    }
+
+    void forEach(Visitor visitor) {
+        for (int slot = 0; slot < capacity; slot++) {
+            int offset = slot * SLOT_BYTES;
+            int keyRef = slots.getInt(offset + KEY_REF);
+            if (keyRef != 0) {
+                visitor.visit(readKey(keyRef - 1), slots.getLong(offset + BALANCE));
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 쓰기: [capacity, size, 키 바이트 길이] + 슬롯 + 키 바이트
+     */
+    void writeTo(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12).putInt(capacity).putInt(size).putInt(keys.position()).flip();
+        writeFully(channel, header);
+        writeFully(channel, slots.duplicate().clear());
+        writeFully(channel, keys.duplicate().flip());
+    }
+
+    static OffHeapBalanceTable readFrom(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        readFully(channel, header);
+        header.flip();
+        int capacity = header.getInt();
+        int size = header.getInt();
+        int keyBytes = header.getInt();
+        if (capacity < 16 || capacity > MAX_CAPACITY || Integer.bitCount(capacity) != 1
+                || size < 0 || size > capacity * 3L / 4 || keyBytes < 0) {
+            throw new IOException("Corrupt checkpoint header: capacity " + capacity + ", size " + size
+                    + ", key bytes " + keyBytes);
+        }
+
+        OffHeapBalanceTable table = new OffHeapBalanceTable(0);
+        table.capacity = capacity;
+        table.size = size;
+        table.slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+        readFully(channel, table.slots);
+        table.keys = ByteBuffer.allocateDirect((int) Math.max(1024, Math.min(Integer.MAX_VALUE - 8, keyBytes * 2L)));
+        table.keys.limit(keyBytes);
+        readFully(channel, table.keys);
+        table.keys.limit(table.keys.capacity());
+        return table;
+    }
+
+    private int find(byte[] key, int hash) {
+        int mask = capacity - 1;
+        int slot = hash & mask;
+        while (true) {
+            int offset = slot * SLOT_BYTES;
+            int keyRef = slots.getInt(offset + KEY_REF);
+            if (keyRef == 0 || (slots.getInt(offset + HASH) == hash && keyEquals(keyRef - 1, key))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void resize() {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Off-heap slot table exceeds " + MAX_USERS + " users");
+        }
+        ByteBuffer old = slots;
+        int oldCapacity = capacity;
+        capacity = oldCapacity << 1;
+        slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+        int mask = capacity - 1;
+        for (int slot = 0; slot < oldCapacity; slot++) {
+            int offset = slot * SLOT_BYTES;
+            int keyRef = old.getInt(offset + KEY_REF);
+            if (keyRef == 0) {
+                continue;
+            }
+            int hash = old.getInt(offset + HASH);
+            int target = hash & mask;
+            while (slots.getInt(target * SLOT_BYTES + KEY_REF) != 0) {
+                target = (target + 1) & mask;
+            }
+            int targetOffset = target * SLOT_BYTES;
+            slots.putLong(targetOffset + BALANCE, old.getLong(offset + BALANCE));
+            slots.putInt(targetOffset + HASH, hash);
+            slots.putInt(targetOffset + KEY_REF, keyRef);
+        }
+    }
+
+    private int appendKey(byte[] key) {
+        if (key.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("userId too long: " + key.length + " bytes");
+        }
+        if (keys.remaining() < key.length + 2) {
+            long grown = Math.max((long) keys.capacity() * 2, (long) keys.position() + key.length + 2);
+            if (grown > Integer.MAX_VALUE - 1) {
+                throw new IllegalStateException("Off-heap key area exceeds 2GB");
+            }
+            ByteBuffer bigger = ByteBuffer.allocateDirect((int) grown);
+            bigger.put(keys.flip());
+            keys = bigger;
+        }
+        int position = keys.position();
+        keys.putShort((short) key.length).put(key);
+        return position;
+    }
+
+    private boolean keyEquals(int position, byte[] key) {
+        if (keys.getShort(position) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (keys.get(position + 2 + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readKey(int position) {
+        byte[] key = new byte[keys.getShort(position)];
+        keys.get(position + 2, key);
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    // FNV-1a 후 비트 섞기 (선형 탐사에서 군집을 줄이도록)
+    private static int hash(byte[] key) {
+        int h = 0x811c9dc5;
+        for (byte b : key) {
+            h = (h ^ b) * 0x01000193;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Truncated checkpoint");
+            }
+        }
+    }
+}
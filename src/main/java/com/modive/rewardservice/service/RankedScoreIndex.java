@@ -0,0 +1,187 @@
+package com.modive.rewardservice.service;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 점수 순위 인덱스 (서브트리 크기를 가진 트립)
+ * 점수 내림차순, 같은 점수는 userId 오름차순으로 정렬하며
+ * 갱신 / 순위 조회 / 상위 N개 조회를 O(log n) (+N)으로 처리한다.
+ * 동기화하지 않으므로 호출 측에서 잠근다.
+ */
+class RankedScoreIndex {
+
+    record Ranked(long rank, String userId, long score) {
+    }
+
+    private static final class Node {
+        final String userId;
+        final long score;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(String userId, long score) {
+            this.userId = userId;
+            this.score = score;
+        }
+    }
+
+    private final Map<String, Long> scores = new HashMap<>();
+    private Node root;
+
+    int size() {
+        return scores.size();
+    }
+
+    Long score(String userId) {
+        return scores.get(userId);
+    }
+
+    /**
+     * 점수 설정 (없으면 추가)
+     */
+    void put(String userId, long score) {
+        Long previous = scores.put(userId, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            root = remove(root, previous, userId);
+        }
+        root = insert(root, new Node(userId, score));
+    }
+
+    /**
+     * 점수 가산 (없으면 0에서 시작)
+     */
+    void add(String userId, long delta) {
+        Long previous = scores.get(userId);
+        put(userId, (previous != null ? previous : 0L) + delta);
+    }
+
+    /**
+     * 1부터 시작하는 순위 (없는 사용자는 -1)
+     */
+    long rank(String userId) {
+        Long score = scores.get(userId);
+        if (score == null) {
+            return -1;
+        }
+        long ahead = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(score, userId, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                ahead += size(node.left);
+                if (cmp == 0) {
+                    break;
+                }
+                ahead += 1;
+                node = node.right;
+            }
+        }
+        return ahead + 1;
+    }
+
+    /**
+     * 상위 limit명 (순위 순)
+     */
+    List<Ranked> top(int limit) {
+        List<Ranked> result = new ArrayList<>(Math.min(limit, size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while ((node != null || !stack.isEmpty()) && result.size() < limit) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            result.add(new Ranked(result.size() + 1L, node.userId, node.score));
+            node = node.right;
+        }
+        return result;
+    }
+
+    // 점수 내림차순, userId 오름차순
+    private static int compare(long score, String userId, Node node) {
+        int cmp = Long.compare(node.score, score);
+        return cmp != 0 ? cmp : userId.compareTo(node.userId);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            Node[] parts = split(node, inserted.score, inserted.userId);
+            inserted.left = parts[0];
+            inserted.right = parts[1];
+            return update(inserted);
+        }
+        if (compare(inserted.score, inserted.userId, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return update(node);
+    }
+
+    private static Node remove(Node node, long score, String userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, userId, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, score, userId);
+        } else {
+            node.right = remove(node.right, score, userId);
+        }
+        return update(node);
+    }
+
+    // (key보다 앞, key 이후)로 나눈다
+    private static Node[] split(Node node, long score, String userId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, userId, node) > 0) {
+            Node[] parts = split(node.right, score, userId);
+            node.right = parts[0];
+            return new Node[]{update(node), parts[1]};
+        }
+        Node[] parts = split(node.left, score, userId);
+        node.left = parts[1];
+        return new Node[]{parts[0], update(node)};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
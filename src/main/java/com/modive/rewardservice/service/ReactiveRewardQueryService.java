@@ -0,0 +1,48 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.dto.RewardDto;
+import com.modive.rewardservice.repository.ReactiveRewardReadRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 잔액/내역 리액티브 조회
+ * RewardService의 조회와 같은 결과를 돌려주되, 쿼리 대기 중 요청 스레드와 JDBC 커넥션을 점유하지 않는다.
+ * 제한 시간은 JPA 조회와 같은 reward.bulkhead.user.statement-timeout(초)을 따른다.
+ */
+@Service
+@ConditionalOnProperty(name = "reward.reactive-read.enabled", havingValue = "true")
+public class ReactiveRewardQueryService {
+
+    private final ReactiveRewardReadRepository readRepository;
+    private final Duration timeout;
+
+    public ReactiveRewardQueryService(ReactiveRewardReadRepository readRepository,
+                                      @Value("${reward.bulkhead.user.statement-timeout:5}") long timeoutSeconds) {
+        this.readRepository = readRepository;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    /**사용자 현재 씨앗 잔액 조회 (잔액 행이 없으면 0)**/
+    public Mono<Long> getBalance(String userId) {
+        return readRepository.findBalanceByUserId(userId)
+                .defaultIfEmpty(0L)
+                .timeout(timeout);
+    }
+
+    /**사용자별 씨앗 적립 내역 페이징 조회 (최신순)**/
+    public Mono<Page<RewardDto.Response>> getRewardHistory(String userId, Pageable pageable) {
+        Mono<Page<RewardDto.Response>> page = Mono.zip(
+                        readRepository.findHistoryByUserId(userId, pageable.getOffset(), pageable.getPageSize()).collectList(),
+                        readRepository.countByUserId(userId))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+        return page.timeout(timeout);
+    }
+}
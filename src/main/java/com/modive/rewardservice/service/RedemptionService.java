@@ -0,0 +1,112 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.Reward;
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.exception.InsufficientBalanceException;
+import com.modive.rewardservice.exception.OrderConflictException;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 씨앗 사용 (USED)
+ * 잔액은 조건부 UPDATE(balance >= amount) 한 번으로 차감하므로 읽고-쓰기 경합이나 재시도 없이
+ * 동시 요청이 몰려도 잔액보다 많이 차감되지 않는다.
+ * 주문 ID별로 한 번만 차감되며, 같은 주문의 재요청에는 처음 결과를 그대로 돌려준다.
+ */
+@Service
+public class RedemptionService {
+
+    static final String DESCRIPTION = "씨앗 사용";
+
+    private final RewardRepository rewardRepository;
+    private final RewardBalanceRepository rewardBalanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transaction;
+
+    @Autowired
+    public RedemptionService(RewardRepository rewardRepository,
+                             RewardBalanceRepository rewardBalanceRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${reward.bulkhead.user.statement-timeout:5}") int timeoutSeconds) {
+        this(rewardRepository, rewardBalanceRepository, eventPublisher, transaction(transactionManager, timeoutSeconds));
+    }
+
+    RedemptionService(RewardRepository rewardRepository, RewardBalanceRepository rewardBalanceRepository,
+                      ApplicationEventPublisher eventPublisher, TransactionOperations transaction) {
+        this.rewardRepository = rewardRepository;
+        this.rewardBalanceRepository = rewardBalanceRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = transaction;
+    }
+
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    /**
+     * 씨앗 사용 처리 (주문 ID 기준 멱등)
+     *
+     * @return USED 내역 (이미 처리된 주문이면 기존 내역)
+     */
+    public Reward redeem(String userId, String orderId, long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        try {
+            return transaction.execute(status -> findProcessed(userId, orderId, amount)
+                    .orElseGet(() -> debit(userId, orderId, amount)));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문이 동시에 들어와 다른 쪽이 먼저 커밋한 경우 (이쪽 차감은 롤백됨)
+            Optional<Reward> processed = transaction.execute(status -> findProcessed(userId, orderId, amount));
+            return processed.orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<Reward> findProcessed(String userId, String orderId, long amount) {
+        Optional<Reward> processed = rewardRepository.findByOrderId(orderId);
+        processed.ifPresent(reward -> {
+            if (!reward.getUserId().equals(userId) || reward.getAmount() != amount) {
+                throw new OrderConflictException(orderId);
+            }
+        });
+        return processed;
+    }
+
+    private Reward debit(String userId, String orderId, long amount) {
+        LocalDateTime now = LocalDateTime.now();
+        if (rewardBalanceRepository.debit(userId, amount, now) == 0) {
+            throw new InsufficientBalanceException(userId, amount);
+        }
+        // 차감한 행은 커밋까지 이 트랜잭션이 잠그고 있으므로 다시 읽은 잔액이 차감 직후 값이다
+        RewardBalance rewardBalance = rewardBalanceRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("Balance row disappeared for user " + userId));
+
+        Reward reward = rewardRepository.save(Reward.builder()
+                .userId(userId)
+                .amount(amount)
+                .type(RewardType.USED)
+                .description(DESCRIPTION)
+                .balanceSnapshot(rewardBalance.getBalance())
+                .rewardBalance(rewardBalance)
+                .orderId(orderId)
+                .build());
+        eventPublisher.publishEvent(new BalanceChangedEvent(
+                userId, RewardType.USED, amount, rewardBalance.getBalance(), now));
+        return reward;
+    }
+}
@@ -0,0 +1,255 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.*;
+import com.modive.rewardservice.exception.InsufficientBalanceException;
+import com.modive.rewardservice.exception.OrderConflictException;
+import com.modive.rewardservice.exception.ReservationNotFoundException;
+import com.modive.rewardservice.exception.ReservationStateException;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import com.modive.rewardservice.repository.RewardReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 결제용 씨앗 2단계 예약 (예약 → 확정 / 취소)
+ * - 예약: 사용 가능 잔액(balance)에서 묶음(held)으로 옮기고 USED 내역을 남긴다.
+ * - 확정: 묶음을 소진한다 (내역은 예약 때 남긴 USED 그대로).
+ * - 취소/만료: 묶음을 사용 가능 잔액으로 돌려주고 CANCELED 내역을 남긴다.
+ * 잔액과 예약 상태는 모두 조건부 UPDATE로만 바뀌므로 확정/취소/만료가 겹쳐도 한쪽만 반영된다.
+ * 만료된 예약은 sweep-interval마다 (status, expires_at) 인덱스로 찾아 하나씩 반환한다.
+ * 만료 시각이 지났어도 아직 반환되지 않은 예약은 확정할 수 있다.
+ */
+@Slf4j
+@Service
+public class ReservationService {
+
+    static final String HOLD_DESCRIPTION = "씨앗 예약";
+    static final String CANCEL_DESCRIPTION = "씨앗 예약 취소";
+    static final String EXPIRE_DESCRIPTION = "씨앗 예약 만료";
+
+    private final RewardReservationRepository reservationRepository;
+    private final RewardRepository rewardRepository;
+    private final RewardBalanceRepository rewardBalanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transaction;
+    private final Clock clock;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+    private final int sweepBatchSize;
+
+    @Autowired
+    public ReservationService(RewardReservationRepository reservationRepository,
+                              RewardRepository rewardRepository,
+                              RewardBalanceRepository rewardBalanceRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${reward.bulkhead.user.statement-timeout:5}") int timeoutSeconds,
+                              @Value("${reward.reservation.default-ttl:PT10M}") Duration defaultTtl,
+                              @Value("${reward.reservation.max-ttl:PT1H}") Duration maxTtl,
+                              @Value("${reward.reservation.sweep-batch-size:100}") int sweepBatchSize) {
+        this(reservationRepository, rewardRepository, rewardBalanceRepository, eventPublisher,
+                transaction(transactionManager, timeoutSeconds), Clock.systemDefaultZone(),
+                defaultTtl, maxTtl, sweepBatchSize);
+    }
+
+    ReservationService(RewardReservationRepository reservationRepository, RewardRepository rewardRepository,
+                       RewardBalanceRepository rewardBalanceRepository, ApplicationEventPublisher eventPublisher,
+                       TransactionOperations transaction, Clock clock,
+                       Duration defaultTtl, Duration maxTtl, int sweepBatchSize) {
+        this.reservationRepository = reservationRepository;
+        this.rewardRepository = rewardRepository;
+        this.rewardBalanceRepository = rewardBalanceRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    /**
+     * 씨앗 예약 (주문 ID 기준 멱등, ttl이 없으면 기본값, 최대 max-ttl)
+     */
+    public RewardReservation reserve(String userId, String orderId, long amount, Duration ttl) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Amount must be positive");
+        }
+        Duration holdFor = ttl == null || ttl.isNegative() || ttl.isZero() ? defaultTtl
+                : (ttl.compareTo(maxTtl) > 0 ? maxTtl : ttl);
+        try {
+            return transaction.execute(status -> findReserved(userId, orderId, amount)
+                    .orElseGet(() -> hold(userId, orderId, amount, holdFor)));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 주문이 동시에 들어와 다른 쪽이 먼저 커밋한 경우 (이쪽 예약은 롤백됨)
+            Optional<RewardReservation> reserved = transaction.execute(status -> findReserved(userId, orderId, amount));
+            return reserved.orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 예약 확정 (이미 확정된 예약은 그대로 반환)
+     */
+    public RewardReservation confirm(String userId, String orderId) {
+        return transaction.execute(status -> {
+            RewardReservation reservation = findOwned(userId, orderId);
+            if (reservation.getStatus() == ReservationStatus.HELD) {
+                LocalDateTime now = LocalDateTime.now(clock);
+                if (reservationRepository.transitionFromHeld(reservation.getId(), ReservationStatus.CONFIRMED, now) == 1) {
+                    if (rewardBalanceRepository.settleHold(userId, reservation.getAmount(), now) != 1) {
+                        throw new IllegalStateException("Held balance is smaller than reservation " + orderId);
+                    }
+                }
+                reservation = findOwned(userId, orderId);
+            }
+            if (reservation.getStatus() != ReservationStatus.CONFIRMED) {
+                throw new ReservationStateException(orderId, reservation.getStatus());
+            }
+            return reservation;
+        });
+    }
+
+    /**
+     * 예약 취소 (이미 취소/만료된 예약은 그대로 반환)
+     */
+    public RewardReservation cancel(String userId, String orderId) {
+        return transaction.execute(status -> {
+            RewardReservation reservation = findOwned(userId, orderId);
+            if (reservation.getStatus() == ReservationStatus.HELD) {
+                release(reservation, ReservationStatus.CANCELED, CANCEL_DESCRIPTION);
+                reservation = findOwned(userId, orderId);
+            }
+            if (reservation.getStatus() == ReservationStatus.CONFIRMED) {
+                throw new ReservationStateException(orderId, reservation.getStatus());
+            }
+            return reservation;
+        });
+    }
+
+    /**
+     * 만료된 HELD 예약 반환 (예약마다 별도 트랜잭션)
+     *
+     * @return 이번에 만료 처리한 예약 수
+     */
+    @Scheduled(initialDelayString = "${reward.reservation.sweep-interval:PT5S}",
+            fixedDelayString = "${reward.reservation.sweep-interval:PT5S}")
+    public int expireDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int expired = 0;
+        while (true) {
+            List<Long> ids = reservationRepository.findExpiredHeldIds(now, PageRequest.of(0, sweepBatchSize));
+            int expiredInBatch = 0;
+            for (Long id : ids) {
+                try {
+                    Boolean released = transaction.execute(status -> reservationRepository.findById(id)
+                            .map(reservation -> release(reservation, ReservationStatus.EXPIRED, EXPIRE_DESCRIPTION))
+                            .orElse(false));
+                    if (Boolean.TRUE.equals(released)) {
+                        expiredInBatch++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Failed to expire reservation {}", id, e);
+                }
+            }
+            expired += expiredInBatch;
+            // 한 건도 처리하지 못한 배치가 나오면 같은 행을 다시 읽지 않도록 다음 주기로 넘긴다
+            if (ids.size() < sweepBatchSize || expiredInBatch == 0) {
+                break;
+            }
+        }
+        if (expired > 0) {
+            log.info("Expired {} seed reservations", expired);
+        }
+        return expired;
+    }
+
+    private Optional<RewardReservation> findReserved(String userId, String orderId, long amount) {
+        Optional<RewardReservation> reserved = reservationRepository.findByOrderId(orderId);
+        if (reserved.isPresent()) {
+            RewardReservation reservation = reserved.get();
+            if (!reservation.getUserId().equals(userId) || reservation.getAmount() != amount) {
+                throw new OrderConflictException(orderId);
+            }
+            return reserved;
+        }
+        // 바로 사용(redeem)으로 처리된 주문 ID
+        if (rewardRepository.findByOrderId(orderId).isPresent()) {
+            throw new OrderConflictException(orderId);
+        }
+        return Optional.empty();
+    }
+
+    private RewardReservation findOwned(String userId, String orderId) {
+        return reservationRepository.findByOrderId(orderId)
+                .filter(reservation -> reservation.getUserId().equals(userId))
+                .orElseThrow(() -> new ReservationNotFoundException(orderId));
+    }
+
+    private RewardReservation hold(String userId, String orderId, long amount, Duration holdFor) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (rewardBalanceRepository.hold(userId, amount, now) == 0) {
+            throw new InsufficientBalanceException(userId, amount);
+        }
+        RewardReservation reservation = reservationRepository.save(RewardReservation.builder()
+                .orderId(orderId)
+                .userId(userId)
+                .amount(amount)
+                .expiresAt(now.plus(holdFor))
+                .build());
+        writeLedger(userId, RewardType.USED, amount, HOLD_DESCRIPTION, orderId, now);
+        return reservation;
+    }
+
+    /**
+     * HELD 예약을 반환 상태로 바꾸고 씨앗을 돌려준다 (다른 쪽이 먼저 상태를 바꿨으면 false)
+     */
+    private boolean release(RewardReservation reservation, ReservationStatus status, String description) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (reservationRepository.transitionFromHeld(reservation.getId(), status, now) == 0) {
+            return false;
+        }
+        if (rewardBalanceRepository.releaseHold(reservation.getUserId(), reservation.getAmount(), now) != 1) {
+            throw new IllegalStateException("Held balance is smaller than reservation " + reservation.getOrderId());
+        }
+        writeLedger(reservation.getUserId(), RewardType.CANCELED, reservation.getAmount(), description, null, now);
+        return true;
+    }
+
+    private void writeLedger(String userId, RewardType type, long amount, String description, String orderId,
+                             LocalDateTime now) {
+        // 조건부 UPDATE가 행을 잠그고 있으므로 다시 읽은 잔액이 변경 직후 값이다
+        RewardBalance rewardBalance = rewardBalanceRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("Balance row disappeared for user " + userId));
+        rewardRepository.save(Reward.builder()
+                .userId(userId)
+                .amount(amount)
+                .type(type)
+                .description(description)
+                .balanceSnapshot(rewardBalance.getBalance())
+                .rewardBalance(rewardBalance)
+                .orderId(orderId)
+                .build());
+        eventPublisher.publishEvent(new BalanceChangedEvent(userId, type, amount, rewardBalance.getBalance(), now));
+    }
+}
@@ -0,0 +1,219 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.BatchJobStatus;
+import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.exception.BatchJobNotFoundException;
+import com.modive.rewardservice.repository.DriveRewardRow;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.BalanceRef;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.LedgerRow;
+import com.modive.rewardservice.repository.RewardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 부정 주행 적립 취소 (비동기 작업)
+ * 주행 ID를 청크로 나눠 청크마다 트랜잭션 하나로 처리하므로 한 번에 한 청크의 잔액 행만 잠근다.
+ * - 청크의 아직 취소되지 않은 적립을 (사용자, 주행)별로 합산해 한 번에 읽는다.
+ * - 잔액은 사용자당 UPDATE 한 번(JDBC 배치)으로 차감한다. 이미 사용한 씨앗은 음수 잔액으로 남는다.
+ * - (사용자, 주행)마다 같은 driveId로 CANCELED 내역을 남긴다(JDBC 배치 INSERT).
+ * CANCELED 내역이 있는 주행은 다시 취소하지 않으므로 실패한 작업은 같은 요청으로 다시 돌리면 된다.
+ * 작업은 단일 스레드에서 순서대로 실행되어 같은 주행을 동시에 취소하지 않는다.
+ */
+@Slf4j
+@Service
+public class RewardReversalService {
+
+    static final String DESCRIPTION = "주행 적립 취소";
+    static final int MAX_RETAINED_JOBS = 100;
+
+    private final RewardRepository rewardRepository;
+    private final RewardLedgerJdbcRepository ledgerJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transaction;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final int chunkSize;
+
+    // 최근 작업 진행 상황 (오래된 작업부터 정리)
+    private final Map<String, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    });
+
+    @Autowired
+    public RewardReversalService(RewardRepository rewardRepository,
+                                 RewardLedgerJdbcRepository ledgerJdbcRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${reward.bulkhead.admin.statement-timeout:30}") int timeoutSeconds,
+                                 @Value("${reward.reversal.chunk-size:500}") int chunkSize) {
+        this(rewardRepository, ledgerJdbcRepository, eventPublisher, transaction(transactionManager, timeoutSeconds),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "reward-reversal");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                Clock.systemDefaultZone(), chunkSize);
+    }
+
+    RewardReversalService(RewardRepository rewardRepository, RewardLedgerJdbcRepository ledgerJdbcRepository,
+                          ApplicationEventPublisher eventPublisher, TransactionOperations transaction,
+                          ExecutorService executor, Clock clock, int chunkSize) {
+        this.rewardRepository = rewardRepository;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = transaction;
+        this.executor = executor;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 취소 작업 등록 (중복 주행 ID는 한 번만 처리)
+     */
+    public AdminRewardDto.ReversalJobResponse start(List<String> driveIds) {
+        List<String> distinct = driveIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Job job = new Job(UUID.randomUUID().toString(), distinct, LocalDateTime.now(clock));
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job));
+        return job.toResponse();
+    }
+
+    public AdminRewardDto.ReversalJobResponse getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new BatchJobNotFoundException(jobId);
+        }
+        return job.toResponse();
+    }
+
+    private void run(Job job) {
+        job.status = BatchJobStatus.RUNNING;
+        try {
+            for (int from = 0; from < job.driveIds.size(); from += chunkSize) {
+                List<String> chunk = job.driveIds.subList(from, Math.min(from + chunkSize, job.driveIds.size()));
+                long[] reversed = transaction.execute(status -> reverseChunk(chunk));
+                job.reversedRewards += reversed[0];
+                job.reversedAmount += reversed[1];
+                job.processedDrives += chunk.size();
+            }
+            job.status = BatchJobStatus.COMPLETED;
+            log.info("Reversal job {} reversed {} rewards ({} seeds) for {} drives",
+                    job.id, job.reversedRewards, job.reversedAmount, job.driveIds.size());
+        } catch (RuntimeException e) {
+            job.error = e.getMessage();
+            job.status = BatchJobStatus.FAILED;
+            log.warn("Reversal job {} failed after {} drives", job.id, job.processedDrives, e);
+        } finally {
+            job.finishedAt = LocalDateTime.now(clock);
+        }
+    }
+
+    /**
+     * 청크 하나 취소
+     *
+     * @return {취소한 (사용자, 주행) 건수, 차감 합계}
+     */
+    private long[] reverseChunk(List<String> driveIds) {
+        List<DriveRewardRow> rows = rewardRepository.sumUnreversedEarnedByDriveIdIn(driveIds);
+        if (rows.isEmpty()) {
+            return new long[]{0, 0};
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        SortedMap<String, Long> debits = new TreeMap<>();
+        for (DriveRewardRow row : rows) {
+            debits.merge(row.userId(), row.amount(), Long::sum);
+        }
+        List<String> missing = ledgerJdbcRepository.debitBalances(debits, now);
+        Map<String, BalanceRef> balances = ledgerJdbcRepository.findBalances(debits.keySet());
+        if (!missing.isEmpty() || balances.size() != debits.size()) {
+            throw new IllegalStateException("Balance rows missing for users " + missing);
+        }
+
+        // 사용자별로 차감 전 잔액에서 주행 순서대로 빼며 각 내역의 잔액 스냅샷을 만든다
+        List<LedgerRow> canceled = new ArrayList<>(rows.size());
+        String userId = null;
+        long running = 0;
+        for (DriveRewardRow row : rows) {
+            BalanceRef balance = balances.get(row.userId());
+            if (!row.userId().equals(userId)) {
+                userId = row.userId();
+                running = balance.balance() + debits.get(userId);
+            }
+            running -= row.amount();
+            canceled.add(new LedgerRow(row.userId(), row.driveId(), row.amount(), running, balance.id()));
+        }
+        ledgerJdbcRepository.insertLedger(RewardType.CANCELED, canceled, DESCRIPTION,
+                RewardReason.fromDescription(DESCRIPTION).getCode(), now);
+
+        debits.forEach((user, amount) -> eventPublisher.publishEvent(new BalanceChangedEvent(
+                user, RewardType.CANCELED, amount, balances.get(user).balance(), now, true)));
+        return new long[]{rows.size(), debits.values().stream().mapToLong(Long::longValue).sum()};
+    }
+
+    // 작업 스레드 하나만 쓰고 조회 스레드는 읽기만 한다
+    private static final class Job {
+        final String id;
+        final List<String> driveIds;
+        final LocalDateTime requestedAt;
+        volatile BatchJobStatus status = BatchJobStatus.QUEUED;
+        volatile int processedDrives;
+        volatile long reversedRewards;
+        volatile long reversedAmount;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+
+        Job(String id, List<String> driveIds, LocalDateTime requestedAt) {
+            this.id = id;
+            this.driveIds = driveIds;
+            this.requestedAt = requestedAt;
+        }
+
+        AdminRewardDto.ReversalJobResponse toResponse() {
+            return AdminRewardDto.ReversalJobResponse.builder()
+                    .jobId(id)
+                    .status(status)
+                    .totalDrives(driveIds.size())
+                    .processedDrives(processedDrives)
+                    .reversedRewards(reversedRewards)
+                    .reversedAmount(reversedAmount)
+                    .requestedAt(requestedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
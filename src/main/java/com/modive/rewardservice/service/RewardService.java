@@ -2,10 +2,15 @@ package com.modive.rewardservice.service;
 
 import com.modive.rewardservice.domain.*;
 import com.modive.rewardservice.dto.request.RewardEarnRequest;
-import com.modive.rewardservice.dto.request.ScoreInfo;
+import com.modive.rewardservice.repository.DriveRecordRepository;
 import com.modive.rewardservice.repository.RewardBalanceRepository;
 import com.modive.rewardservice.repository.RewardRepository;
+import com.modive.rewardservice.service.rule.RewardRule;
+import com.modive.rewardservice.service.rule.RewardRuleContext;
+import com.modive.rewardservice.service.rule.RewardRuleEngine;
+import com.modive.rewardservice.service.rule.RewardRulePlan;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,132 +23,67 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class RewardService {
 
+    // 사용자 요청 쿼리 타임아웃(초): 적립/잔액 경로는 짧게 끊어 커넥션을 빨리 돌려준다
+    private static final String STATEMENT_TIMEOUT = "${reward.bulkhead.user.statement-timeout:5}";
+
     private final RewardRepository rewardRepository;
     private final RewardBalanceRepository rewardBalanceRepository;
+    private final DriveRecordRepository driveRecordRepository;
+    private final RewardRuleEngine rewardRuleEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IssuanceMonitor issuanceMonitor;
+    private final IssuanceAnomalyDetector issuanceAnomalyDetector;
 
     /**씨앗적립처리**/
-    @Transactional
+    @Transactional(timeoutString = STATEMENT_TIMEOUT)
     public void calculateAndEarn(RewardEarnRequest request) {
         String userId = request.getUserId();
-        LocalDate today = LocalDate.now();
-
-        // ✅ 1. 주행 중 리워드 (주행 시간 >= 10분) - 제한 없음
-        if (request.getDrivingTime() != null && request.getDrivingTime() >= 0) {
-            // 🔧 수정: "주행 중 이벤트 미감지 보상" → "이벤트미발생"
-            earn(userId, 1L, RewardReason.EVENT_NOT_OCCURRED.getLabel());
-        }
-
-        // ✅ 2. 종합 점수 리워드 (score ≥ 50, 하루 최대 2회까지)
-        if (request.getScore() != null && request.getScore() >= 50) {
-            LocalDateTime startOfDay = today.atStartOfDay();
-            LocalDateTime endOfDay = today.atTime(23, 59, 59);
-
-            // 🔧 수정: "종합 점수 보상%" → "종합점수"
-            long countToday = rewardRepository.countByUserIdAndDescriptionLikeAndDateRange(
-                    userId, RewardReason.TOTAL_SCORE.getLabel() + "%", startOfDay, endOfDay
-            );
-
-            if (countToday < 200) {
-                long seed = calculateScoreReward(request.getScore());
-                if (seed > 0) {
-                    // 🔧 수정: "종합 점수 보상: 85점" → "종합점수"
-                    earn(userId, seed, RewardReason.TOTAL_SCORE.getLabel());
-                }
-            }
-        }
-
-        // ✅ 3. MoBTI 향상 리워드 (좋은 쪽으로 1개 이상 변할 때만, 하루 최대 2회까지)
-        String lastMbti = determineMbtiType(request.getLastScore());
-        String currentMbti = determineMbtiType(request.getCurrentScore());
 
-        if (isMbtiImproved(lastMbti, currentMbti)) {
-            LocalDateTime startOfDay = today.atStartOfDay();
-            LocalDateTime endOfDay = today.atTime(23, 59, 59);
+        MobtiType lastMobti = MobtiEvaluator.evaluate(request.getLastScore());
+        MobtiType currentMobti = MobtiEvaluator.evaluate(request.getCurrentScore());
 
-            // 🔧 수정: "MoBTI 향상 보상%" → "MoBTI향상"
-            long mbtiCountToday = rewardRepository.countByUserIdAndDescriptionLikeAndDateRange(
-                    userId, RewardReason.MOBTI_IMPROVEMENT.getLabel() + "%", startOfDay, endOfDay
-            );
+        driveRecordRepository.save(DriveRecord.builder()
+                .userId(userId)
+                .driveId(request.getDriveId())
+                .score(request.getScore())
+                .drivingTime(request.getDrivingTime())
+                .lastMobti(lastMobti)
+                .currentMobti(currentMobti)
+                .build());
+
+        // ✅ 규칙(주행 / 종합점수 / MoBTI 향상)을 한 번에 평가
+        RewardRulePlan plan = rewardRuleEngine.getPlan();
+        long[] amounts = plan.evaluate(RewardRuleContext.of(
+                request.getDrivingTime(), request.getScore(), lastMobti, currentMobti));
 
-            if (mbtiCountToday < 200) {
-                // 🔧 수정: "MoBTI 향상 보상: HAIU → EDSF" → "MoBTI향상"
-                earn(userId, 5L, RewardReason.MOBTI_IMPROVEMENT.getLabel());
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] <= 0) {
+                continue;
             }
-        }
-    }
-    /**
-     * 종합 점수에 따른 씨앗 보상 계산
-     */
-    private long calculateScoreReward(int score) {
-        return switch (score / 10) {
-            case 10, 9 -> 5;  // 90-100점: 5씨앗
-            case 8 -> 4;      // 80-89점: 4씨앗
-            case 7 -> 3;      // 70-79점: 3씨앗
-            case 6 -> 2;      // 60-69점: 2씨앗
-            case 5 -> 1;      // 50-59점: 1씨앗
-            default -> 0;     // 0-49점: 없음
-        };
-    }
-
-    /**
-     * ScoreInfo를 기반으로 MoBTI 타입 결정
-     * 51점 이상이면 좋은 타입(E/D/S/F), 미만이면 나쁜 타입(H/A/I/U)
-     */
-    private String determineMbtiType(ScoreInfo score) {
-        if (score == null) return null;
-
-        String eco = score.getCarbon() != null && score.getCarbon() >= 51 ? "E" : "H";     // 에코 vs 헤비
-        String safety = score.getSafety() != null && score.getSafety() >= 51 ? "D" : "A";  // 방어 vs 공격
-        String accident = score.getAccident() != null && score.getAccident() >= 51 ? "S" : "I"; // 민감 vs 둔감
-        String focus = score.getFocus() != null && score.getFocus() >= 51 ? "F" : "U";    // 집중 vs 산만
-
-        return eco + safety + accident + focus;
-    }
-
-    /**
-     * MoBTI 향상 여부 판정
-     * 좋은 타입: E, D, S, F
-     * 하나 이상이 좋은 쪽으로 변하면 향상으로 간주
-     */
-    private boolean isMbtiImproved(String lastMbti, String currentMbti) {
-        if (lastMbti == null || currentMbti == null || lastMbti.equals(currentMbti)) {
-            return false;
-        }
-
-        // 각 자리별로 향상 여부 체크
-        char[] lastChars = lastMbti.toCharArray();
-        char[] currentChars = currentMbti.toCharArray();
-
-        // 하나라도 좋은 쪽으로 변했는지 확인
-        for (int i = 0; i < 4; i++) {
-            if (isImprovedAtPosition(lastChars[i], currentChars[i], i)) {
-                return true;
+            RewardRule rule = plan.getRule(i);
+            String description = rule.getReason().getLabel();
+
+            // 하루 최대 지급 횟수 제한
+            if (rule.hasDailyLimit()) {
+                long countToday = rewardRepository.countByUserIdAndDescriptionLikeAndDateRange(
+                        userId, description + "%", today.atStartOfDay(), today.atTime(23, 59, 59)
+                );
+                if (countToday >= rule.getDailyLimit()) {
+                    continue;
+                }
             }
-        }
 
-        return false;
-    }
+            earn(userId, request.getDriveId(), amounts[i], description);
+        }
 
-    /**
-     * 각 포지션별 향상 여부 체크
-     * @param lastChar 이전 타입
-     * @param currentChar 현재 타입
-     * @param position 0:에너지관리, 1:주행스타일, 2:반응민감도, 3:주의집중도
-     */
-    private boolean isImprovedAtPosition(char lastChar, char currentChar, int position) {
-        return switch (position) {
-            case 0 -> lastChar == 'H' && currentChar == 'E';  // Heavy → Eco
-            case 1 -> lastChar == 'A' && currentChar == 'D';  // Aggressive → Defensive
-            case 2 -> lastChar == 'I' && currentChar == 'S';  // Insensitive → Sensitive
-            case 3 -> lastChar == 'U' && currentChar == 'F';  // Unfocused → Focused
-            default -> false;
-        };
+        issuanceAnomalyDetector.observe(userId, request.getScore());
     }
 
     /**
      * 씨앗 적립 처리
      */
-    private Reward earn(String userId, Long amount, String description) {
+    private Reward earn(String userId, String driveId, Long amount, String description) {
         RewardBalance rewardBalance = rewardBalanceRepository.findByUserId(userId)
                 .orElseGet(() -> RewardBalance.builder()
                         .userId(userId)
@@ -160,13 +100,18 @@ public class RewardService {
                 .description(description)
                 .balanceSnapshot(rewardBalance.getBalance())
                 .rewardBalance(rewardBalance)
+                .driveId(driveId)
                 .build();
 
-        return rewardRepository.save(reward);
+        Reward saved = rewardRepository.save(reward);
+        eventPublisher.publishEvent(new BalanceChangedEvent(
+                userId, RewardType.EARNED, amount, rewardBalance.getBalance(), LocalDateTime.now()));
+        issuanceMonitor.record(reward.getReason(), amount);
+        return saved;
     }
 
     /**사용자 현재 씨앗 잔액 조회**/
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public Long getBalance(String userId) {
         return rewardBalanceRepository.findByUserId(userId)
                 .map(RewardBalance::getBalance)
@@ -174,7 +119,7 @@ public class RewardService {
     }
 
     /**사용자별 씨앗 적립 내역 페이징 조회**/
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, timeoutString = STATEMENT_TIMEOUT)
     public Page<Reward> getRewardHistory(String userId, Pageable pageable) {
         return rewardRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
@@ -0,0 +1,203 @@
+package com.modive.rewardservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.repository.DriveRecordRepository;
+import com.modive.rewardservice.repository.DriveReplayRow;
+import com.modive.rewardservice.service.rule.RewardRuleContext;
+import com.modive.rewardservice.service.rule.RewardRuleEngine;
+import com.modive.rewardservice.service.rule.RewardRulePlan;
+import com.modive.rewardservice.service.rule.RewardRuleProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * 적립 규칙 시뮬레이션 (dry-run)
+ * 과거 주행 기록(drive_record)을 대체 규칙으로 재생해 예상 발급량을 계산한다. DB에는 아무것도 쓰지 않는다.
+ * 하루 단위로 읽고 결과를 바로 내보내므로 메모리 사용량은 하루치 주행 기록으로 제한된다.
+ */
+@Slf4j
+@Service
+public class RewardSimulationService {
+
+    private final DriveRecordRepository driveRecordRepository;
+    private final RewardRuleEngine rewardRuleEngine;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ForkJoinPool simulationPool;
+    private final ObjectMapper objectMapper;
+    private final int maxDays;
+
+    public RewardSimulationService(DriveRecordRepository driveRecordRepository,
+                                   RewardRuleEngine rewardRuleEngine,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper,
+                                   @Value("${reward.simulation.parallelism:0}") int parallelism,
+                                   @Value("${reward.simulation.max-days:366}") int maxDays) {
+        this.driveRecordRepository = driveRecordRepository;
+        this.rewardRuleEngine = rewardRuleEngine;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.simulationPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.objectMapper = objectMapper;
+        this.maxDays = maxDays;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        simulationPool.shutdown();
+    }
+
+    public int getMaxDays() {
+        return maxDays;
+    }
+
+    /**
+     * 대체 규칙 컴파일 (비어 있으면 현재 규칙)
+     */
+    public RewardRulePlan compilePlan(List<RewardRuleProperties.RuleDefinition> rules) {
+        if (CollectionUtils.isEmpty(rules)) {
+            return rewardRuleEngine.getPlan();
+        }
+        return rewardRuleEngine.compile(rules);
+    }
+
+    /**
+     * 기간 내 일자별 결과를 NDJSON으로 출력하고 마지막 줄에 합계를 출력
+     */
+    public void simulate(LocalDate startDate, LocalDate endDate, RewardRulePlan plan, OutputStream out) throws IOException {
+        Tally total = new Tally(plan.size());
+
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            Tally tally = simulateDay(day, plan);
+            total.merge(tally);
+
+            writeLine(out, AdminRewardDto.SimulationDayResult.builder()
+                    .date(day)
+                    .drives(tally.drives)
+                    .total(tally.total())
+                    .issuedByReason(tally.byReason(plan))
+                    .build());
+        }
+
+        writeLine(out, AdminRewardDto.SimulationSummary.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .drives(total.drives)
+                .total(total.total())
+                .issuedByReason(total.byReason(plan))
+                .build());
+    }
+
+    /**
+     * 하루치 주행 기록을 사용자 단위로 나눠 병렬 재생
+     */
+    Tally simulateDay(LocalDate day, RewardRulePlan plan) {
+        List<DriveReplayRow> rows = readOnlyTransaction.execute(status ->
+                driveRecordRepository.findReplayRowsBetween(day.atStartOfDay(), day.plusDays(1).atStartOfDay()));
+
+        if (CollectionUtils.isEmpty(rows)) {
+            return new Tally(plan.size());
+        }
+
+        // userId로 정렬되어 있으므로 사용자 경계 인덱스만 계산
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+        for (int i = 1; i < rows.size(); i++) {
+            if (!rows.get(i).userId().equals(rows.get(i - 1).userId())) {
+                boundaries.add(i);
+            }
+        }
+        boundaries.add(rows.size());
+
+        return simulationPool.submit(() -> IntStream.range(0, boundaries.size() - 1)
+                        .parallel()
+                        .mapToObj(u -> replayUser(rows, boundaries.get(u), boundaries.get(u + 1), plan))
+                        .collect(() -> new Tally(plan.size()), Tally::merge, Tally::merge))
+                .join();
+    }
+
+    /**
+     * 한 사용자의 하루 주행을 시간순으로 재생 (일일 지급 제한은 메모리에서 계산)
+     */
+    private Tally replayUser(List<DriveReplayRow> rows, int from, int to, RewardRulePlan plan) {
+        Tally tally = new Tally(plan.size());
+        int[] grantedToday = new int[plan.size()];
+
+        for (int i = from; i < to; i++) {
+            DriveReplayRow row = rows.get(i);
+            long[] amounts = plan.evaluate(RewardRuleContext.of(
+                    row.drivingTime(), row.score(), row.lastMobti(), row.currentMobti()));
+
+            for (int r = 0; r < amounts.length; r++) {
+                if (amounts[r] <= 0) {
+                    continue;
+                }
+                int dailyLimit = plan.getRule(r).getDailyLimit();
+                if (dailyLimit > 0 && grantedToday[r] >= dailyLimit) {
+                    continue;
+                }
+                grantedToday[r]++;
+                tally.amounts[r] += amounts[r];
+            }
+            tally.drives++;
+        }
+        return tally;
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+        out.flush();
+    }
+
+    /**
+     * 규칙별 발급 합계
+     */
+    static final class Tally {
+        private final long[] amounts;
+        private long drives;
+
+        Tally(int size) {
+            this.amounts = new long[size];
+        }
+
+        Tally merge(Tally other) {
+            for (int i = 0; i < amounts.length; i++) {
+                amounts[i] += other.amounts[i];
+            }
+            drives += other.drives;
+            return this;
+        }
+
+        long total() {
+            long sum = 0;
+            for (long amount : amounts) {
+                sum += amount;
+            }
+            return sum;
+        }
+
+        Map<String, Long> byReason(RewardRulePlan plan) {
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (int i = 0; i < amounts.length; i++) {
+                result.merge(plan.getRule(i).getReason().getLabel(), amounts[i], Long::sum);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.ExpirationCheckpoint;
+import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.repository.ExpirableRow;
+import com.modive.rewardservice.repository.ExpirationCheckpointRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.BalanceRef;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.LedgerRow;
+import com.modive.rewardservice.repository.RewardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 씨앗 소멸 (적립 후 months개월이 지난 씨앗, 선입선출)
+ * 빠져나간 씨앗(사용/소멸)은 오래된 적립부터 소진한 것으로 보고, 유효기간이 지난 적립 중 남은 만큼을 소멸시킨다.
+ * 주행 적립 취소는 소진이 아니라 그 주행의 적립을 없앤 것이므로 해당 적립에서만 뺀다.
+ * 소멸분도 빠져나간 씨앗에 포함되므로 같은 날 다시 돌려도 두 번 소멸되지 않는다.
+ * - reward_balance를 id 범위 workers개로 나눠 병렬로 처리하고, 범위 안은 id 키셋 청크로 훑는다.
+ * - 청크마다 트랜잭션 하나: 잔액 행을 잠그고(FOR UPDATE) 합계를 계산해 차감/EXPIRED 내역을 JDBC 배치로 쓴다.
+ * - 같은 트랜잭션에서 범위별 체크포인트를 갱신하므로 중단되면 시작 시 마지막 커밋 청크 다음부터 이어서 처리한다.
+ * 여러 인스턴스가 동시에 돌아도 잔액 행을 잠근 뒤 내역으로 다시 계산하므로 두 번 소멸되지 않는다.
+ */
+@Slf4j
+@Service
+public class SeedExpirationService {
+
+    static final String DESCRIPTION = "씨앗 소멸";
+
+    public record ExpirationResult(long expiredUsers, long expiredAmount) {
+        static final ExpirationResult NONE = new ExpirationResult(0, 0);
+
+        ExpirationResult plus(ExpirationResult other) {
+            return new ExpirationResult(expiredUsers + other.expiredUsers, expiredAmount + other.expiredAmount);
+        }
+    }
+
+    private record ChunkResult(long lastId, boolean done, ExpirationResult expired) {
+    }
+
+    private final RewardRepository rewardRepository;
+    private final RewardLedgerJdbcRepository ledgerJdbcRepository;
+    private final ExpirationCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transaction;
+    private final ExecutorService workerPool;
+    private final Clock clock;
+    private final int months;
+    private final int workers;
+    private final int chunkSize;
+
+    @Autowired
+    public SeedExpirationService(RewardRepository rewardRepository,
+                                 RewardLedgerJdbcRepository ledgerJdbcRepository,
+                                 ExpirationCheckpointRepository checkpointRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${reward.bulkhead.admin.statement-timeout:30}") int timeoutSeconds,
+                                 @Value("${reward.expiration.months:12}") int months,
+                                 @Value("${reward.expiration.workers:4}") int workers,
+                                 @Value("${reward.expiration.chunk-size:500}") int chunkSize) {
+        this(rewardRepository, ledgerJdbcRepository, checkpointRepository, eventPublisher,
+                transaction(transactionManager, timeoutSeconds), Clock.systemDefaultZone(), months, workers, chunkSize);
+    }
+
+    SeedExpirationService(RewardRepository rewardRepository, RewardLedgerJdbcRepository ledgerJdbcRepository,
+                          ExpirationCheckpointRepository checkpointRepository, ApplicationEventPublisher eventPublisher,
+                          TransactionOperations transaction, Clock clock, int months, int workers, int chunkSize) {
+        this.rewardRepository = rewardRepository;
+        this.ledgerJdbcRepository = ledgerJdbcRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = transaction;
+        this.clock = clock;
+        this.months = months;
+        this.workers = Math.max(1, workers);
+        this.chunkSize = chunkSize;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workerPool = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "seed-expiration-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static TransactionOperations transaction(PlatformTransactionManager transactionManager, int timeoutSeconds) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setTimeout(timeoutSeconds);
+        return template;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    /**
+     * 중단된 소멸 작업 재개 (시작을 막지 않도록 별도 스레드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread resume = new Thread(this::resumeIncomplete, "seed-expiration-resume");
+        resume.setDaemon(true);
+        resume.start();
+    }
+
+    @Scheduled(cron = "${reward.expiration.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        run(LocalDate.now(clock));
+    }
+
+    void resumeIncomplete() {
+        try {
+            List<LocalDate> runDates = checkpointRepository.findIncompleteRunDates();
+            for (LocalDate runDate : runDates) {
+                log.info("Resuming seed expiration run of {}", runDate);
+                run(runDate);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to resume seed expiration", e);
+        }
+    }
+
+    /**
+     * runDate 기준 소멸 실행 (이미 끝난 범위는 건너뜀)
+     */
+    public synchronized ExpirationResult run(LocalDate runDate) {
+        LocalDateTime cutoff = runDate.minusMonths(months).atStartOfDay();
+        long startedAt = System.nanoTime();
+        List<ExpirationCheckpoint> pending = transaction.execute(status -> checkpointsFor(runDate)).stream()
+                .filter(checkpoint -> !checkpoint.getCompleted())
+                .toList();
+
+        List<CompletableFuture<ExpirationResult>> futures = pending.stream()
+                .map(checkpoint -> CompletableFuture.supplyAsync(() -> expireRange(checkpoint, cutoff), workerPool))
+                .toList();
+        ExpirationResult total = ExpirationResult.NONE;
+        int failed = 0;
+        for (CompletableFuture<ExpirationResult> future : futures) {
+            try {
+                total = total.plus(future.join());
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Seed expiration range failed for run {}, will resume from checkpoint", runDate, e);
+            }
+        }
+        log.info("Seed expiration run {} (earned before {}): {} seeds from {} users, {} of {} ranges failed ({} ms)",
+                runDate, cutoff, total.expiredAmount(), total.expiredUsers(), failed, futures.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return total;
+    }
+
+    /**
+     * 실행일의 범위별 체크포인트 (없으면 현재 id 범위를 workers개로 나눠 만든다)
+     */
+    private List<ExpirationCheckpoint> checkpointsFor(LocalDate runDate) {
+        List<ExpirationCheckpoint> checkpoints = checkpointRepository.findByRunDateOrderByRangeIndex(runDate);
+        if (!checkpoints.isEmpty()) {
+            return checkpoints;
+        }
+        long[] idRange = ledgerJdbcRepository.findBalanceIdRange();
+        if (idRange == null) {
+            return List.of();
+        }
+        long span = idRange[1] - idRange[0] + 1;
+        long size = (span + workers - 1) / workers;
+        List<ExpirationCheckpoint> created = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            long start = idRange[0] + i * size;
+            if (start > idRange[1]) {
+                break;
+            }
+            created.add(ExpirationCheckpoint.builder()
+                    .runDate(runDate)
+                    .rangeIndex(i)
+                    .rangeStart(start)
+                    .rangeEnd(Math.min(idRange[1], start + size - 1))
+                    .build());
+        }
+        return checkpointRepository.saveAll(created);
+    }
+
+    private ExpirationResult expireRange(ExpirationCheckpoint checkpoint, LocalDateTime cutoff) {
+        ExpirationResult total = ExpirationResult.NONE;
+        long lastId = checkpoint.getLastId();
+        while (true) {
+            long afterId = lastId;
+            ChunkResult chunk = transaction.execute(status ->
+                    expireChunk(checkpoint.getId(), afterId, checkpoint.getRangeEnd(), cutoff));
+            total = total.plus(chunk.expired());
+            if (chunk.done()) {
+                return total;
+            }
+            lastId = chunk.lastId();
+        }
+    }
+
+    private ChunkResult expireChunk(Long checkpointId, long afterId, long rangeEnd, LocalDateTime cutoff) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<BalanceRef> balances = ledgerJdbcRepository.lockBalancesAfter(afterId, rangeEnd, chunkSize);
+        if (balances.isEmpty()) {
+            checkpointRepository.advance(checkpointId, afterId, true, now);
+            return new ChunkResult(afterId, true, ExpirationResult.NONE);
+        }
+
+        Map<String, BalanceRef> positive = new HashMap<>();
+        for (BalanceRef balance : balances) {
+            if (balance.balance() > 0) {
+                positive.put(balance.userId(), balance);
+            }
+        }
+        SortedMap<String, Long> debits = new TreeMap<>();
+        List<LedgerRow> expired = new ArrayList<>();
+        if (!positive.isEmpty()) {
+            for (ExpirableRow row : rewardRepository.sumExpirableByUserIdIn(positive.keySet(), cutoff)) {
+                BalanceRef balance = positive.get(row.userId());
+                long amount = row.expiring(balance.balance());
+                if (amount > 0) {
+                    debits.put(row.userId(), amount);
+                    expired.add(new LedgerRow(row.userId(), null, amount, balance.balance() - amount, balance.id()));
+                }
+            }
+        }
+        long expiredAmount = 0;
+        if (!debits.isEmpty()) {
+            ledgerJdbcRepository.debitBalances(debits, now);
+            ledgerJdbcRepository.insertLedger(RewardType.EXPIRED, expired, DESCRIPTION,
+                    RewardReason.fromDescription(DESCRIPTION).getCode(), now);
+            for (LedgerRow row : expired) {
+                expiredAmount += row.amount();
+                eventPublisher.publishEvent(new BalanceChangedEvent(
+                        row.userId(), RewardType.EXPIRED, row.amount(), row.balanceSnapshot(), now));
+            }
+        }
+
+        long lastId = balances.get(balances.size() - 1).id();
+        boolean done = balances.size() < chunkSize;
+        checkpointRepository.advance(checkpointId, lastId, done, now);
+        return new ChunkResult(lastId, done, new ExpirationResult(debits.size(), expiredAmount));
+    }
+}
@@ -0,0 +1,199 @@
+package com.modive.rewardservice.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 슬라이딩 윈도 count-min 스케치 (키별 최근 slices × sliceMillis 동안의 횟수 추정)
+ * 창을 slices개 조각으로 나눠 조각마다 depth × width 카운터를 두고, 추정치는 행별 (조각 합)의 최솟값이다.
+ * 사용자 수와 상관없이 메모리가 depth × width × slices개 int로 고정되고, 추정치는 실제보다 작지 않다.
+ * 조각마다 전체 횟수와 HyperLogLog 레지스터(정밀도 12, 표준 오차 약 1.6%)도 두어
+ * 창 안의 고유 키 수를 추정하고 키당 평균 횟수(기준선)를 낸다.
+ * 조각이 바뀔 때 그 조각을 비우는 동안 들어온 증가분은 일부 사라질 수 있다 (근사 탐지용).
+ */
+final class SlidingCountMinSketch {
+
+    private static final int DISTINCT_PRECISION = 12;
+    private static final int DISTINCT_REGISTERS = 1 << DISTINCT_PRECISION;
+
+    private final int depth;
+    private final int width;
+    private final int slices;
+    private final long sliceMillis;
+    private final AtomicIntegerArray counters;
+    // 조각별로 현재 담고 있는 시간 조각 번호
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray totals;
+    // 조각별 HyperLogLog 레지스터 (slices × DISTINCT_REGISTERS)
+    private final AtomicIntegerArray registers;
+    // 레지스터가 바뀌었으면 다음 meanPerKey에서 고유 키 수를 다시 센다
+    private final AtomicBoolean distinctDirty = new AtomicBoolean(true);
+    private volatile DistinctKeys distinctKeys = new DistinctKeys(Long.MIN_VALUE, 0);
+
+    SlidingCountMinSketch(int depth, int width, int slices, long sliceMillis) {
+        this.depth = depth;
+        this.width = width;
+        this.slices = slices;
+        this.sliceMillis = sliceMillis;
+        this.counters = new AtomicIntegerArray(depth * width * slices);
+        this.epochs = new AtomicLongArray(slices);
+        this.totals = new AtomicLongArray(slices);
+        this.registers = new AtomicIntegerArray(slices * DISTINCT_REGISTERS);
+        for (int i = 0; i < slices; i++) {
+            epochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    long windowMillis() {
+        return sliceMillis * slices;
+    }
+
+    /**
+     * 한 번 더하고 창 안의 추정 횟수를 반환
+     */
+    long add(String key, long nowMillis) {
+        long epoch = nowMillis / sliceMillis;
+        int slice = current(epoch);
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int column = column(h1, h2, row);
+            counters.incrementAndGet(index(slice, row, column));
+            min = Math.min(min, windowSum(epoch, row, column));
+        }
+        totals.incrementAndGet(slice);
+        offerDistinct(slice, hash);
+        return min;
+    }
+
+    long estimate(String key, long nowMillis) {
+        long epoch = nowMillis / sliceMillis;
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, windowSum(epoch, row, column(h1, h2, row)));
+        }
+        return min;
+    }
+
+    /**
+     * 창 안의 키당 평균 횟수 (창 안의 고유 키 수 추정 기준, 키가 없으면 0)
+     */
+    double meanPerKey(long nowMillis) {
+        long epoch = nowMillis / sliceMillis;
+        long total = 0;
+        for (int slice = 0; slice < slices; slice++) {
+            if (inWindow(epochs.get(slice), epoch)) {
+                total += totals.get(slice);
+            }
+        }
+        long keys = distinctKeys(epoch);
+        return keys == 0 ? 0 : (double) total / keys;
+    }
+
+    /**
+     * 창 안의 고유 키 수 추정 (창 안 조각의 레지스터를 합친다)
+     * 레지스터는 고유 키가 늘 때만 드물게 바뀌므로, 바뀌었거나 시간 조각이 넘어갔을 때만 다시 센다.
+     */
+    private long distinctKeys(long epoch) {
+        DistinctKeys cached = distinctKeys;
+        if (cached.epoch() == epoch && !distinctDirty.get()) {
+            return cached.keys();
+        }
+        distinctDirty.set(false);
+        byte[] merged = new byte[DISTINCT_REGISTERS];
+        boolean any = false;
+        for (int slice = 0; slice < slices; slice++) {
+            if (!inWindow(epochs.get(slice), epoch)) {
+                continue;
+            }
+            int from = slice * DISTINCT_REGISTERS;
+            for (int i = 0; i < DISTINCT_REGISTERS; i++) {
+                int rank = registers.get(from + i);
+                if (rank > merged[i]) {
+                    merged[i] = (byte) rank;
+                    any = true;
+                }
+            }
+        }
+        long keys = any ? HyperLogLog.estimate(merged) : 0;
+        distinctKeys = new DistinctKeys(epoch, keys);
+        return keys;
+    }
+
+    private void offerDistinct(int slice, long hash) {
+        int index = slice * DISTINCT_REGISTERS + (int) (hash >>> (64 - DISTINCT_PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << DISTINCT_PRECISION) | (1L << (DISTINCT_PRECISION - 1))) + 1;
+        int held;
+        while (rank > (held = registers.get(index))) {
+            if (registers.compareAndSet(index, held, rank)) {
+                distinctDirty.set(true);
+                return;
+            }
+        }
+    }
+
+    /**
+     * epoch의 조각을 확보 (다른 시간 조각이 들어 있으면 처음 바꾼 스레드가 비운다)
+     */
+    private int current(long epoch) {
+        int slice = (int) Math.floorMod(epoch, (long) slices);
+        long held = epochs.get(slice);
+        if (held < epoch && epochs.compareAndSet(slice, held, epoch)) {
+            int from = slice * depth * width;
+            for (int i = from; i < from + depth * width; i++) {
+                counters.set(i, 0);
+            }
+            totals.set(slice, 0);
+            for (int i = slice * DISTINCT_REGISTERS; i < (slice + 1) * DISTINCT_REGISTERS; i++) {
+                registers.set(i, 0);
+            }
+            distinctDirty.set(true);
+        }
+        return slice;
+    }
+
+    private long windowSum(long epoch, int row, int column) {
+        long sum = 0;
+        for (int slice = 0; slice < slices; slice++) {
+            if (inWindow(epochs.get(slice), epoch)) {
+                sum += counters.get(index(slice, row, column));
+            }
+        }
+        return sum;
+    }
+
+    private boolean inWindow(long held, long epoch) {
+        return held > epoch - slices && held <= epoch;
+    }
+
+    private int column(int h1, int h2, int row) {
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    private int index(int slice, int row, int column) {
+        return (slice * depth + row) * width + column;
+    }
+
+    private record DistinctKeys(long epoch, long keys) {
+    }
+
+    // FNV-1a 64 후 murmur3 fmix64 (상위/하위 32비트를 두 해시로 쓴다)
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
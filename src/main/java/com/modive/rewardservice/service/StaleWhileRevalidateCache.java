@@ -0,0 +1,212 @@
+package com.modive.rewardservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * stale-while-revalidate 캐시
+ * refreshAfter가 지난 값은 그대로 반환하면서 백그라운드에서 다시 조회하고,
+ * 재조회에 실패하면 ttl이 끝날 때까지 이전 값을 계속 사용한다.
+ * 값이 없는 키만 호출 스레드에서 동기 조회한다.
+ * 일괄 조회에서 동기 조회가 실패하면 캐시에 있던 값만 반환한다 (실패는 load.failures로 센다).
+ * bulkLoader가 도중에 실패하면 PartialLoadException에 그때까지 읽은 값을 담아 던지고, 그 값은 캐시한다.
+ * null 값도 캐시한다 (없는 사용자 반복 조회 방지).
+ *
+ * 메트릭: reward.user.cache.requests{cache, result=hit|stale|miss}, reward.user.cache.refresh.failures{cache},
+ *        reward.user.cache.load.failures{cache}
+ */
+@Slf4j
+class StaleWhileRevalidateCache<K, V> {
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    private final String name;
+    private final Cache<K, Entry<V>> cache;
+    private final long refreshAfterNanos;
+    private final Ticker ticker;
+    private final Executor refreshExecutor;
+    // 백그라운드 재조회 중인 키 (중복 재조회 방지)
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter refreshFailures;
+    private final Counter loadFailures;
+
+    StaleWhileRevalidateCache(String name, Duration refreshAfter, Duration ttl, long maxSize,
+                              Ticker ticker, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.ticker = ticker;
+        this.refreshExecutor = refreshExecutor;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build();
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.refreshFailures = Counter.builder("reward.user.cache.refresh.failures")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.loadFailures = Counter.builder("reward.user.cache.load.failures")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단건 조회 (없으면 loader로 동기 조회, 오래됐으면 반환 후 백그라운드 재조회)
+     */
+    V get(K key, Function<K, V> loader) {
+        Entry<V> entry = cache.getIfPresent(key);
+        if (entry == null) {
+            misses.increment();
+            // cache.get(key, loader)는 원격 호출 동안 ConcurrentHashMap 버킷 락을 잡아
+            // 가상 스레드를 캐리어에 고정시키므로, 락 밖에서 조회한 뒤 저장한다 (동시 미스는 중복 조회 허용)
+            V value = loader.apply(key);
+            put(key, value);
+            return value;
+        }
+        if (isStale(entry)) {
+            staleHits.increment();
+            refreshAsync(List.of(key), keys -> put(key, loader.apply(key)));
+        } else {
+            hits.increment();
+        }
+        return entry.value();
+    }
+
+    /**
+     * 일괄 조회 (없는 키는 bulkLoader 1회로 동기 조회, 오래된 키는 모아서 백그라운드 재조회)
+     * bulkLoader 결과에 없는 키는 캐시하지 않으며, 결과 맵에는 null이 아닌 값만 담긴다.
+     */
+    Map<K, V> getAll(Collection<K> keys, Function<List<K>, Map<K, V>> bulkLoader) {
+        Map<K, V> result = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        List<K> stale = new ArrayList<>();
+
+        Set<K> distinct = new LinkedHashSet<>(keys);
+        for (K key : distinct) {
+            Entry<V> entry = cache.getIfPresent(key);
+            if (entry == null) {
+                missing.add(key);
+                continue;
+            }
+            if (isStale(entry)) {
+                stale.add(key);
+            }
+            if (entry.value() != null) {
+                result.put(key, entry.value());
+            }
+        }
+        hits.increment(distinct.size() - missing.size() - stale.size());
+        staleHits.increment(stale.size());
+        misses.increment(missing.size());
+
+        if (!missing.isEmpty()) {
+            Map<K, V> loaded;
+            try {
+                loaded = bulkLoader.apply(missing);
+            } catch (RuntimeException e) {
+                // 못 읽은 키는 캐시하지 않으므로 다음 조회 때 다시 시도한다
+                loadFailures.increment();
+                loaded = partial(e);
+                log.warn("Failed to load {} of {} entries of {} cache, returning cached values only",
+                        missing.size() - loaded.size(), missing.size(), name, e);
+            }
+            loaded.forEach((key, value) -> {
+                put(key, value);
+                if (value != null) {
+                    result.put(key, value);
+                }
+            });
+        }
+        if (!stale.isEmpty()) {
+            refreshAsync(stale, refreshKeys -> {
+                Map<K, V> loaded;
+                try {
+                    loaded = bulkLoader.apply(refreshKeys);
+                } catch (RuntimeException e) {
+                    partial(e).forEach(this::put);
+                    throw e;
+                }
+                loaded.forEach(this::put);
+            });
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<K, V> partial(RuntimeException e) {
+        return e instanceof PartialLoadException partial ? (Map<K, V>) partial.getLoaded() : Map.of();
+    }
+
+    void put(K key, V value) {
+        cache.put(key, new Entry<>(value, ticker.read()));
+    }
+
+    private boolean isStale(Entry<V> entry) {
+        return ticker.read() - entry.loadedAt() >= refreshAfterNanos;
+    }
+
+    private void refreshAsync(List<K> keys, Consumer<List<K>> refresher) {
+        List<K> claimed = keys.stream().filter(refreshing::add).toList();
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresher.accept(claimed);
+                } catch (Exception e) {
+                    refreshFailures.increment();
+                    log.warn("Failed to refresh {} entries of {} cache, serving stale values", claimed.size(), name, e);
+                } finally {
+                    claimed.forEach(refreshing::remove);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 재조회 대기열이 가득 차면 이번에는 건너뛰고 다음 조회 때 다시 시도
+            claimed.forEach(refreshing::remove);
+        }
+    }
+
+    /**
+     * bulkLoader가 도중에 실패했을 때 그때까지 읽은 값과 원인을 함께 던진다
+     */
+    static final class PartialLoadException extends RuntimeException {
+
+        private final transient Map<?, ?> loaded;
+
+        PartialLoadException(Map<?, ?> loaded, RuntimeException cause) {
+            super(cause.getMessage(), cause);
+            this.loaded = loaded;
+        }
+
+        Map<?, ?> getLoaded() {
+            return loaded;
+        }
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("reward.user.cache.requests")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
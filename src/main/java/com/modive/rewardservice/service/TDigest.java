@@ -0,0 +1,235 @@
+package com.modive.rewardservice.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 분위수 추정용 t-digest (merging 방식, k1 스케일 함수)
+ * 값을 평균/가중치 중심점으로 묶어 두되 양 끝(0, 1 근처)은 작게, 가운데는 크게 묶어 꼬리 분위수가 정확하다.
+ * 중심점 수는 compression 정도로 고정되므로 값이 몇 개든 분위수 계산 비용과 직렬화 크기가 일정하다.
+ * 같은 compression끼리 merge로 합칠 수 있다. 스레드 안전하지 않다.
+ */
+final class TDigest {
+
+    static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+    private double[] means;
+    private long[] weights;
+    private int centroids;
+    // 아직 중심점에 합치지 않은 값
+    private final double[] buffer;
+    private final long[] bufferWeights;
+    private int buffered;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    TDigest(double compression) {
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) * 2 + 8;
+        this.means = new double[capacity];
+        this.weights = new long[capacity];
+        this.buffer = new double[capacity * 4];
+        this.bufferWeights = new long[capacity * 4];
+    }
+
+    void add(double value) {
+        add(value, 1);
+    }
+
+    void add(double value, long weight) {
+        if (buffered == buffer.length) {
+            compress();
+        }
+        buffer[buffered] = value;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        count += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    TDigest merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.centroids; i++) {
+            if (buffered == buffer.length) {
+                compress();
+            }
+            buffer[buffered] = other.means[i];
+            bufferWeights[buffered] = other.weights[i];
+            buffered++;
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    long count() {
+        return count;
+    }
+
+    double min() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    double max() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    double mean() {
+        compress();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int i = 0; i < centroids; i++) {
+            sum += means[i] * weights[i];
+        }
+        return sum / count;
+    }
+
+    /**
+     * q 분위수 (q는 0~1로 자른다, 값이 없으면 NaN)
+     */
+    double quantile(double q) {
+        compress();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+        double index = Math.min(1, Math.max(0, q)) * count;
+        if (index < 1) {
+            return min;
+        }
+        if (index > count - 1) {
+            return max;
+        }
+        // 첫/마지막 중심점 바깥 절반은 min/max와 선형 보간
+        double firstHalf = weights[0] / 2.0;
+        if (weights[0] > 1 && index < firstHalf) {
+            return min + (index - 1) / (firstHalf - 1) * (means[0] - min);
+        }
+        double lastHalf = weights[centroids - 1] / 2.0;
+        if (weights[centroids - 1] > 1 && count - index < lastHalf) {
+            return max - (count - index - 1) / (lastHalf - 1) * (max - means[centroids - 1]);
+        }
+        // 이웃한 중심점의 가운데 사이를 선형 보간
+        double weightSoFar = firstHalf;
+        for (int i = 0; i < centroids - 1; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2.0;
+            if (weightSoFar + step > index) {
+                double left = index - weightSoFar;
+                double right = weightSoFar + step - index;
+                return (means[i] * right + means[i + 1] * left) / (left + right);
+            }
+            weightSoFar += step;
+        }
+        return means[centroids - 1];
+    }
+
+    /**
+     * 버퍼와 중심점을 평균 순으로 정렬해 k1 스케일 한 칸 안에 드는 이웃끼리 합친다
+     */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        int total = centroids + buffered;
+        double[] allMeans = new double[total];
+        long[] allWeights = new long[total];
+        System.arraycopy(means, 0, allMeans, 0, centroids);
+        System.arraycopy(weights, 0, allWeights, 0, centroids);
+        System.arraycopy(buffer, 0, allMeans, centroids, buffered);
+        System.arraycopy(bufferWeights, 0, allWeights, centroids, buffered);
+        Integer[] order = new Integer[total];
+        for (int i = 0; i < total; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(allMeans[a], allMeans[b]));
+
+        long totalWeight = 0;
+        for (long weight : allWeights) {
+            totalWeight += weight;
+        }
+        double[] mergedMeans = new double[total];
+        long[] mergedWeights = new long[total];
+        int merged = 0;
+        double currentMean = allMeans[order[0]];
+        long currentWeight = allWeights[order[0]];
+        long weightBefore = 0;
+        double kLeft = scale(0);
+        for (int i = 1; i < total; i++) {
+            double mean = allMeans[order[i]];
+            long weight = allWeights[order[i]];
+            double kRight = scale((double) (weightBefore + currentWeight + weight) / totalWeight);
+            if (kRight - kLeft <= 1) {
+                currentWeight += weight;
+                currentMean += (mean - currentMean) * weight / currentWeight;
+            } else {
+                mergedMeans[merged] = currentMean;
+                mergedWeights[merged] = currentWeight;
+                merged++;
+                weightBefore += currentWeight;
+                kLeft = scale((double) weightBefore / totalWeight);
+                currentMean = mean;
+                currentWeight = weight;
+            }
+        }
+        mergedMeans[merged] = currentMean;
+        mergedWeights[merged] = currentWeight;
+        merged++;
+
+        if (merged > means.length) {
+            means = new double[merged];
+            weights = new long[merged];
+        }
+        System.arraycopy(mergedMeans, 0, means, 0, merged);
+        System.arraycopy(mergedWeights, 0, weights, 0, merged);
+        centroids = merged;
+        buffered = 0;
+    }
+
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * q - 1);
+    }
+
+    /**
+     * [compression, count, min, max, 중심점 수, (평균, 가중치)...]
+     */
+    byte[] toBytes() {
+        compress();
+        ByteBuffer bytes = ByteBuffer.allocate(8 * 4 + 4 + centroids * 16);
+        bytes.putDouble(compression).putLong(count).putDouble(min).putDouble(max).putInt(centroids);
+        for (int i = 0; i < centroids; i++) {
+            bytes.putDouble(means[i]).putLong(weights[i]);
+        }
+        return bytes.array();
+    }
+
+    static TDigest fromBytes(byte[] data) {
+        ByteBuffer bytes = ByteBuffer.wrap(data);
+        TDigest digest = new TDigest(bytes.getDouble());
+        digest.count = bytes.getLong();
+        digest.min = bytes.getDouble();
+        digest.max = bytes.getDouble();
+        int centroids = bytes.getInt();
+        if (centroids > digest.means.length) {
+            digest.means = new double[centroids];
+            digest.weights = new long[centroids];
+        }
+        for (int i = 0; i < centroids; i++) {
+            digest.means[i] = bytes.getDouble();
+            digest.weights[i] = bytes.getLong();
+        }
+        digest.centroids = centroids;
+        return digest;
+    }
+}
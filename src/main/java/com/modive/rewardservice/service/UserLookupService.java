@@ -0,0 +1,159 @@
+package com.modive.rewardservice.service;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.modive.rewardservice.client.UserClient;
+import com.modive.rewardservice.client.UserClientProperties;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * user-service 조회 캐시
+ * 이메일 ↔ 사용자 ID를 stale-while-revalidate 캐시에 보관한다.
+ * refresh-after가 지난 값은 즉시 반환하고 백그라운드에서 갱신하므로
+ * user-service가 느리거나 내려가도 ttl 동안은 이전 값으로 응답한다.
+ * 여러 사용자의 이메일은 캐시 미스만 모아 일괄 조회한다.
+ * (reward.user-client.bulk-emails-enabled=false면 미스마다 단건 조회)
+ */
+@Service
+public class UserLookupService {
+
+    private final UserClient userClient;
+    private final int batchSize;
+    private final boolean bulkEmails;
+    private final Executor refreshExecutor;
+
+    // email → userId (없는 사용자는 null로 캐시)
+    private final StaleWhileRevalidateCache<String, String> userIdByEmail;
+    // userId → email
+    private final StaleWhileRevalidateCache<String, String> emailByUserId;
+
+    @Autowired
+    public UserLookupService(UserClient userClient,
+                             UserClientProperties userClientProperties,
+                             MeterRegistry meterRegistry,
+                             @Value("${reward.user-cache.refresh-after:1m}") Duration refreshAfter,
+                             @Value("${reward.user-cache.ttl:10m}") Duration ttl,
+                             @Value("${reward.user-cache.max-size:10000}") long maxSize,
+                             @Value("${reward.user-cache.batch-size:100}") int batchSize,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(userClient, meterRegistry, refreshAfter, ttl, maxSize, batchSize,
+                userClientProperties.isBulkEmailsEnabled(), Ticker.systemTicker(), refreshExecutor(virtualThreads));
+    }
+
+    UserLookupService(UserClient userClient, MeterRegistry meterRegistry,
+                      Duration refreshAfter, Duration ttl, long maxSize, int batchSize, boolean bulkEmails,
+                      Ticker ticker, Executor refreshExecutor) {
+        this.userClient = userClient;
+        this.batchSize = batchSize;
+        this.bulkEmails = bulkEmails;
+        this.refreshExecutor = refreshExecutor;
+        this.userIdByEmail = new StaleWhileRevalidateCache<>("userIdByEmail",
+                refreshAfter, ttl, maxSize, ticker, refreshExecutor, meterRegistry);
+        this.emailByUserId = new StaleWhileRevalidateCache<>("emailByUserId",
+                refreshAfter, ttl, maxSize, ticker, refreshExecutor, meterRegistry);
+    }
+
+    /**
+     * 백그라운드 갱신 전용 스레드 (대기열이 가득 차면 갱신을 건너뛴다)
+     * 가상 스레드 모드에서는 갱신 중 user-service 대기도 가상 스레드에서 한다.
+     */
+    private static ExecutorService refreshExecutor(boolean virtualThreads) {
+        ThreadFactory threadFactory;
+        if (virtualThreads) {
+            threadFactory = Thread.ofVirtual().name("user-cache-refresh-", 0).factory();
+        } else {
+            CustomizableThreadFactory platformThreadFactory = new CustomizableThreadFactory("user-cache-refresh-");
+            platformThreadFactory.setDaemon(true);
+            threadFactory = platformThreadFactory;
+        }
+        return new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1000), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 이메일로 사용자 ID 조회
+     */
+    public Optional<String> findUserIdByEmail(String email) {
+        return Optional.ofNullable(userIdByEmail.get(email, this::fetchUserId));
+    }
+
+    /**
+     * 사용자 ID 목록의 이메일 일괄 조회 (캐시 미스만 batchSize 단위로 원격 호출)
+     * user-service 장애로 조회하지 못한 사용자는 결과에서 제외된다 (실패는 캐시 메트릭에 집계).
+     */
+    public Map<String, String> findEmailsByUserIds(Collection<String> userIds) {
+        return emailByUserId.getAll(userIds, this::fetchEmails);
+    }
+
+    private String fetchUserId(String email) {
+        String userId;
+        try {
+            userId = userClient.getUserIdByEmail(email);
+        } catch (FeignException.NotFound e) {
+            return null;
+        }
+        if (!StringUtils.hasText(userId)) {
+            return null;
+        }
+        emailByUserId.put(userId, email);
+        return userId;
+    }
+
+    /**
+     * 캐시 미스 이메일 조회 (실패하면 거기서 멈추고, 그때까지 읽은 이메일은 PartialLoadException에 담아 캐시되게 한다)
+     */
+    private Map<String, String> fetchEmails(List<String> userIds) {
+        Map<String, String> result = new HashMap<>();
+        try {
+            if (!bulkEmails) {
+                for (String userId : userIds) {
+                    // 없는 사용자도 null로 캐시한다
+                    result.put(userId, fetchEmail(userId));
+                }
+                return result;
+            }
+            for (int from = 0; from < userIds.size(); from += batchSize) {
+                List<String> chunk = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+                Map<String, String> fetched = userClient.getEmailsByUserIds(chunk);
+                if (fetched != null) {
+                    result.putAll(fetched);
+                }
+            }
+            return result;
+        } catch (RuntimeException e) {
+            throw new StaleWhileRevalidateCache.PartialLoadException(result, e);
+        }
+    }
+
+    private String fetchEmail(String userId) {
+        String email;
+        try {
+            email = userClient.getEmailByUserId(userId);
+        } catch (FeignException.NotFound e) {
+            return null;
+        }
+        return StringUtils.hasText(email) ? email : null;
+    }
+}
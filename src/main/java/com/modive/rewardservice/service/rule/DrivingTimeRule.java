@@ -0,0 +1,46 @@
+package com.modive.rewardservice.service.rule;
+
+import com.modive.rewardservice.domain.RewardReason;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주행 리워드: 주행 시간이 기준 이상이면 고정 씨앗 지급
+ */
+@Getter
+public final class DrivingTimeRule implements RewardRule {
+
+    public static final String TYPE = "driving-time";
+
+    private final RewardReason reason;
+    private final long amount;
+    private final int minDrivingTime;
+    private final int dailyLimit;
+
+    public DrivingTimeRule(RewardReason reason, long amount, int minDrivingTime, int dailyLimit) {
+        this.reason = reason;
+        this.amount = amount;
+        this.minDrivingTime = minDrivingTime;
+        this.dailyLimit = dailyLimit;
+    }
+
+    @Override
+    public long evaluate(RewardRuleContext context) {
+        return context.hasDrivingTime() && context.getDrivingTime() >= minDrivingTime ? amount : 0L;
+    }
+
+    @Component
+    public static class Provider implements RewardRuleProvider {
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public RewardRule create(RewardRuleProperties.RuleDefinition definition) {
+            return new DrivingTimeRule(definition.getReason(), definition.getAmount(),
+                    definition.getMinDrivingTime(), definition.getDailyLimit());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.modive.rewardservice.service.rule;
+
+import com.modive.rewardservice.domain.MobtiType;
+import com.modive.rewardservice.domain.RewardReason;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * MoBTI 향상 리워드: 좋은 쪽으로 1개 이상 변하면 고정 씨앗 지급
+ */
+@Getter
+public final class MobtiImprovementRule implements RewardRule {
+
+    public static final String TYPE = "mobti-improvement";
+
+    private final RewardReason reason;
+    private final long amount;
+    private final int dailyLimit;
+
+    public MobtiImprovementRule(RewardReason reason, long amount, int dailyLimit) {
+        this.reason = reason;
+        this.amount = amount;
+        this.dailyLimit = dailyLimit;
+    }
+
+    @Override
+    public long evaluate(RewardRuleContext context) {
+        MobtiType current = context.getCurrentMobti();
+        return current != null && current.isImprovedFrom(context.getLastMobti()) ? amount : 0L;
+    }
+
+    @Component
+    public static class Provider implements RewardRuleProvider {
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public RewardRule create(RewardRuleProperties.RuleDefinition definition) {
+            return new MobtiImprovementRule(definition.getReason(), definition.getAmount(), definition.getDailyLimit());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.modive.rewardservice.service.rule;
+
+import com.modive.rewardservice.domain.RewardReason;
+
+/**
+ * 씨앗 적립 규칙 SPI
+ * 구현체는 불변이어야 하며, evaluate는 요청마다 호출되므로 객체를 생성하지 않아야 한다.
+ * 새 규칙은 RewardRuleProvider 빈을 등록하고 설정의 type으로 지정한다.
+ */
+public interface RewardRule {
+
+    /**
+     * @return 지급할 씨앗 수 (조건 미충족 시 0)
+     */
+    long evaluate(RewardRuleContext context);
+
+    RewardReason getReason();
+
+    /**
+     * @return 하루 최대 지급 횟수 (0 이하면 제한 없음)
+     */
+    int getDailyLimit();
+
+    default boolean hasDailyLimit() {
+        return getDailyLimit() > 0;
+    }
+}
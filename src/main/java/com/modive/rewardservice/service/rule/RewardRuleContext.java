@@ -0,0 +1,42 @@
+package com.modive.rewardservice.service.rule;
+
+import com.modive.rewardservice.domain.MobtiType;
+import lombok.Getter;
+
+/**
+ * 규칙 평가 입력값
+ * null 값은 NONE(-1)으로 저장해 규칙 평가 시 박싱/언박싱이 없도록 한다.
+ */
+@Getter
+public final class RewardRuleContext {
+
+    public static final int NONE = -1;
+
+    private final int drivingTime;
+    private final int score;
+    private final MobtiType lastMobti;
+    private final MobtiType currentMobti;
+
+    private RewardRuleContext(int drivingTime, int score, MobtiType lastMobti, MobtiType currentMobti) {
+        this.drivingTime = drivingTime;
+        this.score = score;
+        this.lastMobti = lastMobti;
+        this.currentMobti = currentMobti;
+    }
+
+    public static RewardRuleContext of(Integer drivingTime, Integer score, MobtiType lastMobti, MobtiType currentMobti) {
+        return new RewardRuleContext(
+                drivingTime != null ? drivingTime : NONE,
+                score != null ? score : NONE,
+                lastMobti,
+                currentMobti);
+    }
+
+    public boolean hasDrivingTime() {
+        return drivingTime != NONE;
+    }
+
+    public boolean hasScore() {
+        return score != NONE;
+    }
+}
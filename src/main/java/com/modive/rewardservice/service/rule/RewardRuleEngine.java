@@ -0,0 +1,74 @@
+package com.modive.rewardservice.service.rule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 적립 규칙 엔진
+ * 시작 시 설정(reward.rules)을 RewardRulePlan으로 컴파일하고,
+ * 설정이 변경되면(/actuator/refresh) 재시작 없이 다시 컴파일한다.
+ * 컴파일에 실패하면 기존 계획을 유지한다.
+ */
+@Slf4j
+@Component
+public class RewardRuleEngine {
+
+    private final RewardRuleProperties properties;
+    private final Map<String, RewardRuleProvider> providers;
+
+    private volatile RewardRulePlan plan;
+
+    public RewardRuleEngine(RewardRuleProperties properties, List<RewardRuleProvider> providers) {
+        this.properties = properties;
+        this.providers = providers.stream()
+                .collect(Collectors.toUnmodifiableMap(RewardRuleProvider::getType, Function.identity()));
+        this.plan = compile(properties.getRules());
+    }
+
+    public RewardRulePlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * 규칙 정의 목록을 평가 계획으로 컴파일
+     */
+    public RewardRulePlan compile(List<RewardRuleProperties.RuleDefinition> definitions) {
+        List<RewardRule> rules = new ArrayList<>(definitions.size());
+        for (RewardRuleProperties.RuleDefinition definition : definitions) {
+            RewardRuleProvider provider = providers.get(definition.getType());
+            if (provider == null) {
+                throw new IllegalArgumentException("Unknown reward rule type: " + definition.getType());
+            }
+            if (definition.getReason() == null) {
+                throw new IllegalArgumentException("Reward rule reason is required: " + definition.getType());
+            }
+            rules.add(provider.create(definition));
+        }
+        return new RewardRulePlan(rules);
+    }
+
+    /**
+     * 설정 재바인딩(ConfigurationPropertiesRebinder)이 끝난 뒤 발행되는 이벤트
+     */
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public void onRefresh() {
+        reload();
+    }
+
+    public void reload() {
+        try {
+            this.plan = compile(properties.getRules());
+            log.info("Reward rules reloaded: {} rules", plan.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to reload reward rules, keeping previous plan", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.modive.rewardservice.service.rule;
+
+import java.util.List;
+
+/**
+ * 컴파일된 불변 규칙 평가 계획
+ * 규칙 배열을 한 번 순회하며 규칙별 지급 씨앗 수를 계산한다.
+ */
+public final class RewardRulePlan {
+
+    private final RewardRule[] rules;
+
+    public RewardRulePlan(List<RewardRule> rules) {
+        this.rules = rules.toArray(new RewardRule[0]);
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    public RewardRule getRule(int index) {
+        return rules[index];
+    }
+
+    /**
+     * @return 규칙 순서대로의 지급 씨앗 수 (0이면 미지급)
+     */
+    public long[] evaluate(RewardRuleContext context) {
+        long[] amounts = new long[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            amounts[i] = rules[i].evaluate(context);
+        }
+        return amounts;
+    }
+}
@@ -0,0 +1,80 @@
+package com.modive.rewardservice.service.rule;
+
+import com.modive.rewardservice.domain.RewardReason;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 씨앗 적립 규칙 설정 (reward.rules)
+ * 설정이 없으면 기존 정책과 동일한 기본 규칙을 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reward")
+public class RewardRuleProperties {
+
+    private List<RuleDefinition> rules = defaultRules();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class RuleDefinition {
+        /** RewardRuleProvider 타입 이름 */
+        private String type;
+        private RewardReason reason;
+        private long amount;
+        /** 하루 최대 지급 횟수 (0이면 제한 없음) */
+        private int dailyLimit;
+        /** driving-time: 최소 주행 시간(분) */
+        private int minDrivingTime;
+        /** score-tier: 점수 구간 (minScore 이상이면 amount 지급) */
+        private List<ScoreTier> tiers = new ArrayList<>();
+        /** score-tier: 유효 점수 상한 */
+        private int maxScore = 100;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ScoreTier {
+        private int minScore;
+        private long amount;
+    }
+
+    /**
+     * 기본 정책: 주행 1씨앗, 종합점수 50~100점 1~5씨앗(일 200회), MoBTI 향상 5씨앗(일 200회)
+     */
+    public static List<RuleDefinition> defaultRules() {
+        RuleDefinition driving = new RuleDefinition();
+        driving.setType(DrivingTimeRule.TYPE);
+        driving.setReason(RewardReason.EVENT_NOT_OCCURRED);
+        driving.setAmount(1L);
+        driving.setMinDrivingTime(0);
+
+        RuleDefinition score = new RuleDefinition();
+        score.setType(ScoreTierRule.TYPE);
+        score.setReason(RewardReason.TOTAL_SCORE);
+        score.setDailyLimit(200);
+        score.setTiers(new ArrayList<>(List.of(
+                new ScoreTier(90, 5L),
+                new ScoreTier(80, 4L),
+                new ScoreTier(70, 3L),
+                new ScoreTier(60, 2L),
+                new ScoreTier(50, 1L))));
+
+        RuleDefinition mobti = new RuleDefinition();
+        mobti.setType(MobtiImprovementRule.TYPE);
+        mobti.setReason(RewardReason.MOBTI_IMPROVEMENT);
+        mobti.setAmount(5L);
+        mobti.setDailyLimit(200);
+
+        return new ArrayList<>(List.of(driving, score, mobti));
+    }
+}
@@ -0,0 +1,15 @@
+package com.modive.rewardservice.service.rule;
+
+/**
+ * 설정의 규칙 정의(type)로부터 RewardRule을 생성하는 팩토리
+ * 빈으로 등록하면 RewardRuleEngine이 자동으로 사용한다.
+ */
+public interface RewardRuleProvider {
+
+    /**
+     * 설정에서 사용하는 규칙 타입 이름 (예: driving-time)
+     */
+    String getType();
+
+    RewardRule create(RewardRuleProperties.RuleDefinition definition);
+}
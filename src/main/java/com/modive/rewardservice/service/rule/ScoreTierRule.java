@@ -0,0 +1,79 @@
+package com.modive.rewardservice.service.rule;
+
+import com.modive.rewardservice.domain.RewardReason;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 종합 점수 리워드: 점수 구간별 씨앗 지급
+ * 구간은 생성 시 minScore 내림차순 배열로 컴파일된다.
+ */
+public final class ScoreTierRule implements RewardRule {
+
+    public static final String TYPE = "score-tier";
+
+    private final RewardReason reason;
+    private final int dailyLimit;
+    private final int maxScore;
+    private final int[] minScores;
+    private final long[] amounts;
+
+    public ScoreTierRule(RewardReason reason, List<RewardRuleProperties.ScoreTier> tiers, int maxScore, int dailyLimit) {
+        if (tiers == null || tiers.isEmpty()) {
+            throw new IllegalArgumentException("score-tier rule requires at least one tier");
+        }
+        List<RewardRuleProperties.ScoreTier> sorted = tiers.stream()
+                .sorted(Comparator.comparingInt(RewardRuleProperties.ScoreTier::getMinScore).reversed())
+                .toList();
+
+        this.reason = reason;
+        this.dailyLimit = dailyLimit;
+        this.maxScore = maxScore;
+        this.minScores = sorted.stream().mapToInt(RewardRuleProperties.ScoreTier::getMinScore).toArray();
+        this.amounts = sorted.stream().mapToLong(RewardRuleProperties.ScoreTier::getAmount).toArray();
+    }
+
+    @Override
+    public RewardReason getReason() {
+        return reason;
+    }
+
+    @Override
+    public int getDailyLimit() {
+        return dailyLimit;
+    }
+
+    @Override
+    public long evaluate(RewardRuleContext context) {
+        if (!context.hasScore()) {
+            return 0L;
+        }
+        int score = context.getScore();
+        if (score > maxScore) {
+            return 0L;
+        }
+        for (int i = 0; i < minScores.length; i++) {
+            if (score >= minScores[i]) {
+                return amounts[i];
+            }
+        }
+        return 0L;
+    }
+
+    @Component
+    public static class Provider implements RewardRuleProvider {
+
+        @Override
+        public String getType() {
+            return TYPE;
+        }
+
+        @Override
+        public RewardRule create(RewardRuleProperties.RuleDefinition definition) {
+            return new ScoreTierRule(definition.getReason(), definition.getTiers(),
+                    definition.getMaxScore(), definition.getDailyLimit());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.modive.rewardservice.client;
+
+import com.modive.rewardservice.exception.UserServiceUnavailableException;
+import feign.Feign;
+import feign.FeignException;
+import feign.RetryableException;
+import feign.Retryer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ResilientUserClient 테스트
+ * 로컬 user-service 스탠드인에 실제 Feign 클라이언트로 호출해
+ * 메서드별 타임아웃, 서킷 브레이커, 벌크헤드 동작과 메트릭을 검증
+ */
+class ResilientUserClientTest {
+
+    private UserServiceStandIn userService;
+    private UserClientProperties properties;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userService = new UserServiceStandIn();
+        properties = new UserClientProperties();
+        properties.setReadTimeout(Duration.ofSeconds(2));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.close();
+    }
+
+    private ResilientUserClient client() {
+        ObjectFactory<HttpMessageConverters> converters = () -> new HttpMessageConverters(
+                false, List.of(new StringHttpMessageConverter(), new MappingJackson2HttpMessageConverter()));
+        UserClient feignClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .encoder(new SpringEncoder(converters))
+                .decoder(new SpringDecoder(converters))
+                .options(UserClientFeignConfig.options(properties))
+                .retryer(Retryer.NEVER_RETRY)
+                .target(UserClient.class, userService.url());
+        return new ResilientUserClient(feignClient, properties, meterRegistry);
+    }
+
+    private long count(String method, String outcome) {
+        return meterRegistry.find(ResilientUserClient.METRIC)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+    }
+
+    @Test
+    @DisplayName("정상 응답 - 단건/일괄 조회")
+    void calls_Success() {
+        userService.stub("GET /users/email", 200, "user1")
+                .stub("POST /users/emails", 200, "{\"user1\":\"user1@example.com\"}")
+                .stub("GET /users/user1/exists", 200, "true");
+        ResilientUserClient client = client();
+
+        assertThat(client.getUserIdByEmail("user1@example.com")).isEqualTo("user1");
+        assertThat(client.getEmailsByUserIds(List.of("user1"))).containsEntry("user1", "user1@example.com");
+        assertThat(client.existsById("user1")).isTrue();
+        assertThat(count("getUserIdByEmail", "success")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메서드별 읽기 타임아웃 - 일괄 조회만 짧은 타임아웃 적용")
+    void perMethodReadTimeout() {
+        UserClientProperties.Timeout batchTimeout = new UserClientProperties.Timeout();
+        batchTimeout.setReadTimeout(Duration.ofMillis(100));
+        properties.getMethods().put("getEmailsByUserIds", batchTimeout);
+        userService.stub("GET /users/email", 200, "user1", 300)
+                .stub("POST /users/emails", 200, "{}", 300);
+        ResilientUserClient client = client();
+
+        assertThat(client.getUserIdByEmail("user1@example.com")).isEqualTo("user1");
+        assertThatThrownBy(() -> client.getEmailsByUserIds(List.of("user1")))
+                .isInstanceOf(RetryableException.class);
+        assertThat(count("getEmailsByUserIds", "error")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 메서드 이름의 타임아웃 설정은 거부")
+    void perMethodTimeout_UnknownMethod_Fails() {
+        properties.getMethods().put("getUser", new UserClientProperties.Timeout());
+
+        assertThatThrownBy(() -> UserClientFeignConfig.options(properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("5xx가 누적되면 서킷이 열려 user-service를 호출하지 않음")
+    void circuitBreaker_OpensOnServerErrors() {
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        userService.stub("GET /users/user1/exists", 500, "error");
+        ResilientUserClient client = client();
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.existsById("user1")).isInstanceOf(FeignException.class);
+        }
+        assertThat(client.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> client.existsById("user1"))
+                .isInstanceOf(UserServiceUnavailableException.class);
+        assertThat(userService.hits("GET /users/user1/exists")).isEqualTo(4);
+        assertThat(count("existsById", "short_circuited")).isEqualTo(1);
+        assertThat(meterRegistry.find("resilience4j.circuitbreaker.state")
+                .tag("name", ResilientUserClient.NAME).gauges()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("404는 장애로 세지 않아 서킷이 닫힌 상태 유지")
+    void circuitBreaker_IgnoresNotFound() {
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        ResilientUserClient client = client();
+
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> client.getUserIdByEmail("nobody@example.com"))
+                    .isInstanceOf(FeignException.NotFound.class);
+        }
+        assertThat(client.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(count("getUserIdByEmail", "client_error")).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("벌크헤드가 가득 차면 대기하지 않고 즉시 거절")
+    void bulkhead_RejectsWhenFull() throws InterruptedException {
+        properties.getBulkhead().setMaxConcurrentCalls(1);
+        userService.stub("GET /users/user1/email", 200, "user1@example.com", 500);
+        ResilientUserClient client = client();
+
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(() -> client.getEmailByUserId("user1"));
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (userService.hits("GET /users/user1/email") == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> client.getEmailByUserId("user1"))
+                .isInstanceOf(UserServiceUnavailableException.class);
+        assertThat(slowCall.join()).isEqualTo("user1@example.com");
+        assertThat(userService.hits("GET /users/user1/email")).isEqualTo(1);
+        assertThat(count("getEmailByUserId", "rejected")).isEqualTo(1);
+    }
+}
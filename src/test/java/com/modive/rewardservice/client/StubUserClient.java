@@ -0,0 +1,91 @@
+package com.modive.rewardservice.client;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 user-service 스텁
+ * 메모리에 등록된 사용자만 응답하고, 메서드별 원격 호출 횟수를 기록한다.
+ */
+public class StubUserClient implements UserClient {
+
+    private final Map<String, String> emailByUserId = new HashMap<>();
+
+    public final AtomicInteger userIdByEmailCalls = new AtomicInteger();
+    public final AtomicInteger emailByUserIdCalls = new AtomicInteger();
+    public final AtomicInteger existsCalls = new AtomicInteger();
+    public final AtomicInteger batchCalls = new AtomicInteger();
+    public final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile boolean failing;
+    // 이 사용자가 들어간 이메일 조회는 실패한다
+    private final Set<String> failingUsers = Collections.synchronizedSet(new HashSet<>());
+
+    public StubUserClient withUser(String userId, String email) {
+        emailByUserId.put(userId, email);
+        return this;
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    public StubUserClient withFailingUser(String userId) {
+        failingUsers.add(userId);
+        return this;
+    }
+
+    @Override
+    public String getUserIdByEmail(String email) {
+        userIdByEmailCalls.incrementAndGet();
+        checkAvailable();
+        return emailByUserId.entrySet().stream()
+                .filter(e -> e.getValue().equals(email))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public String getEmailByUserId(String userId) {
+        emailByUserIdCalls.incrementAndGet();
+        checkAvailable();
+        checkAvailable(List.of(userId));
+        return emailByUserId.get(userId);
+    }
+
+    @Override
+    public Map<String, String> getEmailsByUserIds(List<String> userIds) {
+        batchCalls.incrementAndGet();
+        batchSizes.add(userIds.size());
+        checkAvailable();
+        checkAvailable(userIds);
+        Map<String, String> result = new HashMap<>();
+        for (String userId : userIds) {
+            String email = emailByUserId.get(userId);
+            if (email != null) {
+                result.put(userId, email);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean existsById(String userId) {
+        existsCalls.incrementAndGet();
+        checkAvailable();
+        return emailByUserId.containsKey(userId);
+    }
+
+    private void checkAvailable(List<String> userIds) {
+        if (userIds.stream().anyMatch(failingUsers::contains)) {
+            throw new IllegalStateException("user-service failed for " + userIds);
+        }
+    }
+
+    private void checkAvailable() {
+        if (failing) {
+            throw new IllegalStateException("user-service unavailable");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.modive.rewardservice.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 user-service (WireMock 방식)
+ * 경로별로 상태 코드, 응답 본문, 지연 시간을 지정하고 호출 횟수를 기록한다.
+ * 쿼리 문자열은 무시하고 "GET /users/email" 처럼 메서드 + 경로로 매칭한다.
+ */
+public class UserServiceStandIn implements AutoCloseable {
+
+    public record Stub(int status, String contentType, String body, long delayMillis) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Stub> stubs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    public UserServiceStandIn() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public UserServiceStandIn stub(String route, int status, String body) {
+        return stub(route, status, body, 0);
+    }
+
+    public UserServiceStandIn stub(String route, int status, String body, long delayMillis) {
+        String contentType = body.startsWith("{") || body.startsWith("[") || body.equals("true") || body.equals("false")
+                ? "application/json" : "text/plain";
+        stubs.put(route, new Stub(status, contentType, body, delayMillis));
+        return this;
+    }
+
+    public int hits(String route) {
+        AtomicInteger count = hits.get(route);
+        return count == null ? 0 : count.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String route = exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+        hits.computeIfAbsent(route, key -> new AtomicInteger()).incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+
+        Stub stub = stubs.getOrDefault(route, new Stub(404, "text/plain", "", 0));
+        if (stub.delayMillis() > 0) {
+            try {
+                Thread.sleep(stub.delayMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] body = stub.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", stub.contentType());
+        try {
+            exchange.sendResponseHeaders(stub.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃으로 먼저 연결을 끊은 경우
+        } finally {
+            exchange.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,107 @@
+package com.modive.rewardservice.config;
+
+import com.modive.rewardservice.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * EarnRateLimitInterceptor 테스트
+ * 시계를 직접 움직여 버킷 소진/재충전, 사용자 분리, 유휴 버킷 정리를 확인
+ */
+class EarnRateLimitInterceptorTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private EarnRateLimitInterceptor interceptor;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        EarnRateLimitProperties properties = new EarnRateLimitProperties();
+        properties.setCapacity(3);
+        properties.setRefillPerMinute(6);
+        properties.setStripes(4);
+        properties.setMaxUsers(8);
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new EarnRateLimitInterceptor(properties, meterRegistry, now::get);
+    }
+
+    private boolean earn(String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/reward/earn");
+        if (userId != null) {
+            request.addHeader(UserIdInterceptor.USER_ID_HEADER, userId);
+        }
+        return interceptor.preHandle(request, new MockHttpServletResponse(), null);
+    }
+
+    private double trackedUsers() {
+        return meterRegistry.get("reward.rate-limit.tracked-users").tag("endpoint", "earn").gauge().value();
+    }
+
+    @Test
+    @DisplayName("버킷을 다 쓰면 429 예외와 다음 토큰까지의 대기 시간, 시간이 지나면 다시 허용")
+    void earn_BucketExhausted_RejectsUntilRefill() {
+        assertThat(earn("user-1")).isTrue();
+        assertThat(earn("user-1")).isTrue();
+        assertThat(earn("user-1")).isTrue();
+
+        // 분당 6개 → 10초에 하나
+        assertThatThrownBy(() -> earn("user-1"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting(e -> ((RateLimitExceededException) e).getRetryAfterSeconds())
+                .isEqualTo(10L);
+        assertThat(meterRegistry.get("reward.rate-limit.rejected").tag("endpoint", "earn").counter().count())
+                .isEqualTo(1);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(4));
+        assertThatThrownBy(() -> earn("user-1"))
+                .extracting(e -> ((RateLimitExceededException) e).getRetryAfterSeconds())
+                .isEqualTo(6L);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        assertThat(earn("user-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 버킷과 헤더 없는 요청에는 영향 없음")
+    void earn_SeparateUsers() {
+        for (int i = 0; i < 3; i++) {
+            earn("user-1");
+        }
+        assertThatThrownBy(() -> earn("user-1")).isInstanceOf(RateLimitExceededException.class);
+
+        assertThat(earn("user-2")).isTrue();
+        assertThat(earn(null)).isTrue();
+        assertThat(trackedUsers()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다 찬 버킷은 정리되고, 추적 사용자 수는 max-users를 넘지 않음")
+    void sweep_EvictsIdleBuckets() {
+        for (int i = 0; i < 50; i++) {
+            earn("user-" + i);
+        }
+        assertThat(trackedUsers()).isLessThanOrEqualTo(8);
+
+        earn("busy");
+        earn("busy");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        interceptor.sweep();
+
+        // busy는 아직 하나가 덜 찼다
+        assertThat(trackedUsers()).isEqualTo(1);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        interceptor.sweep();
+        assertThat(trackedUsers()).isZero();
+    }
+}
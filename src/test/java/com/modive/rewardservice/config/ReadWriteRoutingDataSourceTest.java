@@ -0,0 +1,76 @@
+package com.modive.rewardservice.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅 테스트
+ * 서로 다른 H2 DB 두 개에 표식 값을 넣고 트랜잭션 종류별로 어느 쪽에서 읽히는지 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource write = marked("routing_write", "write");
+        DataSource read = marked("routing_read", "read");
+        DataSource routing = DataSourceConfig.routingDataSource(write, read);
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+    }
+
+    private static DataSource marked(String name, String marker) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(10))");
+        template.execute("DELETE FROM marker");
+        template.update("INSERT INTO marker VALUES (?)", marker);
+        return dataSource;
+    }
+
+    private String currentMarker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 읽기 풀 사용")
+    void readOnlyTransaction_RoutesToRead() {
+        String marker = readTx.execute(status -> currentMarker());
+        assertThat(marker).isEqualTo("read");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖 호출은 쓰기 풀 사용")
+    void writeTransaction_RoutesToWrite() {
+        String marker = writeTx.execute(status -> currentMarker());
+        assertThat(marker).isEqualTo("write");
+        assertThat(currentMarker()).isEqualTo("write");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안의 readOnly 호출은 기존 쓰기 커넥션 유지")
+    void nestedReadOnly_StaysOnWrite() {
+        String marker = writeTx.execute(status -> {
+            currentMarker();
+            return readTx.execute(inner -> currentMarker());
+        });
+        assertThat(marker).isEqualTo("write");
+    }
+}
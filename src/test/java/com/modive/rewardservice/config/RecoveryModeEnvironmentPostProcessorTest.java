@@ -0,0 +1,47 @@
+package com.modive.rewardservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.scheduling.config.TaskManagementConfigUtils;
+import org.springframework.test.context.support.TestPropertySourceUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복구 모드 구동 설정 테스트
+ * 복구 모드면 웹 서버 없이 뜨고 스케줄 작업이 등록되지 않는지 확인
+ */
+class RecoveryModeEnvironmentPostProcessorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(SchedulingConfig.class);
+
+    @Test
+    @DisplayName("복구 모드면 웹 애플리케이션 타입을 none으로 바꾸고, 아니면 건드리지 않는다")
+    void postProcessEnvironment_DisablesWebServerInRecoveryMode() {
+        StandardEnvironment recovery = new StandardEnvironment();
+        TestPropertySourceUtils.addInlinedPropertiesToEnvironment(recovery, "reward.recovery.enabled=true");
+        StandardEnvironment normal = new StandardEnvironment();
+        TestPropertySourceUtils.addInlinedPropertiesToEnvironment(normal, "reward.recovery.enabled=false");
+
+        RecoveryModeEnvironmentPostProcessor postProcessor = new RecoveryModeEnvironmentPostProcessor();
+        postProcessor.postProcessEnvironment(recovery, new SpringApplication());
+        postProcessor.postProcessEnvironment(normal, new SpringApplication());
+
+        assertThat(recovery.getProperty("spring.main.web-application-type")).isEqualTo("none");
+        assertThat(normal.getProperty("spring.main.web-application-type")).isNull();
+    }
+
+    @Test
+    @DisplayName("복구 모드면 스케줄 작업을 등록하지 않는다")
+    void schedulingConfig_DisabledInRecoveryMode() {
+        contextRunner.run(context -> assertThat(context)
+                .hasBean(TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME));
+        contextRunner.withPropertyValues("reward.recovery.enabled=true")
+                .run(context -> assertThat(context)
+                        .doesNotHaveBean(TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME));
+    }
+}
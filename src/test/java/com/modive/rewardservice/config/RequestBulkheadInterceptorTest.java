@@ -0,0 +1,111 @@
+package com.modive.rewardservice.config;
+
+import com.modive.rewardservice.controller.AdminRewardController;
+import com.modive.rewardservice.controller.RewardController;
+import com.modive.rewardservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * RequestBulkheadInterceptor 테스트
+ * 관리자 그룹은 한도 초과 시 거절, 사용자 그룹은 대기하는지 확인
+ */
+class RequestBulkheadInterceptorTest {
+
+    private RequestBulkheadInterceptor interceptor;
+    private MeterRegistry meterRegistry;
+    private HandlerMethod adminHandler;
+    private HandlerMethod userHandler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RequestBulkheadProperties properties = new RequestBulkheadProperties();
+        properties.setAdmin(new RequestBulkheadProperties.Group(1, Duration.ZERO));
+        properties.setUser(new RequestBulkheadProperties.Group(1, Duration.ZERO));
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new RequestBulkheadInterceptor(properties, meterRegistry);
+
+        adminHandler = new HandlerMethod(mock(AdminRewardController.class),
+                AdminRewardController.class.getMethod("getTotalStats"));
+        userHandler = new HandlerMethod(mock(RewardController.class),
+                RewardController.class.getMethod("getBalance", LocalDateTime.class));
+    }
+
+    private double active(String group) {
+        return meterRegistry.get("reward.bulkhead.active").tag("group", group).gauge().value();
+    }
+
+    @Test
+    @DisplayName("관리자 요청이 한도를 넘으면 거절하고 거절 수를 기록")
+    void admin_Saturated_Rejects() {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, new MockHttpServletResponse(), adminHandler);
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), adminHandler))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("reward.bulkhead.rejected").tag("group", "admin").counter().count())
+                .isEqualTo(1);
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), adminHandler, null);
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), adminHandler))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("관리자 한도가 차도 사용자 요청은 처리")
+    void admin_Saturated_DoesNotAffectUser() {
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), adminHandler);
+
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), userHandler))
+                .isTrue();
+        assertThat(active("admin")).isEqualTo(1);
+        assertThat(active("user")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 요청은 한도를 넘으면 거절하지 않고 자리가 날 때까지 대기")
+    void user_Saturated_Waits() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        interceptor.preHandle(first, new MockHttpServletResponse(), userHandler);
+
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() ->
+                interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), userHandler));
+        Thread.sleep(100);
+        assertThat(waiting).isNotDone();
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), userHandler, null);
+        assertThat(waiting.get(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("reward.bulkhead.rejected").tag("group", "user").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 재디스패치에서는 자리를 다시 잡지 않고 완료 시 한 번만 반환")
+    void asyncRedispatch_HoldsSinglePermit() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, new MockHttpServletResponse(), adminHandler);
+        interceptor.afterConcurrentHandlingStarted(request, new MockHttpServletResponse(), adminHandler);
+
+        // 스트리밍 완료 후 재디스패치
+        interceptor.preHandle(request, new MockHttpServletResponse(), adminHandler);
+        assertThat(active("admin")).isEqualTo(1);
+
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), adminHandler, null);
+        assertThat(active("admin")).isZero();
+    }
+}
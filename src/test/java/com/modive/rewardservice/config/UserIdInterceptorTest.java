@@ -0,0 +1,60 @@
+package com.modive.rewardservice.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UserIdInterceptor 테스트
+ * 사용자 ID가 스레드가 아닌 요청 속성에 저장되는지 확인
+ */
+class UserIdInterceptorTest {
+
+    private final UserIdInterceptor interceptor = new UserIdInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("X-USER-ID 헤더를 요청 속성으로 저장하고 현재 요청에서 조회")
+    void preHandle_StoresUserIdOnRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-USER-ID", "user123");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        assertThat(request.getAttribute(UserIdInterceptor.USER_ID_ATTRIBUTE)).isEqualTo("user123");
+        assertThat(UserIdInterceptor.getCurrentUserId()).isEqualTo("user123");
+    }
+
+    @Test
+    @DisplayName("요청이 바뀌면 이전 요청의 사용자 ID가 남지 않음")
+    void getCurrentUserId_NewRequest_DoesNotLeak() {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        first.addHeader("X-USER-ID", "user1");
+        interceptor.preHandle(first, new MockHttpServletResponse(), new Object());
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertThatThrownBy(UserIdInterceptor::getCurrentUserId)
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 예외")
+    void preHandle_MissingHeader_Throws() {
+        assertThatThrownBy(() -> interceptor.preHandle(
+                new MockHttpServletRequest(), new MockHttpServletResponse(), new Object()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -4,6 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.modive.rewardservice.dto.AdminRewardDto;
 import com.modive.rewardservice.service.AdminRewardService;
+import com.modive.rewardservice.service.BalanceReconciliationService;
+import com.modive.rewardservice.service.IssuanceAnomalyDetector;
+import com.modive.rewardservice.service.IssuanceDigestService;
+import com.modive.rewardservice.service.RewardReversalService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -36,6 +40,18 @@ class AdminRewardControllerTest {
     @Mock
     private AdminRewardService adminRewardService;
 
+    @Mock
+    private RewardReversalService rewardReversalService;
+
+    @Mock
+    private BalanceReconciliationService balanceReconciliationService;
+
+    @Mock
+    private IssuanceAnomalyDetector issuanceAnomalyDetector;
+
+    @Mock
+    private IssuanceDigestService issuanceDigestService;
+
     @InjectMocks
     private AdminRewardController adminRewardController;
 
@@ -0,0 +1,199 @@
+package com.modive.rewardservice.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.modive.rewardservice.domain.BatchJobStatus;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.service.AdminRewardService;
+import com.modive.rewardservice.service.BalanceReconciliationService;
+import com.modive.rewardservice.service.IssuanceAnomalyDetector;
+import com.modive.rewardservice.service.IssuanceDigestService;
+import com.modive.rewardservice.service.RewardReversalService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * AdminRewardController 운영 API(주행 적립 취소, 잔액 대사, 이상 탐지, 분위수) 순수 단위 테스트
+ * Spring Context 없이 컨트롤러만 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminRewardOperationsControllerTest {
+
+    @Mock
+    private AdminRewardService adminRewardService;
+
+    @Mock
+    private RewardReversalService rewardReversalService;
+
+    @Mock
+    private BalanceReconciliationService balanceReconciliationService;
+
+    @Mock
+    private IssuanceAnomalyDetector issuanceAnomalyDetector;
+
+    @Mock
+    private IssuanceDigestService issuanceDigestService;
+
+    @InjectMocks
+    private AdminRewardController adminRewardController;
+
+    private MockMvc mockMvc;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(adminRewardController).build();
+    }
+
+    // ===== 주행 적립 취소 테스트 =====
+
+    @Test
+    @DisplayName("POST /reward/reversals - 취소 작업 등록 (202)")
+    void reverseDrives() throws Exception {
+        // given
+        given(rewardReversalService.start(List.of("drive-1", "drive-2"))).willReturn(
+                AdminRewardDto.ReversalJobResponse.builder()
+                        .jobId("job-1")
+                        .status(BatchJobStatus.QUEUED)
+                        .totalDrives(2)
+                        .build());
+
+        // when & then
+        mockMvc.perform(post("/reward/reversals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new AdminRewardDto.ReversalRequest(List.of("drive-1", "drive-2")))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value(202))
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"))
+                .andExpect(jsonPath("$.data.totalDrives").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /reward/reversals/{jobId} - 취소 작업 진행 상황 조회")
+    void getReversalJob() throws Exception {
+        // given
+        given(rewardReversalService.getJob("job-1")).willReturn(
+                AdminRewardDto.ReversalJobResponse.builder()
+                        .jobId("job-1")
+                        .status(BatchJobStatus.RUNNING)
+                        .totalDrives(1000)
+                        .processedDrives(500)
+                        .reversedRewards(480)
+                        .reversedAmount(4800)
+                        .build());
+
+        // when & then
+        mockMvc.perform(get("/reward/reversals/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("RUNNING"))
+                .andExpect(jsonPath("$.data.processedDrives").value(500))
+                .andExpect(jsonPath("$.data.reversedAmount").value(4800));
+    }
+
+    // ===== 잔액 대사 테스트 =====
+
+    @Test
+    @DisplayName("POST /reward/reconciliations - 대사 작업 등록 (202)")
+    void reconcileBalances() throws Exception {
+        // given
+        given(balanceReconciliationService.start(true)).willReturn(
+                AdminRewardDto.ReconciliationResponse.builder()
+                        .jobId("recon-1")
+                        .status(BatchJobStatus.QUEUED)
+                        .repair(true)
+                        .mismatches(List.of())
+                        .build());
+
+        // when & then
+        mockMvc.perform(post("/reward/reconciliations").param("repair", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.jobId").value("recon-1"))
+                .andExpect(jsonPath("$.data.repair").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /reward/reconciliations/{jobId} - 불일치 보고서 조회")
+    void getReconciliation() throws Exception {
+        // given
+        given(balanceReconciliationService.getJob("recon-1")).willReturn(
+                AdminRewardDto.ReconciliationResponse.builder()
+                        .jobId("recon-1")
+                        .status(BatchJobStatus.COMPLETED)
+                        .mismatchCount(1)
+                        .mismatches(List.of(AdminRewardDto.BalanceMismatch.builder()
+                                .userId("user-1").balance(12).ledgerBalance(10).build()))
+                        .build());
+
+        // when & then
+        mockMvc.perform(get("/reward/reconciliations/recon-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.mismatchCount").value(1))
+                .andExpect(jsonPath("$.data.mismatches[0].userId").value("user-1"))
+                .andExpect(jsonPath("$.data.mismatches[0].ledgerBalance").value(10));
+    }
+
+    // ===== 적립 이상 탐지 테스트 =====
+
+    @Test
+    @DisplayName("GET /reward/anomalies - 탐지된 사용자 조회")
+    void getAnomalies() throws Exception {
+        // given
+        given(issuanceAnomalyDetector.getFlagged()).willReturn(
+                AdminRewardDto.AnomalyResponse.builder()
+                        .windowMinutes(60)
+                        .baselineDrivesPerUser(1.5)
+                        .users(List.of(AdminRewardDto.FlaggedUser.builder()
+                                .userId("user-1").signals(List.of("EARN_RATE")).driveCount(40).build()))
+                        .build());
+
+        // when & then
+        mockMvc.perform(get("/reward/anomalies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.windowMinutes").value(60))
+                .andExpect(jsonPath("$.data.users[0].userId").value("user-1"))
+                .andExpect(jsonPath("$.data.users[0].signals[0]").value("EARN_RATE"))
+                .andExpect(jsonPath("$.data.users[0].driveCount").value(40));
+    }
+
+    // ===== 사용자별 적립 분위수 테스트 =====
+
+    @Test
+    @DisplayName("GET /reward/stats/per-user/quantiles - 월 사용자별 적립 분위수 조회")
+    void getPerUserQuantiles() throws Exception {
+        // given
+        given(issuanceDigestService.getPerUserQuantiles(YearMonth.of(2025, 6), List.of(0.5, 0.99))).willReturn(
+                AdminRewardDto.IssuanceQuantilesResponse.builder()
+                        .month("2025-06")
+                        .users(1200)
+                        .quantiles(List.of(
+                                AdminRewardDto.QuantileValue.builder().quantile(0.5).value(30.0).build(),
+                                AdminRewardDto.QuantileValue.builder().quantile(0.99).value(180.0).build()))
+                        .build());
+
+        // when & then
+        mockMvc.perform(get("/reward/stats/per-user/quantiles")
+                        .param("month", "2025-06")
+                        .param("q", "0.5,0.99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.users").value(1200))
+                .andExpect(jsonPath("$.data.quantiles[0].value").value(30.0))
+                .andExpect(jsonPath("$.data.quantiles[1].quantile").value(0.99));
+    }
+}
@@ -0,0 +1,117 @@
+package com.modive.rewardservice.controller;
+
+import com.modive.rewardservice.config.UserIdInterceptor;
+import com.modive.rewardservice.service.BalanceCheckpointService;
+import com.modive.rewardservice.service.BalanceLookupService;
+import com.modive.rewardservice.service.ReactiveRewardQueryService;
+import com.modive.rewardservice.service.RedemptionService;
+import com.modive.rewardservice.service.RewardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 리액티브 조회를 켰을 때(reward.reactive-read.enabled=true) 잔액 조회 라우팅 단위 테스트
+ * Spring Context 없이 RewardController와 ReactiveRewardQueryController를 함께 등록해 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveRewardQueryControllerTest {
+
+    @Mock
+    private RewardService rewardService;
+
+    @Mock
+    private BalanceLookupService balanceLookupService;
+
+    @Mock
+    private RedemptionService redemptionService;
+
+    @Mock
+    private BalanceCheckpointService balanceCheckpointService;
+
+    @Mock
+    private ReactiveRewardQueryService reactiveRewardQueryService;
+
+    @InjectMocks
+    private RewardController rewardController;
+
+    @InjectMocks
+    private ReactiveRewardQueryController reactiveRewardQueryController;
+
+    private MockMvc mockMvc;
+
+    private static final String TEST_USER_ID = "user123";
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(rewardController, reactiveRewardQueryController).build();
+    }
+
+    @Test
+    @DisplayName("GET /reward/users/balance - 리액티브 조회로 처리")
+    void getBalance_Reactive() throws Exception {
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+            when(reactiveRewardQueryService.getBalance(TEST_USER_ID)).thenReturn(Mono.just(100L));
+
+            MvcResult result = mockMvc.perform(get("/reward/users/balance"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.balance").value(100));
+
+            verify(rewardService, never()).getBalance(any());
+        }
+    }
+
+    @Test
+    @DisplayName("GET /reward/users/balance?at= - 시점 잔액은 RewardController가 처리")
+    void getBalance_At_UsesCheckpoint() throws Exception {
+        LocalDateTime at = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+            when(balanceCheckpointService.getBalanceAt(TEST_USER_ID, at)).thenReturn(40L);
+
+            mockMvc.perform(get("/reward/users/balance").param("at", "2025-06-01T00:00:00"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.balance").value(40));
+
+            verifyNoInteractions(reactiveRewardQueryService);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /reward/users/balance + X-Blocking-Read - JPA 조회로 처리")
+    void getBalance_BlockingHeader_UsesJpa() throws Exception {
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+            when(rewardService.getBalance(TEST_USER_ID)).thenReturn(70L);
+
+            mockMvc.perform(get("/reward/users/balance")
+                            .header(ReactiveRewardQueryController.BLOCKING_READ_HEADER, "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.balance").value(70));
+
+            verifyNoInteractions(reactiveRewardQueryService);
+        }
+    }
+}
@@ -7,6 +7,9 @@ import com.modive.rewardservice.domain.Reward;
 import com.modive.rewardservice.domain.RewardType;
 import com.modive.rewardservice.dto.RewardDto;
 import com.modive.rewardservice.dto.request.ScoreInfo;
+import com.modive.rewardservice.service.BalanceCheckpointService;
+import com.modive.rewardservice.service.BalanceLookupService;
+import com.modive.rewardservice.service.RedemptionService;
 import com.modive.rewardservice.service.RewardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,8 +27,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -45,6 +51,15 @@ class RewardControllerTest {
     @Mock
     private RewardService rewardService;
 
+    @Mock
+    private BalanceLookupService balanceLookupService;
+
+    @Mock
+    private RedemptionService redemptionService;
+
+    @Mock
+    private BalanceCheckpointService balanceCheckpointService;
+
     @InjectMocks
     private RewardController rewardController;
 
@@ -138,6 +153,27 @@ class RewardControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("GET /reward/users/balance?at= - 시점 잔액 조회 성공")
+    void getBalanceAt_Success() throws Exception {
+        // Given
+        LocalDateTime at = LocalDateTime.of(2025, 6, 1, 12, 30);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+            when(balanceCheckpointService.getBalanceAt(TEST_USER_ID, at)).thenReturn(42L);
+
+            // When & Then
+            mockMvc.perform(get("/reward/users/balance").param("at", "2025-06-01T12:30:00"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.userId").value(TEST_USER_ID))
+                    .andExpect(jsonPath("$.data.balance").value(42L));
+
+            verify(rewardService, never()).getBalance(any());
+        }
+    }
+
     @Test
     @DisplayName("GET /reward/users/history - 사용자 리워드 내역 조회 성공")
     void getRewardHistory_Success() throws Exception {
@@ -256,6 +292,64 @@ class RewardControllerTest {
         }
     }
 
+    @Test
+    @DisplayName("POST /reward/balances - 잔액 일괄 조회 (요청 순서 유지)")
+    void getBalances_Success() throws Exception {
+        // Given
+        Map<String, Long> balances = new LinkedHashMap<>();
+        balances.put("user2", 30L);
+        balances.put("user1", 0L);
+        when(balanceLookupService.getBalances(List.of("user2", "user1"))).thenReturn(balances);
+
+        // When & Then
+        mockMvc.perform(post("/reward/balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[\"user2\",\"user1\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.balances[0].userId").value("user2"))
+                .andExpect(jsonPath("$.data.balances[0].balance").value(30))
+                .andExpect(jsonPath("$.data.balances[1].userId").value("user1"))
+                .andExpect(jsonPath("$.data.balances[1].balance").value(0));
+    }
+
+    @Test
+    @DisplayName("POST /reward/balances - 빈 목록은 400")
+    void getBalances_EmptyUserIds_BadRequest() throws Exception {
+        mockMvc.perform(post("/reward/balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userIds\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(balanceLookupService);
+    }
+
+    @Test
+    @DisplayName("POST /reward/redeem - 씨앗 사용 성공")
+    void redeem_Success() throws Exception {
+        // Given
+        Reward used = Reward.builder()
+                .userId(TEST_USER_ID)
+                .amount(30L)
+                .type(RewardType.USED)
+                .description("씨앗 사용")
+                .balanceSnapshot(70L)
+                .orderId("order-1")
+                .build();
+        when(redemptionService.redeem(TEST_USER_ID, "order-1", 30L)).thenReturn(used);
+
+        try (MockedStatic<UserIdInterceptor> mockedStatic = mockStatic(UserIdInterceptor.class)) {
+            mockedStatic.when(UserIdInterceptor::getCurrentUserId).thenReturn(TEST_USER_ID);
+
+            // When & Then
+            mockMvc.perform(post("/reward/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"orderId\":\"order-1\",\"amount\":30}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.orderId").value("order-1"))
+                    .andExpect(jsonPath("$.data.balance").value(70));
+        }
+    }
+
     /**
      * 테스트용 Reward 리스트 생성
      */
@@ -3,6 +3,10 @@ package com.modive.rewardservice.controller.mock;
 import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Profile("test")  //  "test" 프로파일일 때만 이 컨트롤러가 등록됨
 @RestController
 @RequestMapping("/users")
@@ -21,4 +25,14 @@ public class MockUserController {
         else if (userId == "2L") return "user2@example.com";
         return "unknown@example.com";
     }
-}
\ No newline at end of file
+
+    @PostMapping("/emails")
+    public Map<String, String> getEmailsByUserIds(@RequestBody List<String> userIds) {
+        Map<String, String> emails = new HashMap<>();
+        for (String userId : userIds) {
+            if (userId.equals("1")) emails.put(userId, "user1@example.com");
+            else if (userId.equals("2")) emails.put(userId, "user2@example.com");
+        }
+        return emails;
+    }
+}
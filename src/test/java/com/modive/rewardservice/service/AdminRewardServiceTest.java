@@ -29,6 +29,9 @@ class AdminRewardServiceTest {
     @Mock
     private RewardRepository rewardRepository;
 
+    @Mock
+    private DistinctUserCounter distinctUserCounter;
+
     @InjectMocks
     private AdminRewardService adminRewardService;
 
@@ -173,7 +176,7 @@ class AdminRewardServiceTest {
         // given
         given(rewardRepository.countIssuedBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
                 .willReturn(1580L); // 총 리워드 수
-        given(rewardRepository.countDistinctUsersBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+        given(distinctUserCounter.countDistinctEarnedUsers(any(LocalDate.class), any(LocalDate.class)))
                 .willReturn(10L); // 사용자 수
 
         // when
@@ -189,7 +192,7 @@ class AdminRewardServiceTest {
         // given
         given(rewardRepository.countIssuedBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
                 .willReturn(100L); // 총 리워드 수
-        given(rewardRepository.countDistinctUsersBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+        given(distinctUserCounter.countDistinctEarnedUsers(any(LocalDate.class), any(LocalDate.class)))
                 .willReturn(0L); // 사용자 수 0명
 
         // when
@@ -207,7 +210,7 @@ class AdminRewardServiceTest {
         given(rewardRepository.countIssuedBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
                 .willReturn(1600L) // 오늘 리워드
                 .willReturn(1500L); // 어제 리워드
-        given(rewardRepository.countDistinctUsersBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
+        given(distinctUserCounter.countDistinctEarnedUsers(any(LocalDate.class), any(LocalDate.class)))
                 .willReturn(10L) // 오늘 사용자
                 .willReturn(10L); // 어제 사용자
 
@@ -0,0 +1,119 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.repository.BalanceCheckpointRepository;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.LedgerRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BalanceCheckpointService 테스트 (H2)
+ * 사흘 전부터 내역을 쓰고, 청크 크기 1로 키셋을 여러 번 돈다.
+ */
+@H2ServiceTest
+class BalanceCheckpointServiceTest {
+
+    private static final LocalDate DAY1 = LocalDate.now().minusDays(3);
+    private static final LocalDate DAY2 = DAY1.plusDays(1);
+    private static final LocalDate DAY3 = DAY1.plusDays(2);
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardLedgerJdbcRepository ledgerJdbcRepository;
+
+    @Autowired
+    private BalanceCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BalanceCheckpointService checkpointService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        checkpointService = new BalanceCheckpointService(ledgerJdbcRepository, checkpointRepository,
+                new TransactionTemplate(transactionManager), readOnly, Clock.systemDefaultZone(), 1, 1);
+    }
+
+    @Test
+    @DisplayName("체크포인트는 이전 체크포인트 + 내역으로 쌓이고, 시점 잔액은 전체 내역 합계와 같다")
+    void checkpointsAndBalanceAt_MatchFullLedger() {
+        givenLedger("ckpt-a", RewardType.EARNED, 100L, DAY1.atTime(10, 0));
+        givenLedger("ckpt-a", RewardType.USED, 30L, DAY2.atTime(9, 0));
+        givenLedger("ckpt-a", RewardType.EARNED, 5L, DAY3.atTime(8, 0));
+        givenLedger("ckpt-b", RewardType.EARNED, 40L, DAY1.atTime(23, 59));
+        givenLedger("ckpt-b", RewardType.EXPIRED, 40L, DAY3.atTime(1, 0));
+
+        assertThat(checkpointService.run(DAY2)).isEqualTo(2);
+        assertThat(checkpointService.run(DAY3)).isEqualTo(1);
+        assertThat(checkpointService.run(DAY3)).isZero();
+
+        assertThat(checkpointAt("ckpt-a", DAY2)).isEqualTo(100L);
+        assertThat(checkpointAt("ckpt-a", DAY3)).isEqualTo(70L);
+        assertThat(checkpointAt("ckpt-b", DAY2)).isEqualTo(40L);
+
+        assertThat(checkpointService.getBalanceAt("ckpt-a", DAY1.atTime(9, 59))).isZero();
+        assertThat(checkpointService.getBalanceAt("ckpt-a", DAY1.atTime(12, 0))).isEqualTo(100L);
+        assertThat(checkpointService.getBalanceAt("ckpt-a", DAY2.atTime(9, 0))).isEqualTo(70L);
+        assertThat(checkpointService.getBalanceAt("ckpt-a", DAY3.atStartOfDay())).isEqualTo(70L);
+        assertThat(checkpointService.getBalanceAt("ckpt-a", DAY3.atTime(8, 0))).isEqualTo(75L);
+        // DAY3 체크포인트가 없는 사용자는 DAY2 체크포인트 + 꼬리 구간
+        assertThat(checkpointService.getBalanceAt("ckpt-b", DAY3.atTime(12, 0))).isZero();
+        assertThat(checkpointService.getBalanceAt("ckpt-b", DAY3.atTime(0, 30))).isEqualTo(40L);
+        for (LocalDateTime at : List.of(DAY2.atTime(12, 0), DAY3.atTime(23, 0))) {
+            assertThat(checkpointService.getBalanceAt("ckpt-a", at))
+                    .isEqualTo(ledgerJdbcRepository.sumLedgerDelta("ckpt-a", null, at));
+        }
+    }
+
+    @Test
+    @DisplayName("구간 안에 내역이 여러 청크로 나뉜 사용자도 체크포인트는 한 번만 만든다")
+    void run_UserSpanningChunks_CheckpointsOnce() {
+        givenLedger("ckpt-c", RewardType.EARNED, 10L, DAY1.atTime(8, 0));
+        givenLedger("ckpt-d", RewardType.EARNED, 1L, DAY1.atTime(9, 0));
+        givenLedger("ckpt-c", RewardType.EARNED, 20L, DAY1.atTime(10, 0));
+        givenLedger("ckpt-c", RewardType.USED, 5L, DAY1.atTime(11, 0));
+
+        assertThat(checkpointService.run(DAY2)).isEqualTo(2);
+        assertThat(checkpointService.run(DAY2)).isZero();
+
+        assertThat(checkpointAt("ckpt-c", DAY2)).isEqualTo(25L);
+        assertThat(checkpointAt("ckpt-d", DAY2)).isEqualTo(1L);
+    }
+
+    private void givenLedger(String userId, RewardType type, long amount, LocalDateTime createdAt) {
+        RewardLedgerJdbcRepository.BalanceRef existing = ledgerJdbcRepository.findBalances(List.of(userId)).get(userId);
+        long balanceId = existing != null ? existing.id()
+                : rewardBalanceRepository.save(RewardBalance.builder().userId(userId).balance(0L).build()).getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> ledgerJdbcRepository.insertLedger(
+                type, List.of(new LedgerRow(userId, null, amount, 0L, balanceId)),
+                RewardReason.EVENT_NOT_OCCURRED.getLabel(), RewardReason.EVENT_NOT_OCCURRED.getCode(), createdAt));
+    }
+
+    private long checkpointAt(String userId, LocalDate date) {
+        return checkpointRepository
+                .findTopByUserIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(userId, date.atStartOfDay())
+                .filter(checkpoint -> checkpoint.getCheckpointAt().equals(date.atStartOfDay()))
+                .orElseThrow()
+                .getBalance();
+    }
+}
@@ -0,0 +1,109 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.UserBalanceRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * BalanceLookupService 테스트
+ * 캐시 미스만 chunk 단위 IN 쿼리로 조회하는지, 없는 사용자를 0으로 채우는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class BalanceLookupServiceTest {
+
+    @Mock
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private BalanceLookupService balanceLookupService;
+
+    @BeforeEach
+    void setUp() {
+        balanceLookupService = new BalanceLookupService(rewardBalanceRepository, new SimpleMeterRegistry(),
+                Duration.ofSeconds(30), 1000, 2, nanos::get);
+    }
+
+    @Test
+    @DisplayName("요청 순서대로 잔액을 돌려주고 잔액 행이 없는 사용자는 0")
+    void getBalances_MissingUserIsZero() {
+        when(rewardBalanceRepository.findBalancesByUserIdIn(anyCollection()))
+                .thenAnswer(invocation -> rows(invocation.getArgument(0), Map.of("user1", 10L, "user3", 30L)));
+
+        Map<String, Long> balances = balanceLookupService.getBalances(List.of("user3", "user2", "user1", "user3", ""));
+
+        assertThat(balances).containsExactly(
+                Map.entry("user3", 30L), Map.entry("user2", 0L), Map.entry("user1", 10L));
+    }
+
+    @Test
+    @DisplayName("캐시 미스만 chunk 크기 단위로 조회")
+    void getBalances_QueriesOnlyMissesInChunks() {
+        when(rewardBalanceRepository.findBalancesByUserIdIn(anyCollection())).thenReturn(List.of());
+
+        balanceLookupService.getBalances(List.of("user1", "user2"));
+        clearInvocations(rewardBalanceRepository);
+
+        balanceLookupService.getBalances(List.of("user1", "user2", "user3", "user4", "user5"));
+
+        // user3~5 세 명만 chunk 2개(2명 + 1명)로 조회
+        verify(rewardBalanceRepository, times(2)).findBalancesByUserIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("잔액 변경 이벤트를 받으면 해당 사용자만 다시 조회")
+    void onBalanceChanged_InvalidatesUser() {
+        when(rewardBalanceRepository.findBalancesByUserIdIn(anyCollection()))
+                .thenAnswer(invocation -> rows(invocation.getArgument(0), Map.of("user1", 10L, "user2", 20L)));
+        balanceLookupService.getBalances(List.of("user1", "user2"));
+
+        when(rewardBalanceRepository.findBalancesByUserIdIn(anyCollection()))
+                .thenAnswer(invocation -> rows(invocation.getArgument(0), Map.of("user1", 15L, "user2", 99L)));
+        balanceLookupService.onBalanceChanged(new BalanceChangedEvent("user1", RewardType.EARNED, 5L, 15L, LocalDateTime.now()));
+
+        Map<String, Long> balances = balanceLookupService.getBalances(List.of("user1", "user2"));
+
+        assertThat(balances).containsEntry("user1", 15L).containsEntry("user2", 20L);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 다시 조회")
+    void getBalances_ExpiresAfterTtl() {
+        when(rewardBalanceRepository.findBalancesByUserIdIn(anyCollection()))
+                .thenAnswer(invocation -> rows(invocation.getArgument(0), Map.of("user1", 10L)));
+        balanceLookupService.getBalances(List.of("user1"));
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        balanceLookupService.getBalances(List.of("user1"));
+
+        verify(rewardBalanceRepository, times(2)).findBalancesByUserIdIn(anyCollection());
+    }
+
+    private static List<UserBalanceRow> rows(Collection<String> userIds, Map<String, Long> stored) {
+        List<UserBalanceRow> rows = new ArrayList<>();
+        for (String userId : userIds) {
+            if (stored.containsKey(userId)) {
+                rows.add(new UserBalanceRow(userId, stored.get(userId)));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,141 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.BatchJobStatus;
+import com.modive.rewardservice.domain.Reward;
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BalanceReconciliationService 테스트 (H2)
+ * 범위 크기 2, 작업자 2로 실제 집계 쿼리를 실행한다.
+ */
+@H2ServiceTest
+class BalanceReconciliationServiceTest {
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardLedgerJdbcRepository ledgerJdbcRepository;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BalanceReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        reconciliationService = new BalanceReconciliationService(ledgerJdbcRepository, readOnly,
+                new TransactionTemplate(transactionManager), 2, Clock.systemDefaultZone(), 2, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciliationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("내역/예약 합계와 어긋난 잔액만 보고하고 repair면 내역 기준으로 고친다")
+    void reconcile_ReportsAndRepairsDrift() throws Exception {
+        // 일치: 적립 20, 예약 5(묶음), 예약 3 취소
+        givenEarned("recon-ok", 20L);
+        reservationService.reserve("recon-ok", "recon-ok-1", 5L, null);
+        reservationService.reserve("recon-ok", "recon-ok-2", 3L, null);
+        reservationService.cancel("recon-ok", "recon-ok-2");
+        // 잔액 행만 바뀐 경우 (내역 10, 잔액 12)
+        givenEarned("recon-drift", 10L);
+        setBalance("recon-drift", 12L, 0L);
+        // 예약 없이 묶음만 남은 경우
+        givenEarned("recon-held", 6L);
+        setBalance("recon-held", 6L, 4L);
+
+        AdminRewardDto.ReconciliationResponse report = awaitJob(reconciliationService.start(false));
+
+        assertThat(report.getStatus()).isEqualTo(BatchJobStatus.COMPLETED);
+        assertThat(report.getScannedRanges()).isEqualTo(report.getTotalRanges());
+        assertThat(report.getMismatchCount()).isEqualTo(2);
+        assertThat(report.getMismatches()).extracting(AdminRewardDto.BalanceMismatch::getUserId)
+                .containsExactlyInAnyOrder("recon-drift", "recon-held");
+        assertThat(report.getMismatches()).filteredOn(mismatch -> mismatch.getUserId().equals("recon-drift"))
+                .singleElement()
+                .satisfies(mismatch -> {
+                    assertThat(mismatch.getBalance()).isEqualTo(12L);
+                    assertThat(mismatch.getLedgerBalance()).isEqualTo(10L);
+                });
+        assertThat(report.getRepairedCount()).isZero();
+        assertThat(balanceOf("recon-drift")).isEqualTo(12L);
+
+        AdminRewardDto.ReconciliationResponse repaired = awaitJob(reconciliationService.start(true));
+
+        assertThat(repaired.getRepairedCount()).isEqualTo(2);
+        assertThat(balanceOf("recon-drift")).isEqualTo(10L);
+        assertThat(heldOf("recon-held")).isZero();
+        assertThat(awaitJob(reconciliationService.start(false)).getMismatches()).isEmpty();
+    }
+
+    private AdminRewardDto.ReconciliationResponse awaitJob(AdminRewardDto.ReconciliationResponse started)
+            throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            AdminRewardDto.ReconciliationResponse job = reconciliationService.getJob(started.getJobId());
+            if (job.getStatus() == BatchJobStatus.COMPLETED || job.getStatus() == BatchJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Reconciliation did not finish");
+    }
+
+    private void givenEarned(String userId, long amount) {
+        RewardBalance balance = rewardBalanceRepository.save(
+                RewardBalance.builder().userId(userId).balance(amount).build());
+        rewardRepository.save(Reward.builder()
+                .userId(userId)
+                .amount(amount)
+                .type(RewardType.EARNED)
+                .description("이벤트미발생")
+                .balanceSnapshot(amount)
+                .rewardBalance(balance)
+                .build());
+    }
+
+    private void setBalance(String userId, long balance, long held) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE reward_balance SET balance = ?, held = ? WHERE user_id = ?", balance, held, userId));
+    }
+
+    private long balanceOf(String userId) {
+        return rewardBalanceRepository.findBalancesByUserIdIn(List.of(userId)).get(0).balance();
+    }
+
+    private long heldOf(String userId) {
+        return jdbcTemplate.queryForObject("SELECT held FROM reward_balance WHERE user_id = ?", Long.class, userId);
+    }
+}
@@ -0,0 +1,121 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.repository.DistinctUserSketchJdbcRepository;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.LedgerRow;
+import com.modive.rewardservice.repository.RewardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * DistinctUserCounter 테스트 (H2)
+ * 지난달 날짜로 적립 내역을 쓰고, 시계를 그 달 말로 고정한다.
+ */
+@H2ServiceTest
+class DistinctUserCounterTest {
+
+    private static final LocalDate DAY1 = LocalDate.now().minusMonths(1).withDayOfMonth(1);
+    private static final LocalDate DAY2 = DAY1.plusDays(1);
+    private static final LocalDate MONTH_END = DAY1.withDayOfMonth(DAY1.lengthOfMonth());
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardLedgerJdbcRepository ledgerJdbcRepository;
+
+    @SpyBean
+    private DistinctUserSketchJdbcRepository sketchRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AdminRewardService adminRewardService;
+
+    @Test
+    @DisplayName("스케치가 없는 기간은 내역으로 채우고, 적립 이벤트는 flush 후 다른 인스턴스에서도 보인다")
+    void countDistinctEarnedUsers_MatchesExactCount() {
+        // DAY1: user 0~39, DAY2: user 30~69 (10명 겹침)
+        for (int i = 0; i < 40; i++) {
+            givenEarned("hll-" + i, DAY1.atTime(10, 0));
+        }
+        for (int i = 30; i < 70; i++) {
+            givenEarned("hll-" + i, DAY2.atTime(10, 0));
+        }
+        DistinctUserCounter counter = counter(false);
+        DistinctUserCounter exact = counter(true);
+
+        assertThat(counter.countDistinctEarnedUsers(DAY1, DAY1)).isEqualTo(40);
+        assertThat(counter.countDistinctEarnedUsers(DAY1, DAY2)).isEqualTo(70);
+        assertThat(counter.countDistinctEarnedUsers(DAY1, MONTH_END)).isEqualTo(70);
+        assertThat(exact.countDistinctEarnedUsers(DAY1, DAY2)).isEqualTo(70);
+
+        // 적립 커밋 후 이벤트: 저장 전에도 이 인스턴스에서 보이고, flush 후에는 새 인스턴스에서도 보인다
+        LocalDateTime occurredAt = DAY2.atTime(11, 0);
+        givenEarned("hll-new", occurredAt);
+        counter.onBalanceChanged(new BalanceChangedEvent("hll-new", RewardType.EARNED, 1L, 1L, occurredAt));
+        counter.onBalanceChanged(new BalanceChangedEvent("hll-0", RewardType.USED, 1L, 0L, occurredAt));
+
+        assertThat(counter.countDistinctEarnedUsers(DAY2, DAY2)).isEqualTo(41);
+        counter.flush();
+        assertThat(counter(false).countDistinctEarnedUsers(DAY2, DAY2)).isEqualTo(41);
+        assertThat(counter(false).countDistinctEarnedUsers(DAY1, MONTH_END)).isEqualTo(71);
+        assertThat(sketchRepository.findSketches(
+                List.of(DAY1.toString(), DAY2.toString(), YearMonth.from(DAY1).toString()))).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("관리자 통계(readOnly 트랜잭션)에서 스케치를 채워 써도 쓰기 트랜잭션(쓰기 풀)에서 쓴다")
+    void countDistinctEarnedUsers_InsideReadOnlyTransaction_WritesInNewTransaction() {
+        LocalDate today = LocalDate.now();
+        // ReadWriteRoutingDataSource는 현재 트랜잭션의 readOnly 여부로 풀을 고른다
+        List<Boolean> readOnlyOnWrite = new ArrayList<>();
+        doAnswer(invocation -> {
+            readOnlyOnWrite.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return invocation.callRealMethod();
+        }).when(sketchRepository).insertSketch(anyString(), any(), any());
+
+        adminRewardService.getPerUserAverageChangeRate();
+
+        assertThat(readOnlyOnWrite).hasSize(2).containsOnly(false);
+        assertThat(sketchRepository.findSketches(List.of(today.toString(), today.minusDays(1).toString()))).hasSize(2);
+    }
+
+    private DistinctUserCounter counter(boolean exact) {
+        Clock clock = Clock.fixed(MONTH_END.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant(),
+                ZoneId.systemDefault());
+        return new DistinctUserCounter(sketchRepository, rewardRepository, new TransactionTemplate(transactionManager),
+                clock, exact, Duration.ofMinutes(1));
+    }
+
+    private void givenEarned(String userId, LocalDateTime createdAt) {
+        RewardLedgerJdbcRepository.BalanceRef existing = ledgerJdbcRepository.findBalances(List.of(userId)).get(userId);
+        long balanceId = existing != null ? existing.id()
+                : rewardBalanceRepository.save(RewardBalance.builder().userId(userId).balance(0L).build()).getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> ledgerJdbcRepository.insertLedger(
+                RewardType.EARNED, List.of(new LedgerRow(userId, null, 1L, 1L, balanceId)), RewardReason.EVENT_NOT_OCCURRED.getLabel(),
+                RewardReason.EVENT_NOT_OCCURRED.getCode(), createdAt));
+    }
+}
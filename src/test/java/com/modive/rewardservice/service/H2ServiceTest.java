@@ -0,0 +1,22 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.config.UserIdInterceptor;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.*;
+
+/**
+ * H2 통합 테스트 (application-h2.yml 설정, 테스트마다 모든 테이블을 비우고 시작)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest
+@ActiveProfiles("h2")
+@MockBean(UserIdInterceptor.class)
+@ExtendWith(TruncateTablesExtension.class)
+@interface H2ServiceTest {
+}
@@ -0,0 +1,50 @@
+package com.modive.rewardservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * HyperLogLog 테스트
+ * 추정 오차, 합치기(합집합), 직렬화 확인
+ */
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("작은 집합은 거의 정확하고 큰 집합은 2% 안쪽으로 추정")
+    void estimate_WithinError() {
+        HyperLogLog small = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            small.offer("user-" + i);
+            small.offer("user-" + i);
+        }
+        HyperLogLog large = new HyperLogLog();
+        for (int i = 0; i < 500_000; i++) {
+            large.offer("user-" + i);
+        }
+
+        assertThat(small.estimate()).isCloseTo(100L, within(1L));
+        assertThat(large.estimate()).isCloseTo(500_000L, within(10_000L));
+    }
+
+    @Test
+    @DisplayName("겹치는 두 스케치를 합치면 합집합 크기, 직렬화해도 같은 추정치")
+    void merge_IsUnionAndSurvivesBytes() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 60_000; i++) {
+            first.offer("user-" + i);
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            second.offer("user-" + i);
+        }
+
+        HyperLogLog union = HyperLogLog.fromBytes(first.toBytes()).merge(HyperLogLog.fromBytes(second.toBytes()));
+
+        assertThat(union.estimate()).isCloseTo(100_000L, within(2_000L));
+        assertThat(HyperLogLog.fromBytes(union.toBytes()).estimate()).isEqualTo(union.estimate());
+        assertThat(union.toBytes()).hasSize(HyperLogLog.SERIALIZED_BYTES);
+    }
+}
@@ -0,0 +1,146 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.dto.AdminRewardDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * IssuanceAnomalyDetector 테스트
+ * 트랜잭션 밖에서 호출해 바로 반영되게 하고, 시계를 움직여 창이 밀려나는 것을 확인
+ */
+class IssuanceAnomalyDetectorTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-06-01T10:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IssuanceAnomalyDetector detector = new IssuanceAnomalyDetector(meterRegistry, clock,
+            Duration.ofHours(1), 6, 1024, 10, 5, 3.0, 100, 3, 100);
+
+    @Test
+    @DisplayName("평균보다 훨씬 자주 적립을 요청한 사용자만 EARN_RATE로 잡히고, 창이 지나면 풀린다")
+    void observe_FlagsEarnRate() {
+        for (int i = 0; i < 50; i++) {
+            detector.observe("normal-" + i, null);
+            detector.observe("normal-" + i, null);
+        }
+        for (int i = 0; i < 20; i++) {
+            detector.observe("abuser", null);
+        }
+
+        AdminRewardDto.AnomalyResponse response = detector.getFlagged();
+        assertThat(response.getUsers()).extracting(AdminRewardDto.FlaggedUser::getUserId).containsExactly("abuser");
+        AdminRewardDto.FlaggedUser abuser = response.getUsers().get(0);
+        assertThat(abuser.getSignals()).containsExactly("EARN_RATE");
+        assertThat(abuser.getDriveCount()).isGreaterThanOrEqualTo(20);
+        assertThat(response.getBaselineDrivesPerUser()).isBetween(2.0, 3.0);
+        // 처음 잡혔을 때 한 번만 센다
+        assertThat(meterRegistry.get("reward.anomaly.flagged").tag("signal", "EARN_RATE").counter().count())
+                .isEqualTo(1.0);
+
+        clock.advance(Duration.ofMinutes(70));
+        assertThat(detector.getFlagged().getUsers()).isEmpty();
+        for (int i = 0; i < 5; i++) {
+            detector.observe("abuser", null);
+        }
+        assertThat(detector.getFlagged().getUsers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("점수 분포가 쌓인 뒤 크게 벗어난 주행이 outlier-drives번 이상이면 SCORE_OUTLIER")
+    void observe_FlagsScoreOutlier() {
+        // 표본이 쌓이기 전의 극단값은 보지 않는다
+        detector.observe("early", 0);
+        detector.observe("early", 0);
+        detector.observe("early", 0);
+        for (int i = 0; i < 200; i++) {
+            detector.observe("driver-" + i, 60 + i % 21);
+        }
+
+        detector.observe("odd", 0);
+        detector.observe("odd", 0);
+        detector.observe("almost", 0);
+        detector.observe("almost", 0);
+        assertThat(detector.getFlagged().getUsers()).isEmpty();
+
+        detector.observe("odd", 0);
+        AdminRewardDto.AnomalyResponse response = detector.getFlagged();
+        assertThat(response.getUsers()).extracting(AdminRewardDto.FlaggedUser::getUserId).containsExactly("odd");
+        AdminRewardDto.FlaggedUser odd = response.getUsers().get(0);
+        assertThat(odd.getSignals()).containsExactly("SCORE_OUTLIER");
+        assertThat(odd.getOutlierDrives()).isEqualTo(3);
+        assertThat(odd.getLastScore()).isZero();
+    }
+
+    @Test
+    @DisplayName("슬라이딩 스케치는 창 안의 횟수만 세고 실제보다 작게 세지 않는다")
+    void slidingSketch_CountsWithinWindow() {
+        SlidingCountMinSketch sketch = new SlidingCountMinSketch(4, 256, 4, 1000);
+        long now = 10_000;
+        for (int i = 0; i < 500; i++) {
+            sketch.add("key-" + i, now);
+        }
+        for (int i = 0; i < 7; i++) {
+            sketch.add("hot", now + i * 500);
+        }
+
+        assertThat(sketch.estimate("hot", now + 3000)).isGreaterThanOrEqualTo(7);
+        // 처음 조각(now)이 창에서 빠지면 그 뒤 5번만 남는다
+        assertThat(sketch.estimate("hot", now + 4000)).isGreaterThanOrEqualTo(5).isLessThan(7);
+        assertThat(sketch.estimate("hot", now + 10_000)).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자가 수만 명이어도 키당 평균은 고유 사용자 수 기준이다")
+    void slidingSketch_MeanPerKeyWithManyKeys() {
+        SlidingCountMinSketch sketch = new SlidingCountMinSketch(4, 4096, 4, 1000);
+        long now = 10_000;
+        assertThat(sketch.meanPerKey(now)).isZero();
+        // 사용자 40,000명이 두 조각에 걸쳐 2번씩
+        for (int i = 0; i < 40_000; i++) {
+            sketch.add("user-" + i, now);
+        }
+        for (int i = 0; i < 40_000; i++) {
+            sketch.add("user-" + i, now + 1000);
+        }
+
+        assertThat(sketch.meanPerKey(now + 1000)).isCloseTo(2.0, within(0.1));
+        // 첫 조각이 창에서 빠지면 남은 조각만 센다
+        assertThat(sketch.meanPerKey(now + 4000)).isCloseTo(1.0, within(0.05));
+        assertThat(sketch.meanPerKey(now + 10_000)).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
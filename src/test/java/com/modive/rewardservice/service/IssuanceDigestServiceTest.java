@@ -0,0 +1,145 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.repository.IssuanceDigestJdbcRepository;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository.LedgerRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * IssuanceDigestService 테스트 (H2)
+ * 지난달 날짜로 적립 내역을 쓰고, 시계를 그 달 말로 고정한다.
+ */
+@H2ServiceTest
+class IssuanceDigestServiceTest {
+
+    private static final YearMonth MONTH = YearMonth.now().minusMonths(1);
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardLedgerJdbcRepository ledgerJdbcRepository;
+
+    @SpyBean
+    private IssuanceDigestJdbcRepository digestRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("사용자별 월 합계의 분위수를 답하고, 적립이 커밋된 달만 다시 만들어 저장한다")
+    void getPerUserQuantiles_RebuildsDirtyMonth() {
+        // 사용자 i는 그 달에 i씨앗 (두 번 나눠 적립), 1~100
+        for (int i = 1; i <= 100; i++) {
+            givenEarned("digest-" + i, MONTH.atDay(3).atTime(10, 0), i / 2);
+            givenEarned("digest-" + i, MONTH.atDay(20).atTime(10, 0), i - i / 2);
+        }
+        givenEarned("digest-1", MONTH.plusMonths(1).atDay(1).atTime(0, 0), 1000);
+        IssuanceDigestService service = service();
+
+        AdminRewardDto.IssuanceQuantilesResponse response = service.getPerUserQuantiles(MONTH, List.of(0.5, 0.9));
+        assertThat(response.getMonth()).isEqualTo(MONTH.toString());
+        assertThat(response.getUsers()).isEqualTo(100);
+        assertThat(response.getMin()).isEqualTo(1.0);
+        assertThat(response.getMax()).isEqualTo(100.0);
+        assertThat(response.getMean()).isEqualTo(50.5);
+        assertThat(response.getQuantiles().get(0).getValue()).isEqualTo(50.5);
+        assertThat(response.getQuantiles().get(1).getValue()).isEqualTo(90.5);
+        assertThat(digestRepository.findDigest(MONTH.toString())).isNotNull();
+
+        // 한 사용자가 크게 적립 → 커밋 이벤트 후 갱신하면 새 인스턴스에서도 보인다
+        LocalDateTime occurredAt = MONTH.atDay(25).atTime(9, 0);
+        givenEarned("digest-whale", occurredAt, 5000);
+        service.onBalanceChanged(new BalanceChangedEvent("digest-whale", RewardType.EARNED, 5000L, 5000L, occurredAt));
+        assertThat(service.getPerUserQuantiles(MONTH, List.of(0.5)).getUsers()).isEqualTo(100);
+        service.refresh();
+
+        AdminRewardDto.IssuanceQuantilesResponse refreshed = service().getPerUserQuantiles(MONTH, List.of(1.0));
+        assertThat(refreshed.getUsers()).isEqualTo(101);
+        assertThat(refreshed.getQuantiles().get(0).getValue()).isEqualTo(5000.0);
+    }
+
+    @Test
+    @DisplayName("적립이 없는 달은 사용자 0명, 값은 비어 있다")
+    void getPerUserQuantiles_EmptyMonth() {
+        AdminRewardDto.IssuanceQuantilesResponse response = service().getPerUserQuantiles(MONTH.minusMonths(1), List.of(0.5));
+
+        assertThat(response.getUsers()).isZero();
+        assertThat(response.getMin()).isNull();
+        assertThat(response.getQuantiles().get(0).getValue()).isNull();
+    }
+
+    @Test
+    @DisplayName("집계는 읽기 전용 트랜잭션에서 하고, 표시 뒤에 다른 인스턴스가 다시 만든 달은 건너뛴다")
+    void refresh_SkipsMonthRebuiltByAnotherInstance() {
+        List<Boolean> readOnlyOnAggregate = new ArrayList<>();
+        doAnswer(invocation -> {
+            readOnlyOnAggregate.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return invocation.callRealMethod();
+        }).when(digestRepository).forEachUserEarnedTotal(any(), any(), anyInt(), any());
+        for (int i = 1; i <= 10; i++) {
+            givenEarned("digest-" + i, MONTH.atDay(3).atTime(10, 0), i);
+        }
+        LocalDateTime markedAt = MONTH.atEndOfMonth().atTime(12, 0);
+        IssuanceDigestService service = service(markedAt);
+        service.onBalanceChanged(new BalanceChangedEvent("digest-10", RewardType.EARNED, 10L, 10L, markedAt));
+
+        // 다른 인스턴스가 표시 1분 뒤에 집계를 시작해 저장했다
+        service(markedAt.plusMinutes(1)).rebuild(MONTH);
+        // 그 뒤 커밋됐지만 이 인스턴스에는 표시되지 않은 적립 (다시 만들면 11명이 된다)
+        givenEarned("digest-late", MONTH.atDay(4).atTime(10, 0), 7);
+        service.refresh();
+
+        assertThat(service.getPerUserQuantiles(MONTH, List.of(0.5)).getUsers()).isEqualTo(10);
+        assertThat(readOnlyOnAggregate).containsExactly(true);
+
+        // 저장된 digest보다 뒤에 표시된 적립은 다시 만든다
+        IssuanceDigestService later = service(markedAt.plusMinutes(2));
+        later.onBalanceChanged(new BalanceChangedEvent("digest-late", RewardType.EARNED, 7L, 7L, markedAt));
+        later.refresh();
+
+        assertThat(later.getPerUserQuantiles(MONTH, List.of(0.5)).getUsers()).isEqualTo(11);
+        assertThat(readOnlyOnAggregate).containsExactly(true, true);
+    }
+
+    private IssuanceDigestService service() {
+        return service(MONTH.atEndOfMonth().atTime(12, 0));
+    }
+
+    private IssuanceDigestService service(LocalDateTime now) {
+        Clock clock = Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return new IssuanceDigestService(digestRepository, new TransactionTemplate(transactionManager), readOnly, clock,
+                100, 100, Duration.ofMinutes(1));
+    }
+
+    private void givenEarned(String userId, LocalDateTime createdAt, long amount) {
+        RewardLedgerJdbcRepository.BalanceRef existing = ledgerJdbcRepository.findBalances(List.of(userId)).get(userId);
+        long balanceId = existing != null ? existing.id()
+                : rewardBalanceRepository.save(RewardBalance.builder().userId(userId).balance(0L).build()).getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> ledgerJdbcRepository.insertLedger(
+                RewardType.EARNED, List.of(new LedgerRow(userId, null, amount, amount, balanceId)),
+                RewardReason.EVENT_NOT_OCCURRED.getLabel(), RewardReason.EVENT_NOT_OCCURRED.getCode(), createdAt));
+    }
+}
@@ -0,0 +1,130 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * IssuanceMonitor 테스트
+ * 시계를 직접 움직여 분 경계, 창 밖으로 밀려나는 분, 동시 기록 합계를 확인
+ */
+class IssuanceMonitorTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-06-01T10:00:30Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IssuanceMonitor monitor = new IssuanceMonitor(meterRegistry, clock, 3, 2, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("사유별 분 단위로 모이고, 게이지는 직전 1분 값, 창을 지난 분은 0")
+    void record_AggregatesPerMinute() {
+        monitor.record(RewardReason.TOTAL_SCORE, 10);
+        monitor.record(RewardReason.TOTAL_SCORE, 5);
+        monitor.record(RewardReason.MOBTI_IMPROVEMENT, 3);
+        clock.advance(Duration.ofMinutes(1));
+        monitor.record(RewardReason.TOTAL_SCORE, 1);
+
+        AdminRewardDto.IssuanceSeries totalScore = series(monitor.snapshot(), RewardReason.TOTAL_SCORE);
+        assertThat(totalScore.getCount()).isEqualTo(3);
+        assertThat(totalScore.getAmount()).isEqualTo(16);
+        assertThat(totalScore.getMinutes()).extracting(AdminRewardDto.IssuanceMinute::getAmount)
+                .containsExactly(0L, 15L, 1L);
+        assertThat(gauge("reward.issuance.count", RewardReason.TOTAL_SCORE)).isEqualTo(2.0);
+        assertThat(gauge("reward.issuance.amount", RewardReason.MOBTI_IMPROVEMENT)).isEqualTo(3.0);
+
+        clock.advance(Duration.ofMinutes(3));
+        assertThat(series(monitor.snapshot(), RewardReason.TOTAL_SCORE).getCount()).isZero();
+        // 같은 슬롯을 새 분이 다시 쓴다
+        monitor.record(RewardReason.TOTAL_SCORE, 7);
+        assertThat(series(monitor.snapshot(), RewardReason.TOTAL_SCORE).getAmount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 합계가 정확")
+    void record_Concurrent() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        monitor.record(RewardReason.EVENT_NOT_OCCURRED, 2);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        AdminRewardDto.IssuanceSeries series = series(monitor.snapshot(), RewardReason.EVENT_NOT_OCCURRED);
+        assertThat(series.getCount()).isEqualTo(80_000);
+        assertThat(series.getAmount()).isEqualTo(160_000);
+    }
+
+    @Test
+    @DisplayName("SSE 구독자는 max-subscribers까지만 받는다")
+    void subscribe_LimitsSubscribers() {
+        monitor.subscribe();
+        monitor.subscribe();
+        monitor.push();
+
+        assertThat(monitor.subscriberCount()).isEqualTo(2);
+        assertThatThrownBy(monitor::subscribe).isInstanceOf(ServiceOverloadedException.class);
+    }
+
+    private static AdminRewardDto.IssuanceSeries series(AdminRewardDto.IssuanceSnapshot snapshot, RewardReason reason) {
+        return snapshot.getReasons().stream()
+                .filter(series -> series.getReason() == reason)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private double gauge(String name, RewardReason reason) {
+        return meterRegistry.get(name).tag("reason", reason.name()).gauge().value();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
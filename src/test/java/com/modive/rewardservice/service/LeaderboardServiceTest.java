@@ -0,0 +1,146 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.LeaderboardPeriod;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.LeaderboardDto;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import com.modive.rewardservice.repository.UserBalanceRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LeaderboardService 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 12, 0);
+
+    @Mock
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Mock
+    private RewardRepository rewardRepository;
+
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        leaderboardService = new LeaderboardService(rewardBalanceRepository, rewardRepository,
+                TransactionOperations.withoutTransaction(), clock, 2);
+    }
+
+    @Test
+    @DisplayName("재구성: userId 키셋 청크로 전부 읽어 순위를 만든다")
+    void rebuild_LoadsAllChunks() {
+        when(rewardBalanceRepository.findBalancesAfter(eq(""), any(Pageable.class)))
+                .thenReturn(List.of(row("a", 10L), row("b", 50L)));
+        when(rewardBalanceRepository.findBalancesAfter(eq("b"), any(Pageable.class)))
+                .thenReturn(List.of(row("c", 30L)));
+        when(rewardRepository.sumEarnedByUserBetween(eq(NOW.withDayOfMonth(1).toLocalDate().atStartOfDay()), eq(NOW),
+                eq(""), any(Pageable.class)))
+                .thenReturn(List.of(row("a", 7L)));
+
+        leaderboardService.rebuild();
+
+        LeaderboardDto.TopResponse top = leaderboardService.getTop(LeaderboardPeriod.TOTAL, 10);
+        assertThat(top.getTotalUsers()).isEqualTo(3);
+        assertThat(top.getEntries()).extracting(LeaderboardDto.Entry::getUserId).containsExactly("b", "c", "a");
+        assertThat(leaderboardService.getRank(LeaderboardPeriod.MONTHLY, "a").getRank()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("적립 이벤트로 전체/월간 순위 즉시 갱신")
+    void onBalanceChanged_UpdatesBoards() {
+        leaderboardService.onBalanceChanged(earned("a", 5L, 5L, NOW));
+        leaderboardService.onBalanceChanged(earned("b", 3L, 100L, NOW));
+        leaderboardService.onBalanceChanged(earned("a", 4L, 9L, NOW));
+
+        assertThat(leaderboardService.getTop(LeaderboardPeriod.TOTAL, 10).getEntries())
+                .extracting(LeaderboardDto.Entry::getUserId).containsExactly("b", "a");
+        LeaderboardDto.RankResponse monthly = leaderboardService.getRank(LeaderboardPeriod.MONTHLY, "a");
+        assertThat(monthly.getRank()).isEqualTo(1L);
+        assertThat(monthly.getScore()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("지난달 적립은 이번 달 리더보드에 들어가지 않는다")
+    void onBalanceChanged_PreviousMonth_NotInMonthly() {
+        leaderboardService.onBalanceChanged(earned("a", 5L, 5L, NOW.minusMonths(1)));
+
+        assertThat(leaderboardService.getTop(LeaderboardPeriod.MONTHLY, 10).getEntries()).isEmpty();
+        assertThat(leaderboardService.getRank(LeaderboardPeriod.TOTAL, "a").getRank()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 도착한 이벤트는 새 인덱스에도 반영")
+    void rebuild_ReappliesEventsArrivingDuringRebuild() {
+        when(rewardBalanceRepository.findBalancesAfter(eq(""), any(Pageable.class))).thenAnswer(invocation -> {
+            // DB를 읽는 동안 다른 요청의 적립이 커밋됨
+            leaderboardService.onBalanceChanged(earned("a", 20L, 30L, NOW.plusSeconds(1)));
+            return List.of(row("a", 10L));
+        });
+        when(rewardRepository.sumEarnedByUserBetween(any(), any(), eq(""), any(Pageable.class)))
+                .thenReturn(List.of(row("a", 10L)));
+
+        leaderboardService.rebuild();
+
+        assertThat(leaderboardService.getRank(LeaderboardPeriod.TOTAL, "a").getScore()).isEqualTo(30L);
+        assertThat(leaderboardService.getRank(LeaderboardPeriod.MONTHLY, "a").getScore()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("주행 적립 취소는 월간 합계에서 빼고, 예약 취소는 월간 합계에 영향 없음")
+    void onBalanceChanged_DriveReversal_SubtractsFromMonthly() {
+        leaderboardService.onBalanceChanged(earned("a", 10L, 10L, NOW));
+        leaderboardService.onBalanceChanged(earned("b", 6L, 6L, NOW));
+
+        leaderboardService.onBalanceChanged(new BalanceChangedEvent("a", RewardType.CANCELED, 7L, 3L, NOW, true));
+        leaderboardService.onBalanceChanged(new BalanceChangedEvent("b", RewardType.CANCELED, 5L, 11L, NOW));
+
+        assertThat(leaderboardService.getTop(LeaderboardPeriod.MONTHLY, 10).getEntries())
+                .extracting(LeaderboardDto.Entry::getUserId, LeaderboardDto.Entry::getScore)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple("b", 6L),
+                        org.assertj.core.groups.Tuple.tuple("a", 3L));
+        assertThat(leaderboardService.getRank(LeaderboardPeriod.TOTAL, "a").getScore()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 순위 null, 점수 0 / 상위 N은 최대 100명")
+    void getRank_UnknownUser() {
+        LeaderboardDto.RankResponse rank = leaderboardService.getRank(LeaderboardPeriod.TOTAL, "nobody");
+        assertThat(rank.getRank()).isNull();
+        assertThat(rank.getScore()).isZero();
+
+        for (int i = 0; i < 150; i++) {
+            leaderboardService.onBalanceChanged(earned("user" + i, 1L, i, NOW));
+        }
+        assertThat(leaderboardService.getTop(LeaderboardPeriod.TOTAL, 1000).getEntries()).hasSize(100);
+    }
+
+    private static UserBalanceRow row(String userId, Long score) {
+        return new UserBalanceRow(userId, score);
+    }
+
+    private static BalanceChangedEvent earned(String userId, long amount, long balance, LocalDateTime at) {
+        return new BalanceChangedEvent(userId, RewardType.EARNED, amount, balance, at);
+    }
+}
@@ -0,0 +1,148 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.Reward;
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * LedgerRecoveryService 테스트 (H2)
+ * 세그먼트 크기 2로 여러 번 나눠 읽는다.
+ */
+@H2ServiceTest
+class LedgerRecoveryServiceTest {
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardLedgerJdbcRepository ledgerJdbcRepository;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("손상된 잔액을 내역/예약 기준으로 다시 쓰고, 잔액 행이 없는 사용자는 추가한다")
+    void recover_RebuildsBalancesFromLedger() {
+        // 적립 100 - 사용 30 - 소멸 10 = 60, 잔액 행은 999로 손상
+        RewardBalance corrupted = rewardBalanceRepository.save(
+                RewardBalance.builder().userId("recovery-a").balance(999L).build());
+        givenLedger("recovery-a", RewardType.EARNED, 100L, null, corrupted);
+        givenLedger("recovery-a", RewardType.USED, 30L, null, corrupted);
+        givenLedger("recovery-a", RewardType.EXPIRED, 10L, null, corrupted);
+        // 적립 50, 주행 적립 취소 20, 예약 15(묶음, 사용 내역 1건) → 사용 가능 15, 묶음 15
+        RewardBalance reserved = rewardBalanceRepository.save(
+                RewardBalance.builder().userId("recovery-b").balance(50L).build());
+        givenLedger("recovery-b", RewardType.EARNED, 50L, "recovery-drive", reserved);
+        givenLedger("recovery-b", RewardType.CANCELED, 20L, "recovery-drive", reserved);
+        setBalance("recovery-b", 30L);
+        reservationService.reserve("recovery-b", "recovery-order", 15L, null);
+        setBalance("recovery-b", 0L);
+        // 잔액 행이 유실된 사용자
+        givenLedger("recovery-c", RewardType.EARNED, 7L, null, null);
+
+        LedgerRecoveryService.RecoveryReport report = recoveryService(
+                new TransactionTemplate(transactionManager), tempDir.resolve("recovery.ckpt")).recover();
+
+        assertThat(report.rows()).isEqualTo(7);
+        assertThat(report.inserted()).isEqualTo(1);
+        assertThat(report.resumedFromId()).isZero();
+        assertThat(balanceOf("recovery-a")).isEqualTo(60L);
+        assertThat(balanceOf("recovery-b")).isEqualTo(15L);
+        assertThat(heldOf("recovery-b")).isEqualTo(15L);
+        assertThat(balanceOf("recovery-c")).isEqualTo(7L);
+        assertThat(tempDir.resolve("recovery.ckpt")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("쓰기 중 실패하면 체크포인트가 남고, 다시 실행하면 마지막 세그먼트 다음부터 이어 읽는다")
+    void recover_ResumesFromCheckpoint() {
+        RewardBalance balance = rewardBalanceRepository.save(
+                RewardBalance.builder().userId("recovery-resume").balance(0L).build());
+        for (int i = 0; i < 5; i++) {
+            givenLedger("recovery-resume", RewardType.EARNED, 10L, null, balance);
+        }
+        Path checkpoint = tempDir.resolve("resume.ckpt");
+
+        TransactionOperations failing = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+                throw new IllegalStateException("write failed");
+            }
+        };
+        assertThatThrownBy(() -> recoveryService(failing, checkpoint).recover())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(Files.exists(checkpoint)).isTrue();
+        assertThat(balanceOf("recovery-resume")).isZero();
+
+        LedgerRecoveryService.RecoveryReport report = recoveryService(
+                new TransactionTemplate(transactionManager), checkpoint).recover();
+
+        assertThat(report.resumedFromId()).isEqualTo(4L);
+        assertThat(report.rows()).isEqualTo(1);
+        assertThat(balanceOf("recovery-resume")).isEqualTo(50L);
+        assertThat(Files.exists(checkpoint)).isFalse();
+    }
+
+    private LedgerRecoveryService recoveryService(TransactionOperations transaction, Path checkpoint) {
+        return new LedgerRecoveryService(ledgerJdbcRepository, transaction, Clock.systemDefaultZone(),
+                checkpoint, 2, 2, 3, 4);
+    }
+
+    private void givenLedger(String userId, RewardType type, long amount, String driveId, RewardBalance balance) {
+        rewardRepository.save(Reward.builder()
+                .userId(userId)
+                .amount(amount)
+                .type(type)
+                .description("이벤트미발생")
+                .balanceSnapshot(0L)
+                .rewardBalance(balance)
+                .driveId(driveId)
+                .build());
+    }
+
+    private void setBalance(String userId, long balance) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE reward_balance SET balance = ? WHERE user_id = ?", balance, userId));
+    }
+
+    private long balanceOf(String userId) {
+        return rewardBalanceRepository.findBalancesByUserIdIn(List.of(userId)).get(0).balance();
+    }
+
+    private long heldOf(String userId) {
+        return jdbcTemplate.queryForObject("SELECT held FROM reward_balance WHERE user_id = ?", Long.class, userId);
+    }
+}
@@ -0,0 +1,75 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.MobtiType;
+import com.modive.rewardservice.dto.request.ScoreInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MobtiEvaluator / MobtiType 단위 테스트
+ */
+class MobtiEvaluatorTest {
+
+    private static final String GOOD = "EDSF";
+    private static final String BAD = "HAIU";
+
+    @Test
+    @DisplayName("모든 타입 조합에서 자리별 판정과 결과가 동일")
+    void isImprovedFrom_MatchesPositionalRule() {
+        for (int last = 0; last < 16; last++) {
+            for (int current = 0; current < 16; current++) {
+                MobtiType lastType = MobtiEvaluator.evaluate(scoreOf(last));
+                MobtiType currentType = MobtiEvaluator.evaluate(scoreOf(current));
+
+                assertThat(currentType.isImprovedFrom(lastType))
+                        .as("%s → %s", lastType, currentType)
+                        .isEqualTo(improvedAtAnyPosition(lastType.getCode(), currentType.getCode()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("null 스코어와 null 필드 처리")
+    void evaluate_NullHandling() {
+        assertThat(MobtiEvaluator.evaluate(null)).isNull();
+        assertThat(MobtiType.of(0b1111).isImprovedFrom(null)).isFalse();
+
+        ScoreInfo scoreWithNulls = ScoreInfo.builder().carbon(null).safety(60).accident(null).focus(60).build();
+        assertThat(MobtiEvaluator.evaluate(scoreWithNulls).getCode()).isEqualTo("HDIF");
+    }
+
+    @Test
+    @DisplayName("51점 경계값")
+    void evaluate_Threshold() {
+        ScoreInfo boundary = ScoreInfo.builder().carbon(51).safety(50).accident(51).focus(50).build();
+        assertThat(MobtiEvaluator.evaluate(boundary).getMask()).isEqualTo(0b1010);
+    }
+
+    @Test
+    @DisplayName("동일 마스크는 캐시된 인스턴스 반환")
+    void of_ReturnsCachedInstance() {
+        assertThat(MobtiType.of(0b0110)).isSameAs(MobtiType.of(0b0110));
+        assertThat(MobtiType.of(0b1111).getCode()).isEqualTo(GOOD);
+        assertThat(MobtiType.of(0b0000).getCode()).isEqualTo(BAD);
+    }
+
+    private boolean improvedAtAnyPosition(String last, String current) {
+        for (int i = 0; i < 4; i++) {
+            if (last.charAt(i) == BAD.charAt(i) && current.charAt(i) == GOOD.charAt(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ScoreInfo scoreOf(int mask) {
+        return ScoreInfo.builder()
+                .carbon((mask & MobtiType.ECO) != 0 ? 60 : 40)
+                .safety((mask & MobtiType.DEFENSIVE) != 0 ? 60 : 40)
+                .accident((mask & MobtiType.SENSITIVE) != 0 ? 60 : 40)
+                .focus((mask & MobtiType.FOCUSED) != 0 ? 60 : 40)
+                .build();
+    }
+}
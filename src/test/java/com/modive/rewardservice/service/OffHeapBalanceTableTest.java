@@ -0,0 +1,92 @@
+package com.modive.rewardservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OffHeapBalanceTable 테스트
+ * 무작위 누적 후 HashMap 합계와 같은지, 체크포인트로 쓰고 읽어도 같은지 확인
+ */
+class OffHeapBalanceTableTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("슬롯/키 영역이 여러 번 늘어나도 사용자별 합계가 HashMap과 같다")
+    void add_GrowsAndMatchesReference() {
+        Random random = new Random(7);
+        OffHeapBalanceTable table = new OffHeapBalanceTable(0);
+        Map<String, Long> reference = new HashMap<>();
+
+        for (int i = 0; i < 200_000; i++) {
+            String userId = "user-" + random.nextInt(50_000) + (random.nextInt(10) == 0 ? "-사용자" : "");
+            long delta = random.nextInt(200) - 50;
+            table.add(userId, delta);
+            reference.merge(userId, delta, Long::sum);
+        }
+
+        assertThat(table.size()).isEqualTo(reference.size());
+        Map<String, Long> visited = new HashMap<>();
+        table.forEach(visited::put);
+        assertThat(visited).isEqualTo(reference);
+        assertThat(table.get("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("체크포인트로 쓰고 읽은 테이블에 이어서 누적할 수 있다")
+    void checkpoint_RoundTrip() throws Exception {
+        OffHeapBalanceTable table = new OffHeapBalanceTable(4);
+        for (int i = 0; i < 1_000; i++) {
+            table.add("user-" + (i % 300), i);
+        }
+        Path file = tempDir.resolve("table.ckpt");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            table.writeTo(channel);
+        }
+
+        OffHeapBalanceTable restored;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            restored = OffHeapBalanceTable.readFrom(channel);
+        }
+        restored.add("user-0", 1);
+        restored.add("new-user", 5);
+
+        assertThat(restored.size()).isEqualTo(301);
+        assertThat(restored.get("user-0")).isEqualTo(table.get("user-0") + 1);
+        assertThat(restored.get("user-299")).isEqualTo(table.get("user-299"));
+        assertThat(restored.get("new-user")).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("슬롯 버퍼가 2GB를 넘는 사용자 수는 만들기 전에 거부하고, 손상된 체크포인트 헤더도 거부한다")
+    void capacity_FailsFastBeyondBufferLimit() throws Exception {
+        assertThat(OffHeapBalanceTable.capacityFor(1_000_000)).isEqualTo(1 << 21);
+        assertThat(OffHeapBalanceTable.capacityFor(OffHeapBalanceTable.MAX_USERS))
+                .isEqualTo(OffHeapBalanceTable.MAX_CAPACITY);
+        assertThatThrownBy(() -> new OffHeapBalanceTable(OffHeapBalanceTable.MAX_USERS + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OffHeapBalanceTable(Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Path file = tempDir.resolve("corrupt.ckpt");
+        Files.write(file, ByteBuffer.allocate(12).putInt(1 << 28).putInt(1).putInt(0).array());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThatThrownBy(() -> OffHeapBalanceTable.readFrom(channel)).isInstanceOf(IOException.class);
+        }
+    }
+}
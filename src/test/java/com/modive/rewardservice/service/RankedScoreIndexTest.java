@@ -0,0 +1,64 @@
+package com.modive.rewardservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RankedScoreIndex 테스트
+ * 무작위 갱신 후 순위/상위 N이 전체 정렬 결과와 같은지 확인
+ */
+class RankedScoreIndexTest {
+
+    @Test
+    @DisplayName("점수 내림차순, 같은 점수는 userId 오름차순")
+    void top_OrdersByScoreThenUserId() {
+        RankedScoreIndex index = new RankedScoreIndex();
+        index.put("b", 10);
+        index.put("a", 10);
+        index.put("c", 30);
+        index.add("d", 5);
+        index.add("d", 15);
+
+        assertThat(index.top(10)).containsExactly(
+                new RankedScoreIndex.Ranked(1, "c", 30),
+                new RankedScoreIndex.Ranked(2, "d", 20),
+                new RankedScoreIndex.Ranked(3, "a", 10),
+                new RankedScoreIndex.Ranked(4, "b", 10));
+        assertThat(index.rank("b")).isEqualTo(4);
+        assertThat(index.rank("unknown")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("무작위 갱신 후 전체 정렬과 순위가 일치")
+    void randomUpdates_MatchSortedReference() {
+        Random random = new Random(42);
+        RankedScoreIndex index = new RankedScoreIndex();
+        Map<String, Long> reference = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            String userId = "user" + random.nextInt(2_000);
+            long score = random.nextInt(500);
+            if (random.nextBoolean()) {
+                index.put(userId, score);
+                reference.put(userId, score);
+            } else {
+                index.add(userId, score);
+                reference.merge(userId, score, Long::sum);
+            }
+        }
+
+        List<String> sorted = new ArrayList<>(reference.keySet());
+        sorted.sort(Comparator.<String>comparingLong(reference::get).reversed().thenComparing(Comparator.naturalOrder()));
+
+        assertThat(index.size()).isEqualTo(reference.size());
+        for (int rank = 0; rank < sorted.size(); rank++) {
+            assertThat(index.rank(sorted.get(rank))).isEqualTo(rank + 1);
+        }
+        assertThat(index.top(50)).extracting(RankedScoreIndex.Ranked::userId)
+                .containsExactlyElementsOf(sorted.subList(0, 50));
+    }
+}
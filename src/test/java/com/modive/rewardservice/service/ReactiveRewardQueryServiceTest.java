@@ -0,0 +1,100 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.RewardDto;
+import com.modive.rewardservice.repository.ReactiveRewardReadRepository;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveRewardQueryService 테스트 (R2DBC H2 인메모리 DB)
+ */
+class ReactiveRewardQueryServiceTest {
+
+    private DatabaseClient databaseClient;
+    private ReactiveRewardQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///reactive-read-" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1"));
+        execute("CREATE TABLE reward_balance (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id VARCHAR(255) UNIQUE, " +
+                "balance BIGINT, version BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        execute("CREATE TABLE reward (id BIGINT AUTO_INCREMENT PRIMARY KEY, user_id VARCHAR(255), drive_id VARCHAR(255), " +
+                "amount BIGINT, type VARCHAR(20), description VARCHAR(255), reason_code TINYINT, balance_snapshot BIGINT, " +
+                "version BIGINT, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        queryService = new ReactiveRewardQueryService(new ReactiveRewardReadRepository(databaseClient), 5);
+    }
+
+    @Test
+    @DisplayName("잔액 조회")
+    void getBalance() {
+        execute("INSERT INTO reward_balance (user_id, balance, version) VALUES ('user1', 120, 0)");
+
+        assertThat(queryService.getBalance("user1").block()).isEqualTo(120L);
+    }
+
+    @Test
+    @DisplayName("잔액 행이 없으면 0")
+    void getBalance_NoBalance_ReturnsZero() {
+        assertThat(queryService.getBalance("unknown").block()).isZero();
+    }
+
+    @Test
+    @DisplayName("내역을 최신순으로 페이지 조회")
+    void getRewardHistory_PagedNewestFirst() {
+        LocalDateTime base = LocalDateTime.of(2025, 6, 1, 9, 0);
+        for (int i = 0; i < 5; i++) {
+            insertReward("user1", "drive-" + i, 10L + i, base.plusHours(i));
+        }
+        insertReward("user2", "drive-x", 99L, base);
+
+        Page<RewardDto.Response> page = queryService.getRewardHistory("user1", PageRequest.of(1, 2)).block();
+
+        assertThat(page).isNotNull();
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(RewardDto.Response::getDriveId)
+                .containsExactly("drive-2", "drive-1");
+        RewardDto.Response first = page.getContent().get(0);
+        assertThat(first.getUserId()).isEqualTo("user1");
+        assertThat(first.getAmount()).isEqualTo(12L);
+        assertThat(first.getType()).isEqualTo(RewardType.EARNED);
+        assertThat(first.getCreatedAt()).isEqualTo(base.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("내역이 없으면 빈 페이지")
+    void getRewardHistory_Empty() {
+        Page<RewardDto.Response> page = queryService.getRewardHistory("user1", PageRequest.of(0, 20)).block();
+
+        assertThat(page).isNotNull();
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    private void insertReward(String userId, String driveId, long amount, LocalDateTime createdAt) {
+        databaseClient.sql("INSERT INTO reward (user_id, drive_id, amount, type, description, balance_snapshot, version, created_at) " +
+                        "VALUES (:userId, :driveId, :amount, 'EARNED', '안전운전', :amount, 0, :createdAt)")
+                .bind("userId", userId)
+                .bind("driveId", driveId)
+                .bind("amount", amount)
+                .bind("createdAt", createdAt)
+                .then()
+                .block();
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+}
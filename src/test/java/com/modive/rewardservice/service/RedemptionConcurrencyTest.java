@@ -0,0 +1,139 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.Reward;
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.exception.InsufficientBalanceException;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 씨앗 사용 동시성 부하 테스트 (H2)
+ * 한 사용자에게 동시에 1000건을 사용 요청해도 잔액보다 많이 차감되지 않는지 확인한다.
+ */
+@H2ServiceTest
+class RedemptionConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RedemptionConcurrencyTest.class);
+    private static final int REQUESTS = 1000;
+
+    @Autowired
+    private RedemptionService redemptionService;
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Test
+    @DisplayName("동시 1000건 사용 요청: 잔액 500이면 정확히 500건만 성공하고 잔액은 0")
+    void concurrentRedemptions_NeverOversell() throws Exception {
+        String userId = "hot-user";
+        rewardBalanceRepository.save(RewardBalance.builder().userId(userId).balance(500L).build());
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+        long[] latencies = runConcurrently(REQUESTS, i -> {
+            try {
+                redemptionService.redeem(userId, "order-" + i, 1L);
+                succeeded.incrementAndGet();
+            } catch (InsufficientBalanceException e) {
+                insufficient.incrementAndGet();
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+        });
+
+        assertThat(unexpected).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(500);
+        assertThat(insufficient.get()).isEqualTo(500);
+        assertThat(balanceOf(userId)).isZero();
+        assertThat(usedRows(userId)).hasSize(500)
+                .allSatisfy(reward -> assertThat(reward.getBalanceSnapshot()).isBetween(0L, 499L));
+
+        Arrays.sort(latencies);
+        long p50 = latencies[latencies.length / 2] / 1_000_000;
+        long p99 = latencies[latencies.length * 99 / 100] / 1_000_000;
+        long max = latencies[latencies.length - 1] / 1_000_000;
+        log.info("{} concurrent redemptions on one user: p50={}ms p99={}ms max={}ms", REQUESTS, p50, p99, max);
+        // 재시도 폭주 없이 행 잠금 순서대로 처리되므로 트랜잭션 타임아웃보다 충분히 짧아야 한다
+        assertThat(max).isLessThan(30_000);
+    }
+
+    @Test
+    @DisplayName("같은 주문 ID를 동시에 200번 보내도 한 번만 차감")
+    void concurrentDuplicateOrder_DebitsOnce() throws Exception {
+        String userId = "dup-user";
+        rewardBalanceRepository.save(RewardBalance.builder().userId(userId).balance(100L).build());
+
+        List<Throwable> unexpected = Collections.synchronizedList(new ArrayList<>());
+        Set<Long> rewardIds = ConcurrentHashMap.newKeySet();
+        runConcurrently(200, i -> {
+            try {
+                rewardIds.add(redemptionService.redeem(userId, "dup-order", 10L).getId());
+            } catch (Throwable e) {
+                unexpected.add(e);
+            }
+        });
+
+        assertThat(unexpected).isEmpty();
+        assertThat(rewardIds).hasSize(1);
+        assertThat(balanceOf(userId)).isEqualTo(90L);
+        assertThat(usedRows(userId)).hasSize(1);
+    }
+
+    private long balanceOf(String userId) {
+        return rewardBalanceRepository.findBalancesByUserIdIn(List.of(userId)).get(0).balance();
+    }
+
+    private List<Reward> usedRows(String userId) {
+        return rewardRepository.findAll().stream()
+                .filter(reward -> reward.getUserId().equals(userId) && reward.getType() == RewardType.USED)
+                .toList();
+    }
+
+    /**
+     * 모든 스레드가 준비된 뒤 한꺼번에 시작시키고 요청별 소요 시간(ns)을 돌려준다.
+     */
+    private static long[] runConcurrently(int count, java.util.function.IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        CountDownLatch ready = new CountDownLatch(count);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] latencies = new long[count];
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    long begin = System.nanoTime();
+                    task.accept(index);
+                    latencies[index] = System.nanoTime() - begin;
+                    return null;
+                }));
+            }
+            ready.await();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return latencies;
+    }
+}
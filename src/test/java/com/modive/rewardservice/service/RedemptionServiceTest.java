@@ -0,0 +1,128 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.Reward;
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.exception.InsufficientBalanceException;
+import com.modive.rewardservice.exception.OrderConflictException;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedemptionService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RedemptionServiceTest {
+
+    private static final String USER_ID = "user123";
+
+    @Mock
+    private RewardRepository rewardRepository;
+
+    @Mock
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RedemptionService redemptionService;
+
+    @BeforeEach
+    void setUp() {
+        redemptionService = new RedemptionService(rewardRepository, rewardBalanceRepository, eventPublisher,
+                TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    @DisplayName("조건부 차감 후 USED 내역 저장")
+    void redeem_DebitsAndWritesUsedRow() {
+        when(rewardRepository.findByOrderId("order-1")).thenReturn(Optional.empty());
+        when(rewardBalanceRepository.debit(eq(USER_ID), eq(30L), any())).thenReturn(1);
+        when(rewardBalanceRepository.findByUserId(USER_ID))
+                .thenReturn(Optional.of(RewardBalance.builder().userId(USER_ID).balance(70L).build()));
+        when(rewardRepository.save(any(Reward.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Reward reward = redemptionService.redeem(USER_ID, "order-1", 30L);
+
+        assertThat(reward.getType()).isEqualTo(RewardType.USED);
+        assertThat(reward.getAmount()).isEqualTo(30L);
+        assertThat(reward.getBalanceSnapshot()).isEqualTo(70L);
+        assertThat(reward.getOrderId()).isEqualTo("order-1");
+        ArgumentCaptor<BalanceChangedEvent> event = ArgumentCaptor.forClass(BalanceChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().type()).isEqualTo(RewardType.USED);
+        assertThat(event.getValue().balance()).isEqualTo(70L);
+    }
+
+    @Test
+    @DisplayName("잔액 부족이면 내역을 남기지 않고 예외")
+    void redeem_InsufficientBalance() {
+        when(rewardRepository.findByOrderId("order-1")).thenReturn(Optional.empty());
+        when(rewardBalanceRepository.debit(eq(USER_ID), eq(30L), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> redemptionService.redeem(USER_ID, "order-1", 30L))
+                .isInstanceOf(InsufficientBalanceException.class);
+        verify(rewardRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 주문은 다시 차감하지 않고 기존 내역 반환")
+    void redeem_SameOrder_ReturnsExisting() {
+        Reward existing = used(USER_ID, 30L);
+        when(rewardRepository.findByOrderId("order-1")).thenReturn(Optional.of(existing));
+
+        assertThat(redemptionService.redeem(USER_ID, "order-1", 30L)).isSameAs(existing);
+        verify(rewardBalanceRepository, never()).debit(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("같은 주문 ID에 다른 수량이면 409 예외")
+    void redeem_SameOrderDifferentAmount_Conflict() {
+        when(rewardRepository.findByOrderId("order-1")).thenReturn(Optional.of(used(USER_ID, 30L)));
+
+        assertThatThrownBy(() -> redemptionService.redeem(USER_ID, "order-1", 50L))
+                .isInstanceOf(OrderConflictException.class);
+    }
+
+    @Test
+    @DisplayName("동시 중복 주문으로 유니크 제약에 걸리면 먼저 커밋된 내역 반환")
+    void redeem_ConcurrentDuplicate_ReturnsWinner() {
+        Reward winner = used(USER_ID, 30L);
+        when(rewardRepository.findByOrderId("order-1")).thenReturn(Optional.empty(), Optional.of(winner));
+        when(rewardBalanceRepository.debit(eq(USER_ID), eq(30L), any())).thenReturn(1);
+        when(rewardBalanceRepository.findByUserId(USER_ID))
+                .thenReturn(Optional.of(RewardBalance.builder().userId(USER_ID).balance(70L).build()));
+        when(rewardRepository.save(any(Reward.class))).thenThrow(new DataIntegrityViolationException("order_id"));
+
+        assertThat(redemptionService.redeem(USER_ID, "order-1", 30L)).isSameAs(winner);
+    }
+
+    private static Reward used(String userId, long amount) {
+        return Reward.builder()
+                .userId(userId)
+                .amount(amount)
+                .type(RewardType.USED)
+                .description(RedemptionService.DESCRIPTION)
+                .balanceSnapshot(0L)
+                .orderId("order-1")
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.*;
+import com.modive.rewardservice.exception.InsufficientBalanceException;
+import com.modive.rewardservice.exception.ReservationStateException;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import com.modive.rewardservice.repository.RewardReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ReservationService 테스트 (H2)
+ * 예약/확정/취소/만료에 따라 사용 가능 잔액과 묶인 잔액, 내역이 맞게 바뀌는지 확인
+ */
+@H2ServiceTest
+class ReservationServiceTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardReservationRepository reservationRepository;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("예약하면 사용 가능 잔액이 묶음으로 옮겨지고 확정하면 묶음이 소진된다")
+    void reserveThenConfirm() {
+        String userId = givenBalance("reserve-confirm", 100L);
+
+        RewardReservation reserved = reservationService.reserve(userId, "rc-order", 30L, null);
+
+        assertThat(reserved.getStatus()).isEqualTo(ReservationStatus.HELD);
+        assertThat(balanceOf(userId)).containsExactly(70L, 30L);
+        assertThat(ledger(userId)).extracting(Reward::getType).containsExactly(RewardType.USED);
+
+        RewardReservation confirmed = reservationService.confirm(userId, "rc-order");
+
+        assertThat(confirmed.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(balanceOf(userId)).containsExactly(70L, 0L);
+        // 확정은 멱등, 확정 후 취소는 불가
+        assertThat(reservationService.confirm(userId, "rc-order").getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThatThrownBy(() -> reservationService.cancel(userId, "rc-order"))
+                .isInstanceOf(ReservationStateException.class);
+    }
+
+    @Test
+    @DisplayName("취소하면 씨앗이 돌아오고 CANCELED 내역이 남는다")
+    void reserveThenCancel() {
+        String userId = givenBalance("reserve-cancel", 100L);
+        reservationService.reserve(userId, "cancel-order", 40L, Duration.ofMinutes(1));
+
+        RewardReservation canceled = reservationService.cancel(userId, "cancel-order");
+
+        assertThat(canceled.getStatus()).isEqualTo(ReservationStatus.CANCELED);
+        assertThat(balanceOf(userId)).containsExactly(100L, 0L);
+        assertThat(ledger(userId)).extracting(Reward::getType, Reward::getBalanceSnapshot)
+                .containsExactly(org.assertj.core.groups.Tuple.tuple(RewardType.USED, 60L),
+                        org.assertj.core.groups.Tuple.tuple(RewardType.CANCELED, 100L));
+        assertThatThrownBy(() -> reservationService.confirm(userId, "cancel-order"))
+                .isInstanceOf(ReservationStateException.class);
+    }
+
+    @Test
+    @DisplayName("잔액보다 많이 예약할 수 없다")
+    void reserve_Insufficient() {
+        String userId = givenBalance("reserve-poor", 10L);
+
+        assertThatThrownBy(() -> reservationService.reserve(userId, "poor-order", 11L, null))
+                .isInstanceOf(InsufficientBalanceException.class);
+        assertThat(balanceOf(userId)).containsExactly(10L, 0L);
+    }
+
+    @Test
+    @DisplayName("만료된 예약만 반환한다")
+    void expireDue_ReleasesOnlyExpired() {
+        String userId = givenBalance("reserve-expire", 100L);
+        reservationService.reserve(userId, "live-order", 10L, Duration.ofMinutes(30));
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            rewardBalanceRepository.hold(userId, 20L, past);
+            reservationRepository.save(RewardReservation.builder()
+                    .orderId("expired-order").userId(userId).amount(20L).expiresAt(past).build());
+        });
+
+        int expired = reservationService.expireDue();
+
+        assertThat(expired).isEqualTo(1);
+        assertThat(reservationRepository.findByOrderId("expired-order").orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(reservationRepository.findByOrderId("live-order").orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.HELD);
+        assertThat(balanceOf(userId)).containsExactly(90L, 10L);
+    }
+
+    @Test
+    @DisplayName("확정과 취소가 동시에 들어와도 한쪽만 반영된다")
+    void concurrentConfirmAndCancel_OneWins() throws Exception {
+        String userId = givenBalance("reserve-race", 100L);
+        reservationService.reserve(userId, "race-order", 50L, null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Future<?> confirm = executor.submit(() -> {
+                start.await();
+                return reservationService.confirm(userId, "race-order");
+            });
+            Future<?> cancel = executor.submit(() -> {
+                start.await();
+                return reservationService.cancel(userId, "race-order");
+            });
+            start.countDown();
+            awaitQuietly(confirm);
+            awaitQuietly(cancel);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ReservationStatus status = reservationRepository.findByOrderId("race-order").orElseThrow().getStatus();
+        if (status == ReservationStatus.CONFIRMED) {
+            assertThat(balanceOf(userId)).containsExactly(50L, 0L);
+        } else {
+            assertThat(status).isEqualTo(ReservationStatus.CANCELED);
+            assertThat(balanceOf(userId)).containsExactly(100L, 0L);
+        }
+    }
+
+    private static void awaitQuietly(Future<?> future) throws InterruptedException, TimeoutException {
+        try {
+            future.get(1, TimeUnit.MINUTES);
+        } catch (ExecutionException e) {
+            assertThat(e.getCause()).isInstanceOf(ReservationStateException.class);
+        }
+    }
+
+    private String givenBalance(String userId, long balance) {
+        rewardBalanceRepository.save(RewardBalance.builder().userId(userId).balance(balance).build());
+        return userId;
+    }
+
+    // [사용 가능 잔액, 묶인 잔액]
+    private List<Long> balanceOf(String userId) {
+        RewardBalance balance = rewardBalanceRepository.findAll().stream()
+                .filter(row -> row.getUserId().equals(userId))
+                .findFirst()
+                .orElseThrow();
+        return List.of(balance.getBalance(), balance.getHeld());
+    }
+
+    private List<Reward> ledger(String userId) {
+        return rewardRepository.findAll().stream()
+                .filter(reward -> reward.getUserId().equals(userId))
+                .toList();
+    }
+}
@@ -0,0 +1,159 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.BatchJobStatus;
+import com.modive.rewardservice.domain.Reward;
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.dto.AdminRewardDto;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import com.modive.rewardservice.repository.UserBalanceRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RewardReversalService 테스트 (H2)
+ * 청크 크기 2로 실제 JDBC 배치 UPDATE/INSERT를 실행해 잔액과 CANCELED 내역을 확인한다.
+ */
+@H2ServiceTest
+class RewardReversalServiceTest {
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardLedgerJdbcRepository ledgerJdbcRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RewardReversalService reversalService;
+
+    @BeforeEach
+    void setUp() {
+        reversalService = new RewardReversalService(rewardRepository, ledgerJdbcRepository, eventPublisher,
+                new TransactionTemplate(transactionManager), Executors.newSingleThreadExecutor(),
+                Clock.systemDefaultZone(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reversalService.shutdown();
+    }
+
+    @Test
+    @DisplayName("주행별 적립을 사용자당 한 번에 차감하고 주행마다 CANCELED 내역을 남긴다")
+    void reverse_DebitsPerUserAndWritesLedger() throws Exception {
+        givenEarned("rev-a", 100L, "rev-d1", 10L, "rev-d2", 5L, "rev-d3", 3L);
+        givenEarned("rev-b", 20L, "rev-d4", 7L);
+
+        AdminRewardDto.ReversalJobResponse job = awaitJob(
+                reversalService.start(List.of("rev-d1", "rev-d2", "rev-d3", "rev-d4", "rev-d1", "rev-unknown")));
+
+        assertThat(job.getStatus()).isEqualTo(BatchJobStatus.COMPLETED);
+        assertThat(job.getTotalDrives()).isEqualTo(5);
+        assertThat(job.getProcessedDrives()).isEqualTo(5);
+        assertThat(job.getReversedRewards()).isEqualTo(4);
+        assertThat(job.getReversedAmount()).isEqualTo(25);
+        assertThat(balanceOf("rev-a")).isEqualTo(82L);
+        assertThat(balanceOf("rev-b")).isEqualTo(13L);
+        // 청크 경계(d1,d2 | d3,d4)마다 차감 후 잔액이 순서대로 남는다
+        assertThat(canceledRows("rev-a")).extracting(Reward::getDriveId, Reward::getAmount, Reward::getBalanceSnapshot)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple("rev-d1", 10L, 90L),
+                        org.assertj.core.groups.Tuple.tuple("rev-d2", 5L, 85L),
+                        org.assertj.core.groups.Tuple.tuple("rev-d3", 3L, 82L));
+        assertThat(canceledRows("rev-b")).extracting(Reward::getDescription)
+                .containsExactly(RewardReversalService.DESCRIPTION);
+    }
+
+    @Test
+    @DisplayName("이미 취소한 주행은 다시 차감하지 않고, 이미 사용한 씨앗은 음수 잔액으로 남는다")
+    void reverse_IsIdempotentAndMayGoNegative() throws Exception {
+        givenEarned("rev-c", 2L, "rev-d5", 5L);
+
+        awaitJob(reversalService.start(List.of("rev-d5")));
+        AdminRewardDto.ReversalJobResponse again = awaitJob(reversalService.start(List.of("rev-d5")));
+
+        assertThat(again.getStatus()).isEqualTo(BatchJobStatus.COMPLETED);
+        assertThat(again.getReversedRewards()).isZero();
+        assertThat(balanceOf("rev-c")).isEqualTo(-3L);
+        assertThat(canceledRows("rev-c")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("리더보드 월간 합계 쿼리는 주행 적립 취소분을 뺀 순 적립액")
+    void reverse_NetsMonthlyEarnedSum() throws Exception {
+        givenEarned("rev-e", 12L, "rev-d6", 8L, "rev-d7", 4L);
+
+        awaitJob(reversalService.start(List.of("rev-d6")));
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(rewardRepository.sumEarnedByUserBetween(now.minusHours(1), now.plusHours(1), "",
+                PageRequest.of(0, 1000)))
+                .containsExactly(new UserBalanceRow("rev-e", 4L));
+    }
+
+    private AdminRewardDto.ReversalJobResponse awaitJob(AdminRewardDto.ReversalJobResponse started) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            AdminRewardDto.ReversalJobResponse job = reversalService.getJob(started.getJobId());
+            if (job.getStatus() == BatchJobStatus.COMPLETED || job.getStatus() == BatchJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Reversal job did not finish");
+    }
+
+    /**
+     * 적립 후 잔액이 balance가 되도록 (주행 ID, 적립액) 쌍을 적립 내역으로 저장
+     */
+    private void givenEarned(String userId, long balance, Object... driveAmounts) {
+        RewardBalance rewardBalance = rewardBalanceRepository.save(
+                RewardBalance.builder().userId(userId).balance(balance).build());
+        for (int i = 0; i < driveAmounts.length; i += 2) {
+            rewardRepository.save(Reward.builder()
+                    .userId(userId)
+                    .amount((Long) driveAmounts[i + 1])
+                    .type(RewardType.EARNED)
+                    .description("이벤트미발생")
+                    .balanceSnapshot(balance)
+                    .rewardBalance(rewardBalance)
+                    .driveId((String) driveAmounts[i])
+                    .build());
+        }
+    }
+
+    private long balanceOf(String userId) {
+        return rewardBalanceRepository.findBalancesByUserIdIn(List.of(userId)).get(0).balance();
+    }
+
+    private List<Reward> canceledRows(String userId) {
+        return rewardRepository.findAll().stream()
+                .filter(reward -> reward.getUserId().equals(userId) && reward.getType() == RewardType.CANCELED)
+                .sorted(Comparator.comparing(Reward::getId))
+                .toList();
+    }
+}
@@ -1,19 +1,24 @@
 package com.modive.rewardservice.service;
 
+import com.modive.rewardservice.domain.DriveRecord;
 import com.modive.rewardservice.domain.Reward;
 import com.modive.rewardservice.domain.RewardBalance;
 import com.modive.rewardservice.domain.RewardType;
 import com.modive.rewardservice.dto.request.RewardEarnRequest;
 import com.modive.rewardservice.dto.request.ScoreInfo;
+import com.modive.rewardservice.repository.DriveRecordRepository;
 import com.modive.rewardservice.repository.RewardBalanceRepository;
 import com.modive.rewardservice.repository.RewardRepository;
+import com.modive.rewardservice.service.rule.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -41,6 +46,22 @@ class RewardServiceTest {
     @Mock
     private RewardBalanceRepository rewardBalanceRepository;
 
+    @Mock
+    private DriveRecordRepository driveRecordRepository;
+
+    @Spy
+    private RewardRuleEngine rewardRuleEngine = new RewardRuleEngine(new RewardRuleProperties(), List.of(
+            new DrivingTimeRule.Provider(), new ScoreTierRule.Provider(), new MobtiImprovementRule.Provider()));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IssuanceMonitor issuanceMonitor;
+
+    @Mock
+    private IssuanceAnomalyDetector issuanceAnomalyDetector;
+
     @InjectMocks
     private RewardService rewardService;
 
@@ -72,9 +93,15 @@ class RewardServiceTest {
         assertThat(savedReward.getAmount()).isEqualTo(1L);
         assertThat(savedReward.getDescription()).isEqualTo("이벤트미발생");
         assertThat(savedReward.getType()).isEqualTo(RewardType.EARNED);
+        assertThat(savedReward.getDriveId()).isEqualTo("drive123");
 
         verify(rewardBalanceRepository, times(1)).save(mockBalance);
         assertThat(mockBalance.getBalance()).isEqualTo(101L); // 100 + 1
+        ArgumentCaptor<BalanceChangedEvent> eventCaptor = ArgumentCaptor.forClass(BalanceChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().userId()).isEqualTo(TEST_USER_ID);
+        assertThat(eventCaptor.getValue().amount()).isEqualTo(1L);
+        assertThat(eventCaptor.getValue().balance()).isEqualTo(101L);
     }
 
     @Test
@@ -350,6 +377,32 @@ class RewardServiceTest {
         verify(rewardRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("주행 기록 저장 - MoBTI 타입을 4비트 마스크로 기록")
+    void calculateAndEarn_SavesDriveRecordWithMobtiMask() {
+        // Given
+        RewardEarnRequest request = createBaseRequest()
+                .lastScore(createBadScore()) // HAIU
+                .currentScore(ScoreInfo.builder().carbon(60).safety(40).accident(60).focus(40).build()) // EASU
+                .build();
+
+        setupMbtiMocks();
+
+        // When
+        rewardService.calculateAndEarn(request);
+
+        // Then
+        ArgumentCaptor<DriveRecord> recordCaptor = ArgumentCaptor.forClass(DriveRecord.class);
+        verify(driveRecordRepository).save(recordCaptor.capture());
+
+        DriveRecord savedRecord = recordCaptor.getValue();
+        assertThat(savedRecord.getDriveId()).isEqualTo("drive123");
+        assertThat(savedRecord.getLastMobti().getMask()).isEqualTo(0b0000);
+        assertThat(savedRecord.getCurrentMobti().getMask()).isEqualTo(0b1010);
+        assertThat(savedRecord.getCurrentMobti().getCode()).isEqualTo("EASU");
+        assertThat(savedRecord.isMobtiImproved()).isTrue();
+    }
+
     // ===== 🎯 NEW: 복합 시나리오 테스트 =====
 
     @Test
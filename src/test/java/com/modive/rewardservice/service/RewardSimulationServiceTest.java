@@ -0,0 +1,139 @@
+package com.modive.rewardservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.modive.rewardservice.domain.MobtiType;
+import com.modive.rewardservice.domain.RewardReason;
+import com.modive.rewardservice.repository.DriveRecordRepository;
+import com.modive.rewardservice.repository.DriveReplayRow;
+import com.modive.rewardservice.service.rule.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * RewardSimulationService 단위 테스트
+ * 과거 주행 기록 재생 결과와 일일 지급 제한, 쓰기 없음 여부를 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class RewardSimulationServiceTest {
+
+    @Mock
+    private DriveRecordRepository driveRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RewardSimulationService simulationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final LocalDate day = LocalDate.of(2025, 6, 1);
+
+    @BeforeEach
+    void setUp() {
+        RewardRuleEngine engine = new RewardRuleEngine(new RewardRuleProperties(), List.of(
+                new DrivingTimeRule.Provider(), new ScoreTierRule.Provider(), new MobtiImprovementRule.Provider()));
+        simulationService = new RewardSimulationService(
+                driveRecordRepository, engine, transactionManager, objectMapper, 2, 31);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("현재 규칙으로 재생 - 사유별 예상 발급량")
+    void simulate_CurrentRules_ProjectsIssuanceByReason() throws Exception {
+        // Given
+        when(driveRecordRepository.findReplayRowsBetween(eq(day.atStartOfDay()), any())).thenReturn(List.of(
+                row("userA", 15, 95, 0b0000, 0b1000),  // 주행 1 + 점수 5 + MoBTI 5
+                row("userA", 15, 55, 0b1000, 0b1000),  // 주행 1 + 점수 1
+                row("userB", null, 40, null, null)     // 없음
+        ));
+
+        // When
+        List<JsonNode> lines = run(day, day, simulationService.compilePlan(null));
+
+        // Then
+        assertThat(lines).hasSize(2);
+        JsonNode dayLine = lines.get(0);
+        assertThat(dayLine.get("date").asText()).isEqualTo("2025-06-01");
+        assertThat(dayLine.get("drives").asLong()).isEqualTo(3);
+        assertThat(dayLine.get("total").asLong()).isEqualTo(13);
+        assertThat(dayLine.get("issuedByReason").get("이벤트미발생").asLong()).isEqualTo(2);
+        assertThat(dayLine.get("issuedByReason").get("종합점수").asLong()).isEqualTo(6);
+        assertThat(dayLine.get("issuedByReason").get("MoBTI향상").asLong()).isEqualTo(5);
+
+        JsonNode summary = lines.get(1);
+        assertThat(summary.get("total").asLong()).isEqualTo(13);
+
+        verify(driveRecordRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("대체 규칙 - 구간 변경과 일일 지급 제한 적용")
+    void simulate_AlternativeRules_AppliesDailyLimitPerUser() throws Exception {
+        // Given - 80점 이상 10씨앗, 하루 1회
+        RewardRuleProperties.RuleDefinition score = new RewardRuleProperties.RuleDefinition();
+        score.setType(ScoreTierRule.TYPE);
+        score.setReason(RewardReason.TOTAL_SCORE);
+        score.setDailyLimit(1);
+        score.setTiers(List.of(new RewardRuleProperties.ScoreTier(80, 10L)));
+
+        List<DriveReplayRow> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(row("userA", null, 90, null, null));
+            rows.add(row("userB", null, 85, null, null));
+        }
+        rows.sort((a, b) -> a.userId().compareTo(b.userId()));
+        when(driveRecordRepository.findReplayRowsBetween(any(), any())).thenReturn(rows);
+
+        // When
+        List<JsonNode> lines = run(day, day.plusDays(1), simulationService.compilePlan(List.of(score)));
+
+        // Then - 사용자당 하루 1회 × 2명 × 2일
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).get("total").asLong()).isEqualTo(20);
+        assertThat(lines.get(1).get("total").asLong()).isEqualTo(20);
+        assertThat(lines.get(2).get("drives").asLong()).isEqualTo(12);
+        assertThat(lines.get(2).get("issuedByReason").get("종합점수").asLong()).isEqualTo(40);
+    }
+
+    private List<JsonNode> run(LocalDate start, LocalDate end, RewardRulePlan plan) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        simulationService.simulate(start, end, plan, out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private DriveReplayRow row(String userId, Integer drivingTime, Integer score, Integer lastMask, Integer currentMask) {
+        return new DriveReplayRow(userId, drivingTime, score,
+                lastMask != null ? MobtiType.of(lastMask) : null,
+                currentMask != null ? MobtiType.of(currentMask) : null);
+    }
+}
@@ -0,0 +1,185 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.domain.ExpirationCheckpoint;
+import com.modive.rewardservice.domain.Reward;
+import com.modive.rewardservice.domain.RewardBalance;
+import com.modive.rewardservice.domain.RewardType;
+import com.modive.rewardservice.repository.ExpirationCheckpointRepository;
+import com.modive.rewardservice.repository.RewardBalanceRepository;
+import com.modive.rewardservice.repository.RewardLedgerJdbcRepository;
+import com.modive.rewardservice.repository.RewardRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SeedExpirationService 테스트 (H2)
+ * 청크 크기 1, 작업자 2로 실제 키셋 잠금/배치 쓰기/체크포인트를 실행한다.
+ */
+@H2ServiceTest
+class SeedExpirationServiceTest {
+
+    private static final LocalDateTime OLD = LocalDateTime.now().minusYears(2);
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private RewardBalanceRepository rewardBalanceRepository;
+
+    @Autowired
+    private RewardLedgerJdbcRepository ledgerJdbcRepository;
+
+    @Autowired
+    private ExpirationCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SeedExpirationService expirationService;
+
+    @BeforeEach
+    void setUp() {
+        expirationService = new SeedExpirationService(rewardRepository, ledgerJdbcRepository, checkpointRepository,
+                eventPublisher, new TransactionTemplate(transactionManager), Clock.systemDefaultZone(), 12, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        expirationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("유효기간이 지난 적립 중 사용하고 남은 만큼만 소멸하고, 다시 돌려도 두 번 소멸하지 않는다")
+    void run_ExpiresRemainingOldSeedsFifo() {
+        // 오래된 적립 10 중 4 사용 -> 6 소멸, 최근 적립 5는 유지
+        RewardBalance fifo = givenBalance("exp-fifo", 11L);
+        givenLedger(fifo, RewardType.EARNED, 10L, OLD);
+        givenLedger(fifo, RewardType.USED, 4L, LocalDateTime.now());
+        givenLedger(fifo, RewardType.EARNED, 5L, LocalDateTime.now());
+        // 오래된 적립 3보다 많이 사용 -> 소멸 없음
+        RewardBalance spent = givenBalance("exp-spent", 8L);
+        givenLedger(spent, RewardType.EARNED, 3L, OLD);
+        givenLedger(spent, RewardType.EARNED, 10L, LocalDateTime.now());
+        givenLedger(spent, RewardType.USED, 5L, LocalDateTime.now());
+
+        LocalDate today = LocalDate.now();
+        SeedExpirationService.ExpirationResult result = expirationService.run(today);
+
+        assertThat(result).isEqualTo(new SeedExpirationService.ExpirationResult(1, 6));
+        assertThat(balanceOf("exp-fifo")).isEqualTo(5L);
+        assertThat(balanceOf("exp-spent")).isEqualTo(8L);
+        assertThat(expiredRows("exp-fifo")).singleElement()
+                .satisfies(reward -> {
+                    assertThat(reward.getAmount()).isEqualTo(6L);
+                    assertThat(reward.getBalanceSnapshot()).isEqualTo(5L);
+                    assertThat(reward.getDescription()).isEqualTo(SeedExpirationService.DESCRIPTION);
+                });
+        assertThat(checkpointRepository.findByRunDateOrderByRangeIndex(today))
+                .hasSize(2)
+                .allSatisfy(checkpoint -> assertThat(checkpoint.getCompleted()).isTrue());
+
+        // 다른 날 다시 실행해도 이미 소멸한 분은 빠져나간 씨앗으로 계산된다
+        expirationService.run(today.plusDays(1));
+
+        assertThat(balanceOf("exp-fifo")).isEqualTo(5L);
+        assertThat(expiredRows("exp-fifo")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("주행 적립 취소는 소진이 아니라 그 주행의 적립만 없앤다")
+    void run_DriveReversalCancelsOwnEarning() {
+        // 오래된 적립 100 + 최근 적립 50(부정 주행 취소) -> 오래된 100 모두 소멸
+        RewardBalance recent = givenBalance("exp-rev-new", 100L);
+        givenLedger(recent, RewardType.EARNED, 100L, OLD, "exp-d-old");
+        givenLedger(recent, RewardType.EARNED, 50L, LocalDateTime.now(), "exp-d-new");
+        givenLedger(recent, RewardType.CANCELED, 50L, LocalDateTime.now(), "exp-d-new");
+        // 오래된 적립 30(취소) + 20 -> 20만 소멸
+        RewardBalance old = givenBalance("exp-rev-old", 20L);
+        givenLedger(old, RewardType.EARNED, 30L, OLD, "exp-d-o1");
+        givenLedger(old, RewardType.EARNED, 20L, OLD, "exp-d-o2");
+        givenLedger(old, RewardType.CANCELED, 30L, LocalDateTime.now(), "exp-d-o1");
+
+        SeedExpirationService.ExpirationResult result = expirationService.run(LocalDate.now());
+
+        assertThat(result).isEqualTo(new SeedExpirationService.ExpirationResult(2, 120));
+
+        assertThat(balanceOf("exp-rev-new")).isZero();
+        assertThat(expiredRows("exp-rev-new")).extracting(Reward::getAmount).containsExactly(100L);
+        assertThat(balanceOf("exp-rev-old")).isZero();
+        assertThat(expiredRows("exp-rev-old")).extracting(Reward::getAmount).containsExactly(20L);
+    }
+
+    @Test
+    @DisplayName("중단된 실행은 체크포인트 다음 행부터 이어서 처리한다")
+    void run_ResumesFromCheckpoint() {
+        RewardBalance done = givenBalance("exp-done", 4L);
+        givenLedger(done, RewardType.EARNED, 4L, OLD);
+        RewardBalance rest = givenBalance("exp-rest", 7L);
+        givenLedger(rest, RewardType.EARNED, 7L, OLD);
+
+        // exp-done까지 처리하고 멈춘 실행
+        LocalDate runDate = LocalDate.now().minusDays(10);
+        checkpointRepository.save(ExpirationCheckpoint.builder()
+                .runDate(runDate).rangeIndex(0).rangeStart(done.getId() + 1).rangeEnd(rest.getId()).build());
+
+        expirationService.run(runDate);
+
+        assertThat(balanceOf("exp-done")).isEqualTo(4L);
+        assertThat(balanceOf("exp-rest")).isZero();
+        assertThat(checkpointRepository.findIncompleteRunDates()).doesNotContain(runDate);
+    }
+
+    private RewardBalance givenBalance(String userId, long balance) {
+        return rewardBalanceRepository.save(RewardBalance.builder().userId(userId).balance(balance).build());
+    }
+
+    private void givenLedger(RewardBalance balance, RewardType type, long amount, LocalDateTime createdAt) {
+        givenLedger(balance, type, amount, createdAt, null);
+    }
+
+    private void givenLedger(RewardBalance balance, RewardType type, long amount, LocalDateTime createdAt,
+                             String driveId) {
+        Reward reward = rewardRepository.save(Reward.builder()
+                .userId(balance.getUserId())
+                .amount(amount)
+                .type(type)
+                .description(type == RewardType.EARNED ? "이벤트미발생" : RedemptionService.DESCRIPTION)
+                .balanceSnapshot(balance.getBalance())
+                .rewardBalance(balance)
+                .driveId(driveId)
+                .build());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE reward SET created_at = ? WHERE id = ?", Timestamp.valueOf(createdAt), reward.getId()));
+    }
+
+    private long balanceOf(String userId) {
+        return rewardBalanceRepository.findBalancesByUserIdIn(List.of(userId)).get(0).balance();
+    }
+
+    private List<Reward> expiredRows(String userId) {
+        return rewardRepository.findAll().stream()
+                .filter(reward -> reward.getUserId().equals(userId) && reward.getType() == RewardType.EXPIRED)
+                .toList();
+    }
+}
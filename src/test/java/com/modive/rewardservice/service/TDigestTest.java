@@ -0,0 +1,87 @@
+package com.modive.rewardservice.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * TDigest 테스트
+ * 치우친 분포(대부분 적고 일부가 많이 받는 적립 합계)에서 정렬한 실제 분위수와 비교
+ */
+class TDigestTest {
+
+    private static double[] skewed(int n, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = Math.floor(Math.exp(random.nextGaussian() + 3));
+        }
+        return values;
+    }
+
+    private static double exact(double[] sorted, double q) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.floor(q * sorted.length))];
+    }
+
+    @Test
+    @DisplayName("중앙값/p90/p99가 실제 분위수와 가깝고 양 끝은 정확")
+    void quantile_MatchesSortedValues() {
+        double[] values = skewed(100_000, 7);
+        TDigest digest = new TDigest();
+        for (double value : values) {
+            digest.add(value);
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        assertThat(digest.count()).isEqualTo(100_000);
+        assertThat(digest.quantile(0)).isEqualTo(sorted[0]);
+        assertThat(digest.quantile(1)).isEqualTo(sorted[sorted.length - 1]);
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            double expected = exact(sorted, q);
+            assertThat(digest.quantile(q)).as("q=%s", q).isCloseTo(expected, within(expected * 0.03 + 1));
+        }
+        assertThat(digest.mean()).isCloseTo(Arrays.stream(values).average().orElseThrow(), within(0.01));
+    }
+
+    @Test
+    @DisplayName("나눠 만든 digest를 합쳐도, 직렬화 후 읽어도 같은 분위수")
+    void merge_AndBytes_RoundTrip() {
+        double[] values = skewed(50_000, 11);
+        TDigest whole = new TDigest();
+        TDigest left = new TDigest();
+        TDigest right = new TDigest();
+        for (int i = 0; i < values.length; i++) {
+            whole.add(values[i]);
+            (i % 2 == 0 ? left : right).add(values[i]);
+        }
+
+        TDigest merged = TDigest.fromBytes(left.toBytes()).merge(TDigest.fromBytes(right.toBytes()));
+        assertThat(merged.count()).isEqualTo(whole.count());
+        assertThat(merged.min()).isEqualTo(whole.min());
+        assertThat(merged.max()).isEqualTo(whole.max());
+        for (double q : new double[]{0.5, 0.9, 0.99}) {
+            assertThat(merged.quantile(q)).as("q=%s", q).isCloseTo(whole.quantile(q), within(whole.quantile(q) * 0.03 + 1));
+        }
+        TDigest restored = TDigest.fromBytes(whole.toBytes());
+        assertThat(restored.quantile(0.9)).isEqualTo(whole.quantile(0.9));
+        // 중심점 수는 값 개수와 상관없이 작다
+        assertThat(whole.toBytes().length).isLessThan(4096);
+    }
+
+    @Test
+    @DisplayName("값이 없으면 NaN, 하나면 그 값")
+    void quantile_EmptyAndSingle() {
+        TDigest digest = new TDigest();
+        assertThat(digest.quantile(0.5)).isNaN();
+
+        digest.add(42);
+        assertThat(digest.quantile(0.5)).isEqualTo(42);
+        assertThat(digest.quantile(0.99)).isEqualTo(42);
+    }
+}
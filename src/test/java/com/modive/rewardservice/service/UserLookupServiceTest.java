@@ -0,0 +1,234 @@
+package com.modive.rewardservice.service;
+
+import com.modive.rewardservice.client.StubUserClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UserLookupService 단위 테스트
+ * user-service 스텁으로 캐시 적중과 일괄 조회 횟수, stale-while-revalidate 동작을 검증
+ * (시간은 가짜 ticker로 진행하고 백그라운드 갱신은 호출 스레드에서 바로 실행)
+ */
+class UserLookupServiceTest {
+
+    private static final Duration REFRESH_AFTER = Duration.ofMinutes(1);
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private StubUserClient userClient;
+    private UserLookupService userLookupService;
+    private MeterRegistry meterRegistry;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        userClient = new StubUserClient()
+                .withUser("user1", "user1@example.com")
+                .withUser("user2", "user2@example.com");
+        meterRegistry = new SimpleMeterRegistry();
+        userLookupService = new UserLookupService(userClient, meterRegistry,
+                REFRESH_AFTER, TTL, 1000, 2, true, nanos::get, Runnable::run);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private double cacheRequests(String cache, String result) {
+        return meterRegistry.get("reward.user.cache.requests")
+                .tag("cache", cache)
+                .tag("result", result)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("이메일 → userId 조회는 캐시되어 원격 호출 1회")
+    void findUserIdByEmail_CachesResult() {
+        assertThat(userLookupService.findUserIdByEmail("user1@example.com")).contains("user1");
+        assertThat(userLookupService.findUserIdByEmail("user1@example.com")).contains("user1");
+
+        assertThat(userClient.userIdByEmailCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 이메일도 캐시되어 반복 호출하지 않음")
+    void findUserIdByEmail_UnknownEmail_CachesMiss() {
+        assertThat(userLookupService.findUserIdByEmail("nobody@example.com")).isEmpty();
+        assertThat(userLookupService.findUserIdByEmail("nobody@example.com")).isEmpty();
+
+        assertThat(userClient.userIdByEmailCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지 이메일 매핑 - 중복 제거 후 batch-size 단위로 일괄 조회")
+    void findEmailsByUserIds_BatchesMisses() {
+        // user1 5행 + 미등록 사용자 5명 + user2
+        List<String> userIds = Stream.concat(
+                IntStream.range(0, 10).mapToObj(i -> i % 2 == 0 ? "user1" : "user" + (i + 10)),
+                Stream.of("user2")).toList();
+
+        Map<String, String> emails = userLookupService.findEmailsByUserIds(userIds);
+
+        assertThat(emails).containsEntry("user1", "user1@example.com")
+                .containsEntry("user2", "user2@example.com")
+                .hasSize(2);
+        // 고유 사용자 7명 → 2명씩 4회, 행마다 단건 호출 없음
+        assertThat(userClient.batchCalls.get()).isEqualTo(4);
+        assertThat(userClient.emailByUserIdCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 조회한 사용자는 원격 호출 없이 캐시에서 반환")
+    void findEmailsByUserIds_UsesCache() {
+        userLookupService.findUserIdByEmail("user1@example.com");
+
+        Map<String, String> emails = userLookupService.findEmailsByUserIds(List.of("user1", "user1"));
+
+        assertThat(emails).containsEntry("user1", "user1@example.com");
+        assertThat(userClient.batchCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("user-service 장애 시 캐시에 있는 이메일만 반환하고 실패를 집계, 복구 후 다시 조회")
+    void findEmailsByUserIds_RemoteFailure_ReturnsPartial() {
+        userLookupService.findUserIdByEmail("user1@example.com");
+        userClient.setFailing(true);
+
+        Map<String, String> emails = userLookupService.findEmailsByUserIds(List.of("user1", "user2"));
+
+        assertThat(emails).containsOnlyKeys("user1");
+        assertThat(meterRegistry.get("reward.user.cache.load.failures")
+                .tag("cache", "emailByUserId").counter().count()).isEqualTo(1);
+
+        userClient.setFailing(false);
+        assertThat(userLookupService.findEmailsByUserIds(List.of("user1", "user2")))
+                .containsEntry("user2", "user2@example.com");
+    }
+
+    @Test
+    @DisplayName("이메일 일괄 갱신 실패는 refresh 실패로 집계하고 이전 값으로 응답")
+    void findEmailsByUserIds_RefreshFailure_CountsAndKeepsStaleValue() {
+        userLookupService.findEmailsByUserIds(List.of("user1", "user2"));
+        userClient.setFailing(true);
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        assertThat(userLookupService.findEmailsByUserIds(List.of("user1", "user2")))
+                .containsEntry("user1", "user1@example.com")
+                .containsEntry("user2", "user2@example.com");
+        assertThat(meterRegistry.get("reward.user.cache.refresh.failures")
+                .tag("cache", "emailByUserId").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("refresh-after가 지나면 이전 값을 먼저 반환하고 백그라운드에서 갱신")
+    void findUserIdByEmail_Stale_ServesStaleThenRefreshes() {
+        userLookupService.findUserIdByEmail("user1@example.com");
+        userClient.withUser("user1", "other@example.com").withUser("user9", "user1@example.com");
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        assertThat(userLookupService.findUserIdByEmail("user1@example.com")).contains("user1");
+        assertThat(userLookupService.findUserIdByEmail("user1@example.com")).contains("user9");
+
+        assertThat(userClient.userIdByEmailCalls.get()).isEqualTo(2);
+        assertThat(cacheRequests("userIdByEmail", "stale")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신 실패 시 ttl 동안 이전 값으로 응답")
+    void findUserIdByEmail_RefreshFailure_KeepsStaleValue() {
+        userLookupService.findUserIdByEmail("user1@example.com");
+        userClient.setFailing(true);
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        assertThat(userLookupService.findUserIdByEmail("user1@example.com")).contains("user1");
+        advance(Duration.ofMinutes(5));
+        assertThat(userLookupService.findUserIdByEmail("user1@example.com")).contains("user1");
+
+        assertThat(meterRegistry.get("reward.user.cache.refresh.failures")
+                .tag("cache", "userIdByEmail").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 다시 동기 조회")
+    void findUserIdByEmail_Expired_LoadsAgain() {
+        userLookupService.findUserIdByEmail("user1@example.com");
+        advance(TTL.plusSeconds(1));
+
+        assertThat(userLookupService.findUserIdByEmail("user1@example.com")).contains("user1");
+        assertThat(cacheRequests("userIdByEmail", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오래된 이메일은 한 번의 일괄 조회로 갱신")
+    void findEmailsByUserIds_Stale_RefreshesInBatch() {
+        userLookupService.findEmailsByUserIds(List.of("user1", "user2"));
+        userClient.withUser("user1", "new1@example.com");
+        advance(REFRESH_AFTER.plusSeconds(1));
+
+        assertThat(userLookupService.findEmailsByUserIds(List.of("user1", "user2")))
+                .containsEntry("user1", "user1@example.com");
+        assertThat(userLookupService.findEmailsByUserIds(List.of("user1", "user2")))
+                .containsEntry("user1", "new1@example.com");
+
+        // 최초 조회 1회 + 갱신 1회 (batch-size 2)
+        assertThat(userClient.batchCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 조회를 끄면 캐시 미스마다 단건 조회")
+    void findEmailsByUserIds_BulkDisabled_FetchesEachUser() {
+        userLookupService = new UserLookupService(userClient, meterRegistry,
+                REFRESH_AFTER, TTL, 1000, 2, false, nanos::get, Runnable::run);
+
+        Map<String, String> emails = userLookupService.findEmailsByUserIds(List.of("user1", "user2", "nobody", "user1"));
+
+        assertThat(emails).containsEntry("user1", "user1@example.com")
+                .containsEntry("user2", "user2@example.com")
+                .hasSize(2);
+        assertThat(userClient.emailByUserIdCalls.get()).isEqualTo(3);
+        assertThat(userClient.batchCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("단건 조회 도중 실패하면 멈추고, 그 전에 읽은 이메일은 반환/캐시하고 실패를 집계")
+    void findEmailsByUserIds_BulkDisabled_PartialFailure_CachesFetched() {
+        userClient.withFailingUser("broken");
+        userLookupService = new UserLookupService(userClient, meterRegistry,
+                REFRESH_AFTER, TTL, 1000, 2, false, nanos::get, Runnable::run);
+
+        assertThat(userLookupService.findEmailsByUserIds(List.of("user1", "broken", "user2")))
+                .containsOnlyKeys("user1");
+        assertThat(userLookupService.findEmailsByUserIds(List.of("user1", "broken", "user2")))
+                .containsOnlyKeys("user1");
+
+        // 1회차: user1, broken / 2회차: broken만 (user1은 캐시)
+        assertThat(userClient.emailByUserIdCalls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("reward.user.cache.load.failures")
+                .tag("cache", "emailByUserId").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 청크가 실패하면 앞 청크 결과는 반환/캐시하고 다음 조회는 남은 사용자만 요청")
+    void findEmailsByUserIds_PartialChunkFailure_CachesEarlierChunks() {
+        userClient.withFailingUser("broken");
+
+        assertThat(userLookupService.findEmailsByUserIds(List.of("user1", "user3", "broken", "user2")))
+                .containsOnlyKeys("user1");
+        userLookupService.findEmailsByUserIds(List.of("user1", "user3", "broken", "user2"));
+
+        assertThat(userClient.batchSizes).containsExactly(2, 2, 2);
+        assertThat(meterRegistry.get("reward.user.cache.load.failures")
+                .tag("cache", "emailByUserId").counter().count()).isEqualTo(2);
+    }
+}
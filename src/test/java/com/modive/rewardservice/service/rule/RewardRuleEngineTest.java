@@ -0,0 +1,91 @@
+package com.modive.rewardservice.service.rule;
+
+import com.modive.rewardservice.domain.MobtiType;
+import com.modive.rewardservice.domain.RewardReason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RewardRuleEngine 단위 테스트
+ * 기본 규칙이 기존 정책과 동일한지, 설정 변경이 재컴파일로 반영되는지 검증
+ */
+class RewardRuleEngineTest {
+
+    private final RewardRuleProperties properties = new RewardRuleProperties();
+    private final RewardRuleEngine engine = new RewardRuleEngine(properties, List.of(
+            new DrivingTimeRule.Provider(), new ScoreTierRule.Provider(), new MobtiImprovementRule.Provider()));
+
+    @Test
+    @DisplayName("기본 규칙 - 종합점수 구간별 씨앗")
+    void defaultPlan_ScoreTiers() {
+        assertThat(evaluate(null, 100, null, null)[1]).isEqualTo(5L);
+        assertThat(evaluate(null, 90, null, null)[1]).isEqualTo(5L);
+        assertThat(evaluate(null, 89, null, null)[1]).isEqualTo(4L);
+        assertThat(evaluate(null, 70, null, null)[1]).isEqualTo(3L);
+        assertThat(evaluate(null, 69, null, null)[1]).isEqualTo(2L);
+        assertThat(evaluate(null, 50, null, null)[1]).isEqualTo(1L);
+        assertThat(evaluate(null, 49, null, null)[1]).isZero();
+        assertThat(evaluate(null, 101, null, null)[1]).isZero();
+        assertThat(evaluate(null, null, null, null)[1]).isZero();
+    }
+
+    @Test
+    @DisplayName("기본 규칙 - 주행 리워드와 MoBTI 향상")
+    void defaultPlan_DrivingAndMobti() {
+        long[] amounts = evaluate(15, null, MobtiType.of(0b0111), MobtiType.of(0b1111));
+
+        assertThat(amounts).containsExactly(1L, 0L, 5L);
+        assertThat(engine.getPlan().getRule(0).getReason()).isEqualTo(RewardReason.EVENT_NOT_OCCURRED);
+        assertThat(engine.getPlan().getRule(1).getDailyLimit()).isEqualTo(200);
+        assertThat(engine.getPlan().getRule(2).getReason()).isEqualTo(RewardReason.MOBTI_IMPROVEMENT);
+    }
+
+    @Test
+    @DisplayName("MoBTI 역방향/이전 타입 없음 - 미지급")
+    void defaultPlan_MobtiNotImproved() {
+        assertThat(evaluate(null, null, MobtiType.of(0b1111), MobtiType.of(0b0000))[2]).isZero();
+        assertThat(evaluate(null, null, null, MobtiType.of(0b1111))[2]).isZero();
+    }
+
+    @Test
+    @DisplayName("설정 변경 후 reload - 새 계획으로 교체")
+    void reload_AppliesChangedRules() {
+        RewardRuleProperties.RuleDefinition score = new RewardRuleProperties.RuleDefinition();
+        score.setType(ScoreTierRule.TYPE);
+        score.setReason(RewardReason.TOTAL_SCORE);
+        score.setTiers(List.of(new RewardRuleProperties.ScoreTier(80, 10L)));
+        properties.setRules(new ArrayList<>(List.of(score)));
+
+        engine.reload();
+
+        assertThat(engine.getPlan().size()).isEqualTo(1);
+        assertThat(evaluate(null, 85, null, null)).containsExactly(10L);
+        assertThat(evaluate(null, 79, null, null)).containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정으로 reload - 기존 계획 유지")
+    void reload_InvalidRules_KeepsPreviousPlan() {
+        RewardRulePlan before = engine.getPlan();
+        RewardRuleProperties.RuleDefinition unknown = new RewardRuleProperties.RuleDefinition();
+        unknown.setType("unknown");
+        unknown.setReason(RewardReason.TOTAL_SCORE);
+        properties.setRules(new ArrayList<>(List.of(unknown)));
+
+        engine.reload();
+
+        assertThat(engine.getPlan()).isSameAs(before);
+        assertThatThrownBy(() -> engine.compile(properties.getRules()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long[] evaluate(Integer drivingTime, Integer score, MobtiType last, MobtiType current) {
+        return engine.getPlan().evaluate(RewardRuleContext.of(drivingTime, score, last, current));
+    }
+}